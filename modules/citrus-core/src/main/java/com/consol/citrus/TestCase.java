@@ -79,6 +79,9 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
     /** Time to wait for nested actions to finish */
     private long timeout = 10000L;
 
+    /** Shared scheduler checking nested actions completed state */
+    private static ScheduledExecutorService finishScheduler;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(TestCase.class);
 
@@ -242,6 +245,64 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
         }
     }
 
+    /**
+     * Waits for nested test actions to finish. Returns immediately when all actions are done. Otherwise waits for
+     * completion notification of forked actions. Completed state is also checked periodically on shared scheduler for
+     * actions that do not notify the test context.
+     * @param context
+     * @throws InterruptedException
+     * @throws ExecutionException
+     * @throws TimeoutException
+     */
+    private void waitForCompletion(TestContext context) throws InterruptedException, ExecutionException, TimeoutException {
+        if (isDone(context)) {
+            return;
+        }
+
+        CompletableFuture<Boolean> finished = new CompletableFuture<>();
+        Runnable completionCheck = () -> {
+            if (!finished.isDone()) {
+                if (isDone(context)) {
+                    finished.complete(true);
+                } else {
+                    log.debug("Wait for test actions to finish properly ...");
+                }
+            }
+        };
+
+        context.addCompletionListener(completionCheck);
+        ScheduledFuture<?> scheduledCheck = getFinishScheduler().scheduleWithFixedDelay(completionCheck,
+                Math.max(timeout / 10, 1L), Math.max(timeout / 10, 1L), TimeUnit.MILLISECONDS);
+        try {
+            // check again as actions may have completed before listener was added
+            completionCheck.run();
+            finished.get(timeout, TimeUnit.MILLISECONDS);
+        } finally {
+            scheduledCheck.cancel(false);
+            context.removeCompletionListener(completionCheck);
+        }
+    }
+
+    /**
+     * Gets the shared scheduler checking nested actions completed state. Scheduler is created on first usage.
+     * @return
+     */
+    private static ScheduledExecutorService getFinishScheduler() {
+        synchronized (TestCase.class) {
+            if (finishScheduler == null) {
+                ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                    Thread thread = new Thread(runnable, "citrus-test-finish");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                scheduler.setRemoveOnCancelPolicy(true);
+                finishScheduler = scheduler;
+            }
+
+            return finishScheduler;
+        }
+    }
+
     /**
      * Method that will be executed in any case of test case result (success, error)
      * Usually used for clean up tasks.
@@ -251,17 +312,7 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
         if (CollectionUtils.isEmpty(context.getExceptions()) &&
                 Optional.ofNullable(testResult).map(TestResult::isSuccess).orElse(false)) {
             try {
-                CompletableFuture<Boolean> finished = new CompletableFuture<>();
-                Executors.newSingleThreadScheduledExecutor()
-                        .scheduleAtFixedRate(() -> {
-                            if (isDone(context)) {
-                                finished.complete(true);
-                            } else {
-                                log.debug("Wait for test actions to finish properly ...");
-                            }
-                        }, 100L, timeout / 10, TimeUnit.MILLISECONDS);
-
-                finished.get(timeout, TimeUnit.MILLISECONDS);
+                waitForCompletion(context);
             } catch (InterruptedException | ExecutionException | TimeoutException e) {
                 runtimeException = new CitrusRuntimeException("Failed to wait for nested test actions to finish properly", e);
             } finally {
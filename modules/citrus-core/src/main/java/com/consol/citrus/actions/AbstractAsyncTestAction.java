@@ -21,7 +21,6 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 import java.util.Optional;
 import java.util.concurrent.*;
@@ -39,13 +38,12 @@ public abstract class AbstractAsyncTestAction extends AbstractTestAction impleme
     private static Logger log = LoggerFactory.getLogger(AbstractAsyncTestAction.class);
 
     /** Future finished indicator */
-    private Future<?> finished;
+    private CompletableFuture<Void> finished;
 
     @Override
     public final void doExecute(TestContext context) {
         CompletableFuture<Void> result = new CompletableFuture<>();
-        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
-        finished = executor.submit(() -> {
+        context.getTaskExecutor().execute(() -> {
             try {
                 doExecuteAsync(context);
                 result.complete(null);
@@ -62,13 +60,15 @@ public abstract class AbstractAsyncTestAction extends AbstractTestAction impleme
             }
         });
 
-        result.whenComplete((nothing, throwable) -> {
+        finished = result.whenComplete((nothing, throwable) -> {
             if (throwable != null) {
                 onError(context, throwable);
             } else {
                 onSuccess(context);
             }
         });
+
+        finished.whenComplete((nothing, throwable) -> context.notifyCompletion());
     }
 
     @Override
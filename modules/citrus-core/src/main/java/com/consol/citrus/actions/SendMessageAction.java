@@ -29,7 +29,6 @@ import com.consol.citrus.variable.VariableExtractor;
 import com.consol.citrus.variable.dictionary.DataDictionary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.StringUtils;
 
 import java.util.*;
@@ -106,8 +105,7 @@ public class SendMessageAction extends AbstractTestAction implements Completable
         if (forkMode) {
             log.debug("Forking message sending action ...");
 
-            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
-            taskExecutor.execute(() -> {
+            context.getTaskExecutor().execute(() -> {
                 try {
                     messageEndpoint.createProducer().send(message, context);
                 } catch (Exception e) {
@@ -118,6 +116,7 @@ public class SendMessageAction extends AbstractTestAction implements Completable
                     }
                 } finally {
                     finished.complete(null);
+                    context.notifyCompletion();
                 }
             });
         } else {
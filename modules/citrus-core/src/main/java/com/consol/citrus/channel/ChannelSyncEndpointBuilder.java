@@ -106,6 +106,16 @@ public class ChannelSyncEndpointBuilder extends AbstractEndpointBuilder<ChannelS
         return this;
     }
 
+    /**
+     * Sets the maximum number of correlated objects kept in store.
+     * @param maxStoreSize
+     * @return
+     */
+    public ChannelSyncEndpointBuilder maxStoreSize(int maxStoreSize) {
+        endpoint.getEndpointConfiguration().setMaxStoreSize(maxStoreSize);
+        return this;
+    }
+
     /**
      * Sets the message correlator.
      * @param correlator
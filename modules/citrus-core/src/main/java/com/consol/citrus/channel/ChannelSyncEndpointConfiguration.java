@@ -19,6 +19,7 @@ package com.consol.citrus.channel;
 import com.consol.citrus.endpoint.PollableEndpointConfiguration;
 import com.consol.citrus.message.DefaultMessageCorrelator;
 import com.consol.citrus.message.MessageCorrelator;
+import com.consol.citrus.message.correlation.EvictingObjectStore;
 
 /**
  * @author Christoph Deppisch
@@ -32,6 +33,9 @@ public class ChannelSyncEndpointConfiguration extends ChannelEndpointConfigurati
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500;
 
+    /** Maximum number of correlated objects (e.g. reply messages) kept in store until consumed */
+    private int maxStoreSize = EvictingObjectStore.DEFAULT_MAX_SIZE;
+
     /**
      * Set the reply message correlator.
      * @param correlator the correlator to set
@@ -63,4 +67,20 @@ public class ChannelSyncEndpointConfiguration extends ChannelEndpointConfigurati
     public void setPollingInterval(long pollingInterval) {
         this.pollingInterval = pollingInterval;
     }
+
+    /**
+     * Gets the maxStoreSize.
+     * @return
+     */
+    public int getMaxStoreSize() {
+        return maxStoreSize;
+    }
+
+    /**
+     * Sets the maxStoreSize.
+     * @param maxStoreSize
+     */
+    public void setMaxStoreSize(int maxStoreSize) {
+        this.maxStoreSize = maxStoreSize;
+    }
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.channel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.messaging.Message;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Message selecting queue channel that does not poll for matching messages. Selective consumers register as waiting consumer
+ * and scan the pending messages once without holding the channel lock, so senders are not blocked by the scan. Each new message
+ * sent to the channel is matched against the waiting consumers in registration order and the first accepting consumer gets the
+ * message handed over and is signalled immediately. Messages arriving while a consumer is still scanning are remembered as
+ * candidates for that consumer and checked once the scan is finished.
+ *
+ * Selectors are evaluated only once per pending message and once per new arrival. Selectors that change their decision
+ * over time for the same message should use the polling {@link MessageSelectingQueueChannel} instead.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class SignallingMessageSelectingQueueChannel extends MessageSelectingQueueChannel {
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(SignallingMessageSelectingQueueChannel.class);
+
+    /** Blocking in memory message store */
+    private final BlockingQueue<Message<?>> queue;
+
+    /** Lock guarding waiting consumers */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Selective consumers currently waiting for a matching message */
+    private final List<SelectiveReceiver> receivers = new LinkedList<>();
+
+    /**
+     * Create a channel with the specified queue.
+     */
+    public SignallingMessageSelectingQueueChannel(BlockingQueue<Message<?>> queue) {
+        super(queue);
+        this.queue = queue;
+    }
+
+    /**
+     * Create a channel with the specified queue capacity.
+     */
+    public SignallingMessageSelectingQueueChannel(int capacity) {
+        this(new LinkedBlockingQueue<Message<?>>(capacity));
+    }
+
+    /**
+     * Default constructor.
+     */
+    public SignallingMessageSelectingQueueChannel() {
+        this(new LinkedBlockingQueue<Message<?>>());
+    }
+
+    @Override
+    protected boolean doSend(Message<?> message, long timeout) {
+        if (!super.doSend(message, timeout)) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            dispatch(message);
+        } finally {
+            lock.unlock();
+        }
+
+        return true;
+    }
+
+    /**
+     * Consume messages on the channel via message selector. Pending messages are scanned once outside of the channel lock,
+     * afterwards the caller waits until a matching message arrives or the timeout is exceeded.
+     *
+     * @param selector
+     * @param timeout
+     * @return
+     */
+    @Override
+    public Message<?> receive(MessageSelector selector, long timeout) {
+        if (timeout <= 0) {
+            return receive(selector);
+        }
+
+        SelectiveReceiver receiver = new SelectiveReceiver(selector, lock.newCondition());
+
+        lock.lock();
+        try {
+            receivers.add(receiver);
+        } finally {
+            lock.unlock();
+        }
+
+        Message<?> message;
+        try {
+            message = receive(selector);
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                receivers.remove(receiver);
+                redispatchCandidates(receiver);
+            } finally {
+                lock.unlock();
+            }
+
+            throw e;
+        }
+
+        lock.lock();
+        try {
+            receiver.scanning = false;
+
+            if (message == null) {
+                message = claimCandidate(receiver);
+            }
+
+            if (message != null) {
+                receivers.remove(receiver);
+                redispatchCandidates(receiver);
+                return message;
+            }
+
+            long nanosLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+            while (receiver.message == null && nanosLeft > 0) {
+                nanosLeft = receiver.arrival.awaitNanos(nanosLeft);
+            }
+        } catch (InterruptedException e) {
+            LOG.warn("Thread interrupted while waiting for message", e);
+            Thread.currentThread().interrupt();
+        } finally {
+            receivers.remove(receiver);
+            lock.unlock();
+        }
+
+        return receiver.message;
+    }
+
+    /**
+     * Matches new message against waiting consumers in registration order. Consumers that are still scanning pending messages
+     * only remember the message as candidate, the message stays in the queue. Must be called while holding the lock.
+     * @param message
+     * @return true if message was handed over or reserved as candidate
+     */
+    private boolean dispatch(Message<?> message) {
+        for (SelectiveReceiver receiver : receivers) {
+            if (receiver.message == null && receiver.selector.accept(message)) {
+                if (receiver.scanning) {
+                    receiver.candidates.add(message);
+                } else if (queue.remove(message)) {
+                    receiver.message = message;
+                    receiver.arrival.signal();
+                }
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Claims first candidate message that is still pending in the queue. Must be called while holding the lock.
+     * @param receiver
+     * @return
+     */
+    private Message<?> claimCandidate(SelectiveReceiver receiver) {
+        Message<?> candidate;
+        while ((candidate = receiver.candidates.poll()) != null) {
+            if (queue.remove(candidate)) {
+                return candidate;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Offers remaining candidates of a finished consumer to the other waiting consumers. Must be called while holding the lock.
+     * @param receiver
+     */
+    private void redispatchCandidates(SelectiveReceiver receiver) {
+        Message<?> candidate;
+        while ((candidate = receiver.candidates.poll()) != null) {
+            if (queue.contains(candidate)) {
+                dispatch(candidate);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of selective consumers currently waiting on this channel.
+     * @return
+     */
+    public int getWaitingReceiverCount() {
+        lock.lock();
+        try {
+            return receivers.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waiting selective consumer with its own wake up condition.
+     */
+    private static final class SelectiveReceiver {
+        private final MessageSelector selector;
+        private final Condition arrival;
+        private final Queue<Message<?>> candidates = new LinkedList<>();
+        private boolean scanning = true;
+        private Message<?> message;
+
+        SelectiveReceiver(MessageSelector selector, Condition arrival) {
+            this.selector = selector;
+            this.arrival = arrival;
+        }
+    }
+}
@@ -30,4 +30,10 @@ public interface TestLoader {
      * @return
      */
     TestCase load();
+
+    /**
+     * Releases resources held for the loaded test case. Called after test execution has finished.
+     */
+    default void release() {
+    }
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.xml.ResourceEntityResolver;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of parsed bean definitions for XML test case files. Parsing the test XML file is the expensive part of loading
+ * a XML test, so bean definitions are parsed once per set of context files. Each call to
+ * {@link #createApplicationContext(ApplicationContext, String...)} creates a fresh application context from the cached
+ * definitions so each test run gets its own test case instance. Callers must close the context when the test is finished.
+ *
+ * Cache holds a maximum number of entries and evicts the least recently used test definitions first.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class XmlTestDefinitionCache {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(XmlTestDefinitionCache.class);
+
+    /** Default maximum number of cached test definitions */
+    public static final int DEFAULT_CACHE_SIZE = 100;
+
+    /** Shared default cache instance */
+    private static XmlTestDefinitionCache defaultCache;
+
+    /** Parsed bean definitions by context file locations */
+    private final Map<String, DefaultListableBeanFactory> definitions;
+
+    /** Resource loader used to read context files */
+    private final ResourcePatternResolver resourceLoader = new PathMatchingResourcePatternResolver();
+
+    /** Cache statistics */
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Default constructor using default cache size.
+     */
+    public XmlTestDefinitionCache() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor using maximum number of cached test definitions.
+     * @param cacheSize
+     */
+    public XmlTestDefinitionCache(final int cacheSize) {
+        this.definitions = Collections.synchronizedMap(new LinkedHashMap<String, DefaultListableBeanFactory>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DefaultListableBeanFactory> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Gets the shared default cache instance.
+     * @return
+     */
+    public static synchronized XmlTestDefinitionCache getDefault() {
+        if (defaultCache == null) {
+            defaultCache = new XmlTestDefinitionCache();
+        }
+
+        return defaultCache;
+    }
+
+    /**
+     * Creates new application context with bean definitions of given context files. Context files are parsed on first usage only,
+     * subsequent calls reuse the cached bean definitions. Returned context is refreshed and has to be closed by the caller.
+     * @param parentContext
+     * @param configLocations
+     * @return
+     */
+    public ConfigurableApplicationContext createApplicationContext(ApplicationContext parentContext, String ... configLocations) {
+        DefaultListableBeanFactory beanDefinitions = getBeanDefinitions(parentContext, configLocations);
+
+        GenericApplicationContext ctx = new GenericApplicationContext(parentContext);
+        ctx.setDisplayName(getClass().getSimpleName() + " " + Arrays.toString(configLocations));
+
+        for (String beanName : beanDefinitions.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = beanDefinitions.getBeanDefinition(beanName);
+            if (beanDefinition instanceof AbstractBeanDefinition) {
+                beanDefinition = ((AbstractBeanDefinition) beanDefinition).cloneBeanDefinition();
+            }
+
+            ctx.registerBeanDefinition(beanName, beanDefinition);
+
+            for (String alias : beanDefinitions.getAliases(beanName)) {
+                ctx.registerAlias(beanName, alias);
+            }
+        }
+
+        if (beanDefinitions.containsBeanDefinition(AnnotationConfigUtils.AUTOWIRED_ANNOTATION_PROCESSOR_BEAN_NAME)) {
+            AnnotationConfigUtils.registerAnnotationConfigProcessors(ctx);
+        }
+
+        ctx.refresh();
+        return ctx;
+    }
+
+    /**
+     * Gets cached bean definitions for given context files. Parses context files when not cached yet. Active and default profiles
+     * of the parent context environment are part of the cache key as profile specific beans are resolved at parse time.
+     * @param parentContext
+     * @param configLocations
+     * @return
+     */
+    private DefaultListableBeanFactory getBeanDefinitions(ApplicationContext parentContext, String ... configLocations) {
+        String key = String.join(",", configLocations);
+        if (parentContext != null) {
+            Environment environment = parentContext.getEnvironment();
+            key += ";profiles=" + String.join(",", environment.getActiveProfiles()) +
+                    ";defaultProfiles=" + String.join(",", environment.getDefaultProfiles());
+        }
+
+        DefaultListableBeanFactory beanDefinitions = definitions.get(key);
+        if (beanDefinitions != null) {
+            hits.incrementAndGet();
+            return beanDefinitions;
+        }
+
+        misses.incrementAndGet();
+        beanDefinitions = new DefaultListableBeanFactory();
+
+        XmlBeanDefinitionReader reader = new XmlBeanDefinitionReader(beanDefinitions);
+        reader.setResourceLoader(resourceLoader);
+        reader.setEntityResolver(new ResourceEntityResolver(resourceLoader));
+        if (parentContext != null) {
+            reader.setEnvironment(parentContext.getEnvironment());
+        }
+
+        reader.loadBeanDefinitions(configLocations);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Caching test definitions for " + key);
+        }
+
+        definitions.put(key, beanDefinitions);
+        return beanDefinitions;
+    }
+
+    /**
+     * Removes all cached test definitions. Next test load parses context files again.
+     */
+    public void clear() {
+        definitions.clear();
+    }
+
+    /**
+     * Gets the number of cached test definitions.
+     * @return
+     */
+    public int getCachedTestCount() {
+        return definitions.size();
+    }
+
+    /**
+     * Gets the number of test loads served from cache.
+     * @return
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of test loads that had to parse context files.
+     * @return
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+}
@@ -20,7 +20,7 @@ import com.consol.citrus.TestCase;
 import com.consol.citrus.context.TestContextFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
-import org.springframework.context.support.ClassPathXmlApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.util.StringUtils;
 
 import java.io.File;
@@ -30,6 +30,9 @@ import java.io.File;
  * for test case and a parent application context. At runtime this class loads the Spring application context and gets
  * test case bean instance from context.
  *
+ * Parsed test definitions are cached in a {@link XmlTestDefinitionCache} so loading the same test multiple times does not
+ * parse the XML file again. The application context created for the test is closed on {@link #release()}.
+ *
  * @author Christoph Deppisch
  * @since 2.1
  */
@@ -41,6 +44,8 @@ public class XmlTestLoader implements TestLoader {
     private String packageName;
     private ApplicationContext parentContext;
     private String contextFile;
+    private XmlTestDefinitionCache testDefinitionCache = XmlTestDefinitionCache.getDefault();
+    private ConfigurableApplicationContext applicationContext;
 
     /**
      * Default constructor with context file and parent application context field.
@@ -59,13 +64,14 @@ public class XmlTestLoader implements TestLoader {
     @Override
     public TestCase load() {
         if (testCase == null) {
-            ApplicationContext ctx = loadApplicationContext();
+            applicationContext = loadApplicationContext();
 
             try {
-                testCase = ctx.getBean(testName, TestCase.class);
+                testCase = applicationContext.getBean(testName, TestCase.class);
                 testCase.setTestClass(testClass);
                 testCase.setPackageName(packageName);
             } catch (NoSuchBeanDefinitionException e) {
+                release();
                 throw parentContext.getBean(TestContextFactory.class).getObject()
                         .handleError(testName, packageName, "Could not find test with name '" + testName + "'", e);
             }
@@ -74,18 +80,26 @@ public class XmlTestLoader implements TestLoader {
         return testCase;
     }
 
+    @Override
+    public void release() {
+        if (applicationContext != null) {
+            applicationContext.close();
+            applicationContext = null;
+        }
+
+        testCase = null;
+    }
+
     /**
      * Create new Spring bean application context with test case XML file,
      * helper and parent context file.
      * @return
      */
-    private ApplicationContext loadApplicationContext() {
+    private ConfigurableApplicationContext loadApplicationContext() {
         try {
-            return new ClassPathXmlApplicationContext(
-                    new String[]{
-                            getContextFile(),
-                            "com/consol/citrus/spring/annotation-config-ctx.xml"},
-                    true, parentContext);
+            return testDefinitionCache.createApplicationContext(parentContext,
+                    getContextFile(),
+                    "com/consol/citrus/spring/annotation-config-ctx.xml");
         } catch (Exception e) {
             throw parentContext.getBean(TestContextFactory.class).getObject()
                     .handleError(testName, packageName, "Failed to load test case", e);
@@ -112,4 +126,20 @@ public class XmlTestLoader implements TestLoader {
     public void setContextFile(String contextFile) {
         this.contextFile = contextFile;
     }
+
+    /**
+     * Gets the test definition cache.
+     * @return
+     */
+    public XmlTestDefinitionCache getTestDefinitionCache() {
+        return testDefinitionCache;
+    }
+
+    /**
+     * Sets the test definition cache.
+     * @param testDefinitionCache
+     */
+    public void setTestDefinitionCache(XmlTestDefinitionCache testDefinitionCache) {
+        this.testDefinitionCache = testDefinitionCache;
+    }
 }
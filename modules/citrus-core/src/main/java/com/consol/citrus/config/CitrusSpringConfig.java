@@ -16,6 +16,7 @@
 
 package com.consol.citrus.config;
 
+import com.consol.citrus.context.CitrusTaskExecutor;
 import com.consol.citrus.context.ReferenceResolver;
 import com.consol.citrus.context.SpringBeanReferenceResolver;
 import com.consol.citrus.context.TestContextFactory;
@@ -45,6 +46,11 @@ public class CitrusSpringConfig {
         return new TestContextFactory();
     }
 
+    @Bean
+    public CitrusTaskExecutor citrusTaskExecutor() {
+        return new CitrusTaskExecutor();
+    }
+
     @Bean
     public EndpointFactory endpointFactory() {
         return new DefaultEndpointFactory();
@@ -71,6 +71,12 @@ public @interface ChannelSyncEndpointConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Maximum number of correlated objects kept in store.
+     * @return
+     */
+    int maxStoreSize() default 1000;
+
     /**
      * Message correlator.
      * @return
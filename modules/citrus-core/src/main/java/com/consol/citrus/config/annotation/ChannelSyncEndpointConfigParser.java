@@ -86,6 +86,7 @@ public class ChannelSyncEndpointConfigParser extends AbstractAnnotationConfigPar
         }
 
         builder.pollingInterval(annotation.pollingInterval());
+        builder.maxStoreSize(annotation.maxStoreSize());
 
         return builder.initialize().build();
     }
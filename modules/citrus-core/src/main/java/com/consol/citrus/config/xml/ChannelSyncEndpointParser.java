@@ -51,5 +51,8 @@ public class ChannelSyncEndpointParser extends AbstractChannelEndpointParser {
 
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration,
                 element.getAttribute("polling-interval"), "pollingInterval");
+
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration,
+                element.getAttribute("max-store-size"), "maxStoreSize");
     }
 }
@@ -23,6 +23,7 @@ import org.springframework.beans.factory.xml.ParserContext;
 import org.w3c.dom.Element;
 
 import com.consol.citrus.channel.MessageSelectingQueueChannel;
+import com.consol.citrus.channel.SignallingMessageSelectingQueueChannel;
 import com.consol.citrus.config.util.BeanDefinitionParserUtils;
 
 /**
@@ -37,7 +38,12 @@ public class MessageSelectingQueueChannelParser implements BeanDefinitionParser
      * @see org.springframework.beans.factory.xml.BeanDefinitionParser#parse(org.w3c.dom.Element, org.springframework.beans.factory.xml.ParserContext)
      */
     public BeanDefinition parse(Element element, ParserContext parserContext) {
-        BeanDefinitionBuilder builder = BeanDefinitionBuilder.rootBeanDefinition(MessageSelectingQueueChannel.class);
+        BeanDefinitionBuilder builder;
+        if (Boolean.valueOf(element.getAttribute("signalling"))) {
+            builder = BeanDefinitionBuilder.rootBeanDefinition(SignallingMessageSelectingQueueChannel.class);
+        } else {
+            builder = BeanDefinitionBuilder.rootBeanDefinition(MessageSelectingQueueChannel.class);
+        }
 
         BeanDefinitionParserUtils.setConstructorArgValue(builder, element.getAttribute("capacity"));
 
@@ -22,6 +22,7 @@ import org.springframework.beans.factory.xml.BeanDefinitionParser;
 import org.springframework.beans.factory.xml.ParserContext;
 import org.w3c.dom.Element;
 
+import com.consol.citrus.config.util.BeanDefinitionParserUtils;
 import com.consol.citrus.container.Parallel;
 
 /**
@@ -39,7 +40,11 @@ public class ParallelParser implements BeanDefinitionParser {
 
         DescriptionElementParser.doParse(element, builder);
         builder.addPropertyValue("name", element.getLocalName());
-        
+
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("max-concurrency"), "maxConcurrency");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("fail-fast"), "failFast");
+        BeanDefinitionParserUtils.setPropertyReference(builder, element.getAttribute("executor"), "executor");
+
         ActionContainerParser.doParse(element, parserContext, builder);
 
         return builder.getBeanDefinition();
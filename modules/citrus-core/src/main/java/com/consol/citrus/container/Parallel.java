@@ -17,6 +17,7 @@
 package com.consol.citrus.container;
 
 import com.consol.citrus.TestAction;
+import com.consol.citrus.context.CitrusTaskExecutor;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ParallelContainerException;
@@ -24,21 +25,33 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Test action will execute nested actions in parallel. Each action is executed in a
- * separate thread. Container joins all threads and waiting for them to end successfully.
+ * separate thread. Container waits for all actions to end successfully.
+ *
+ * Threads are taken from the test context task executor (by default the central elastic {@link CitrusTaskExecutor}) that
+ * reuses idle threads and starts a new thread whenever all threads are busy. Every nested action therefore starts right away,
+ * actions waiting on each other (e.g. receive and send) never get stuck behind each other. With the elastic executor the number
+ * of threads is only limited by the max concurrency setting of this container. When the executor has a maximum pool size, actions
+ * exceeding that size wait for a free thread, so actions waiting on each other must fit into the pool.
+ * Optionally the number of concurrently running actions is limited and sibling actions get cancelled
+ * as soon as one of the actions has failed.
  * 
  * @author Christoph Deppisch
  */
 public class Parallel extends AbstractActionContainer {
 
-    /** Store created threads in stack */
-    private Stack<Thread> threads = new Stack<Thread>();
+    /** Executor running nested actions, defaults to test context task executor */
+    private ExecutorService executor;
+
+    /** Maximum number of concurrently running actions, zero or less means unlimited */
+    private int maxConcurrency = 0;
+
+    /** Cancel sibling actions as soon as one action has failed */
+    private boolean failFast = false;
 
-    /** Collect exceptions in list */
-    private List<CitrusRuntimeException> exceptions = new ArrayList<CitrusRuntimeException>();
-    
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(Parallel.class);
 
@@ -51,27 +64,63 @@ public class Parallel extends AbstractActionContainer {
 
     @Override
     public void doExecute(TestContext context) {
+        final List<CitrusRuntimeException> exceptions = Collections.synchronizedList(new ArrayList<CitrusRuntimeException>());
+        final List<Future<Object>> futures = new ArrayList<>(actions.size());
+        final Semaphore permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+        final CompletionService<Object> completionService = new ExecutorCompletionService<>(Optional.<Executor>ofNullable(executor).orElse(context.getTaskExecutor()));
+
         for (final TestAction action : actions) {
-            Thread t = new Thread(new ActionRunner(action, context) {
+            if (failFast && !exceptions.isEmpty()) {
+                break;
+            }
+
+            if (permits != null) {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancel(futures);
+                    throw new CitrusRuntimeException("Interrupted while waiting for parallel action execution", e);
+                }
+            }
+
+            futures.add(completionService.submit(new ActionRunner(action, context) {
                 @Override
                 public void exceptionCallback(CitrusRuntimeException e) {
-                    if (exceptions.isEmpty()) {
-                        setActiveAction(action);
+                    synchronized (exceptions) {
+                        if (exceptions.isEmpty()) {
+                            setActiveAction(action);
+                        }
+
+                        exceptions.add(e);
                     }
-                    
-                    exceptions.add(e);
                 }
-            });
 
-            threads.push(t);
-            t.start();
+                @Override
+                public void run() {
+                    try {
+                        super.run();
+                    } finally {
+                        if (permits != null) {
+                            permits.release();
+                        }
+                    }
+                }
+            }, null));
         }
 
-        while (!threads.isEmpty()) {
+        for (int i = 0; i < futures.size(); i++) {
             try {
-                threads.pop().join();
+                completionService.take();
             } catch (InterruptedException e) {
-                log.error("Unable to join thread", e);
+                Thread.currentThread().interrupt();
+                cancel(futures);
+                throw new CitrusRuntimeException("Interrupted while waiting for parallel test action", e);
+            }
+
+            if (failFast && !exceptions.isEmpty()) {
+                cancel(futures);
+                break;
             }
         }
         
@@ -79,11 +128,69 @@ public class Parallel extends AbstractActionContainer {
             if (exceptions.size() == 1) {
                 throw exceptions.get(0);
             } else {
-                throw new ParallelContainerException(exceptions);
+                throw new ParallelContainerException(new ArrayList<>(exceptions));
             }
         }
     }
 
+    /**
+     * Cancels all given futures that are not completed yet.
+     * @param futures
+     */
+    private static void cancel(List<Future<Object>> futures) {
+        for (Future<Object> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Gets the executor.
+     * @return
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor.
+     * @param executor
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the maxConcurrency.
+     * @return
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Sets the maxConcurrency.
+     * @param maxConcurrency
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Gets the failFast.
+     * @return
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Sets the failFast.
+     * @param failFast
+     */
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
     /**
      * Runnable wrapper for executing an action in separate Thread.
      */
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Central task executor running asynchronous work of test actions such as parallel and async containers, forked timers and
+ * forked send operations. Executor either uses virtual threads when supported by the Java runtime or a thread pool.
+ *
+ * By default the thread pool is elastic. Many of these tasks block for a long time (e.g. timers, receive operations) and may wait
+ * for each other, so tasks are never queued behind each other. Idle pool threads are reused and a new thread is started when all
+ * pool threads are busy. Idle pool threads are released after keep alive time.
+ *
+ * Optionally a maximum pool size bounds the number of pool threads. Tasks submitted while all threads are busy wait in a queue
+ * until a thread is available. Tasks that block waiting on queued tasks never complete in this mode, so the maximum pool size
+ * must be higher than the number of tasks that depend on each other at the same time.
+ *
+ * Executor keeps track of active, queued and completed tasks and logs a warning when more tasks than the configured warn threshold
+ * are running at the same time.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class CitrusTaskExecutor implements AsyncTaskExecutor, DisposableBean {
+
+    /** Number of concurrently running tasks that is expected to be sufficient, more running tasks are reported with a warning */
+    public static final String WARN_THRESHOLD_PROPERTY = "citrus.task.executor.warn.threshold";
+    public static final String WARN_THRESHOLD_ENV = "CITRUS_TASK_EXECUTOR_WARN_THRESHOLD";
+    public static final int WARN_THRESHOLD = Integer.valueOf(System.getProperty(WARN_THRESHOLD_PROPERTY, System.getenv(WARN_THRESHOLD_ENV) != null ?
+            System.getenv(WARN_THRESHOLD_ENV) : "500"));
+
+    /** Maximum number of pool threads, zero or less means elastic pool without limit */
+    public static final String MAX_POOL_SIZE_PROPERTY = "citrus.task.executor.max.pool.size";
+    public static final String MAX_POOL_SIZE_ENV = "CITRUS_TASK_EXECUTOR_MAX_POOL_SIZE";
+    public static final int MAX_POOL_SIZE = Integer.valueOf(System.getProperty(MAX_POOL_SIZE_PROPERTY, System.getenv(MAX_POOL_SIZE_ENV) != null ?
+            System.getenv(MAX_POOL_SIZE_ENV) : "0"));
+
+    /** Use virtual threads when supported by the Java runtime */
+    public static final String VIRTUAL_THREADS_PROPERTY = "citrus.task.executor.virtual.threads";
+    public static final String VIRTUAL_THREADS_ENV = "CITRUS_TASK_EXECUTOR_VIRTUAL_THREADS";
+    public static final boolean VIRTUAL_THREADS = Boolean.valueOf(System.getProperty(VIRTUAL_THREADS_PROPERTY, System.getenv(VIRTUAL_THREADS_ENV) != null ?
+            System.getenv(VIRTUAL_THREADS_ENV) : "false"));
+
+    /** Shared default instance */
+    private static CitrusTaskExecutor defaultExecutor;
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(CitrusTaskExecutor.class);
+
+    /** Number of concurrently running tasks that is expected to be sufficient, more running tasks are reported with a warning */
+    private int warnThreshold = WARN_THRESHOLD;
+
+    /** Maximum number of pool threads, zero or less means elastic pool without limit */
+    private int maxPoolSize = MAX_POOL_SIZE;
+
+    /** Use virtual threads */
+    private boolean virtualThreads = VIRTUAL_THREADS;
+
+    /** Keep alive time of idle pool threads in seconds */
+    private long keepAliveSeconds = 60L;
+
+    /** Pool thread name prefix */
+    private String threadNamePrefix = "citrus-task-";
+
+    /** Lazily created executor service */
+    private ExecutorService executorService;
+
+    /** Task statistics */
+    private final AtomicLong submittedTasks = new AtomicLong();
+    private final AtomicLong completedTasks = new AtomicLong();
+    private final AtomicInteger activeTasks = new AtomicInteger();
+
+    /** Saturation warning has been logged since active tasks last exceeded warn threshold */
+    private final AtomicBoolean saturated = new AtomicBoolean();
+
+    /**
+     * Gets the shared default executor instance used when no executor is set on test context.
+     * @return
+     */
+    public static synchronized CitrusTaskExecutor getDefault() {
+        if (defaultExecutor == null) {
+            defaultExecutor = new CitrusTaskExecutor();
+        }
+
+        return defaultExecutor;
+    }
+
+    /**
+     * Creates virtual thread per task executor when running on a Java runtime supporting virtual threads.
+     * @return executor or null when virtual threads are not supported
+     */
+    public static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual threads are not supported by this Java runtime - using thread pool instead");
+            return null;
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        getExecutorService().execute(track(task));
+    }
+
+    @Override
+    public void execute(Runnable task, long startTimeout) {
+        execute(task);
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return getExecutorService().submit(track(task));
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return getExecutorService().submit(track(task));
+    }
+
+    /**
+     * Wraps task with statistics tracking.
+     * @param task
+     * @return
+     */
+    private Runnable track(Runnable task) {
+        submittedTasks.incrementAndGet();
+        return () -> {
+            started();
+            try {
+                task.run();
+            } finally {
+                finished();
+            }
+        };
+    }
+
+    /**
+     * Wraps task with statistics tracking.
+     * @param task
+     * @return
+     */
+    private <T> Callable<T> track(Callable<T> task) {
+        submittedTasks.incrementAndGet();
+        return () -> {
+            started();
+            try {
+                return task.call();
+            } finally {
+                finished();
+            }
+        };
+    }
+
+    /**
+     * Marks task as running and warns once when the number of running tasks exceeds the warn threshold.
+     */
+    private void started() {
+        int active = activeTasks.incrementAndGet();
+        if (active > warnThreshold && saturated.compareAndSet(false, true)) {
+            log.warn(String.format("Number of running tasks (%s) exceeds task executor warn threshold %s", active, warnThreshold));
+        }
+    }
+
+    /**
+     * Marks task as finished.
+     */
+    private void finished() {
+        if (activeTasks.decrementAndGet() <= warnThreshold) {
+            saturated.set(false);
+        }
+
+        completedTasks.incrementAndGet();
+    }
+
+    /**
+     * Gets the executor service. Service is created on first usage.
+     * @return
+     */
+    private synchronized ExecutorService getExecutorService() {
+        if (executorService == null || executorService.isShutdown()) {
+            executorService = null;
+
+            if (virtualThreads) {
+                executorService = createVirtualThreadExecutor();
+            }
+
+            if (executorService == null) {
+                final AtomicInteger threadCount = new AtomicInteger();
+                ThreadFactory threadFactory = runnable -> {
+                    Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                };
+
+                if (maxPoolSize > 0) {
+                    ThreadPoolExecutor threadPool = new ThreadPoolExecutor(maxPoolSize, maxPoolSize, keepAliveSeconds, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<Runnable>(), threadFactory);
+                    threadPool.allowCoreThreadTimeOut(true);
+                    executorService = threadPool;
+                } else {
+                    executorService = new ThreadPoolExecutor(0, Integer.MAX_VALUE, keepAliveSeconds, TimeUnit.SECONDS,
+                            new SynchronousQueue<Runnable>(), threadFactory);
+                }
+            }
+        }
+
+        return executorService;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService = null;
+        }
+    }
+
+    /**
+     * Gets the number of tasks currently running.
+     * @return
+     */
+    public int getActiveCount() {
+        return activeTasks.get();
+    }
+
+    /**
+     * Gets the number of tasks waiting for a pool thread. Tasks are only queued when a maximum pool size is set,
+     * elastic pool and virtual threads start every task right away.
+     * @return
+     */
+    public synchronized long getQueuedCount() {
+        if (executorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executorService).getQueue().size();
+        }
+
+        return 0;
+    }
+
+    /**
+     * Gets the number of completed tasks.
+     * @return
+     */
+    public long getCompletedCount() {
+        return completedTasks.get();
+    }
+
+    /**
+     * Gets the number of submitted tasks.
+     * @return
+     */
+    public long getSubmittedCount() {
+        return submittedTasks.get();
+    }
+
+    /**
+     * Gets the warnThreshold.
+     * @return
+     */
+    public int getWarnThreshold() {
+        return warnThreshold;
+    }
+
+    /**
+     * Sets the warnThreshold.
+     * @param warnThreshold
+     */
+    public void setWarnThreshold(int warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    /**
+     * Gets the maxPoolSize.
+     * @return
+     */
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    /**
+     * Sets the maxPoolSize. Zero or less uses elastic pool without limit.
+     * @param maxPoolSize
+     */
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    /**
+     * Gets the virtualThreads.
+     * @return
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets the virtualThreads.
+     * @param virtualThreads
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Gets the keepAliveSeconds.
+     * @return
+     */
+    public long getKeepAliveSeconds() {
+        return keepAliveSeconds;
+    }
+
+    /**
+     * Sets the keepAliveSeconds.
+     * @param keepAliveSeconds
+     */
+    public void setKeepAliveSeconds(long keepAliveSeconds) {
+        this.keepAliveSeconds = keepAliveSeconds;
+    }
+
+    /**
+     * Gets the threadNamePrefix.
+     * @return
+     */
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    /**
+     * Sets the threadNamePrefix.
+     * @param threadNamePrefix
+     */
+    public void setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+}
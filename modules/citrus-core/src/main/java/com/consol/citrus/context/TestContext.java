@@ -32,17 +32,20 @@ import com.consol.citrus.validation.MessageValidatorRegistry;
 import com.consol.citrus.validation.interceptor.GlobalMessageConstructionInterceptors;
 import com.consol.citrus.validation.matcher.ValidationMatcherRegistry;
 import com.consol.citrus.variable.GlobalVariables;
+import com.consol.citrus.variable.ExpressionTemplate;
 import com.consol.citrus.variable.VariableUtils;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.util.*;
 
 import java.lang.reflect.Field;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Class holding and managing test variables. The test context also provides utility methods
@@ -92,6 +95,9 @@ public class TestContext {
     /** Central namespace context builder */
     private NamespaceContextBuilder namespaceContextBuilder = new NamespaceContextBuilder();
 
+    /** Task executor running asynchronous work of test actions */
+    private AsyncTaskExecutor taskExecutor = CitrusTaskExecutor.getDefault();
+
     /** Spring bean application context */
     private ApplicationContext applicationContext;
 
@@ -101,6 +107,9 @@ public class TestContext {
     /** List of exceptions that actions raised during execution of forked operations */
     private List<CitrusRuntimeException> exceptions = new ArrayList<>();
 
+    /** Listeners notified when forked operations of test actions have completed */
+    private final List<Runnable> completionListeners = new CopyOnWriteArrayList<>();
+
     /**
      * Default constructor
      */
@@ -343,8 +352,7 @@ public class TestContext {
         String result = null;
 
         if (str != null) {
-            result = VariableUtils.replaceVariablesInString(str, this, enableQuoting);
-            result = FunctionUtils.replaceFunctionsInString(result, this, enableQuoting);
+            result = ExpressionTemplate.compile(str, functionRegistry.getFunctionLibraries()).evaluate(this, enableQuoting);
         }
 
         return result;
@@ -588,6 +596,22 @@ public class TestContext {
         return namespaceContextBuilder;
     }
 
+    /**
+     * Sets the task executor.
+     * @param taskExecutor
+     */
+    public void setTaskExecutor(AsyncTaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Gets the task executor running asynchronous work of test actions.
+     * @return
+     */
+    public AsyncTaskExecutor getTaskExecutor() {
+        return taskExecutor;
+    }
+
     /**
      * Gets the Spring bean application context.
      * @return
@@ -683,4 +707,30 @@ public class TestContext {
     public List<CitrusRuntimeException> getExceptions() {
         return exceptions;
     }
+
+    /**
+     * Adds listener that gets notified when forked operations of test actions have completed.
+     * @param listener
+     */
+    public void addCompletionListener(Runnable listener) {
+        this.completionListeners.add(listener);
+    }
+
+    /**
+     * Removes completion listener.
+     * @param listener
+     */
+    public void removeCompletionListener(Runnable listener) {
+        this.completionListeners.remove(listener);
+    }
+
+    /**
+     * Notifies all completion listeners. This is usually called by actions when forked operations have completed so
+     * test case waiting for nested actions to finish is able to proceed immediately.
+     */
+    public void notifyCompletion() {
+        for (Runnable listener : completionListeners) {
+            listener.run();
+        }
+    }
 }
@@ -72,6 +72,9 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
     @Autowired(required=false)
     private NamespaceContextBuilder namespaceContextBuilder;
 
+    @Autowired(required=false)
+    private CitrusTaskExecutor taskExecutor;
+
     /** Spring bean application context */
     private ApplicationContext applicationContext;
     
@@ -147,6 +150,10 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
             factory.setNamespaceContextBuilder(applicationContext.getBean(NamespaceContextBuilder.class));
         }
 
+        if (!CollectionUtils.isEmpty(applicationContext.getBeansOfType(CitrusTaskExecutor.class))) {
+            factory.setTaskExecutor(applicationContext.getBean(CitrusTaskExecutor.class));
+        }
+
         factory.setApplicationContext(applicationContext);
 
         return factory;
@@ -172,6 +179,10 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
             context.setNamespaceContextBuilder(namespaceContextBuilder);
         }
 
+        if (taskExecutor != null) {
+            context.setTaskExecutor(taskExecutor);
+        }
+
         if (log.isDebugEnabled()) {
             log.debug("Created new test context - using global variables: '"
                     + context.getGlobalVariables() + "'");
@@ -288,6 +299,22 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
         return namespaceContextBuilder;
     }
 
+    /**
+     * Sets the task executor.
+     * @param taskExecutor
+     */
+    public void setTaskExecutor(CitrusTaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Gets the task executor.
+     * @return
+     */
+    public CitrusTaskExecutor getTaskExecutor() {
+        return taskExecutor;
+    }
+
     /**
      * Sets the test listeners.
      * @param testListeners
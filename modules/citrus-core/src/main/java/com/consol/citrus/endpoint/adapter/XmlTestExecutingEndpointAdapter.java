@@ -19,6 +19,7 @@ package com.consol.citrus.endpoint.adapter;
 import com.consol.citrus.TestCase;
 import com.consol.citrus.channel.ChannelEndpointAdapter;
 import com.consol.citrus.channel.ChannelSyncEndpointConfiguration;
+import com.consol.citrus.common.XmlTestDefinitionCache;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.endpoint.EndpointAdapter;
@@ -31,20 +32,25 @@ import org.springframework.beans.factory.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 
+import java.util.Optional;
+
 /**
  * Special request dispatching endpoint adapter invokes XML test case for each incoming message. Incoming message is
  * passed to test case via normal message channel connection as usual.
  *
+ * Test XML files are parsed only once, parsed bean definitions are cached in a {@link XmlTestDefinitionCache}. Each request
+ * gets a fresh test case instance from its own application context that is closed as soon as the test has finished.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
 public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointAdapter implements InitializingBean, BeanNameAware, ApplicationContextAware {
-    /** Executor start action sequence logic in separate thread task */
-    private TaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
+    /** Executor start action sequence logic in separate thread task, defaults to test context task executor */
+    private TaskExecutor taskExecutor;
 
     /** This adapter name - used for message channel generation */
     private String name = EndpointAdapter.class.getSimpleName();
@@ -61,23 +67,44 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
     /** Default package to search for Xml test case files */
     private String packageName = "com.consol.citrus.tests";
 
+    /** Cache of parsed test definitions */
+    private XmlTestDefinitionCache testDefinitionCache = new XmlTestDefinitionCache();
+
+    /** Subclass overrides deprecated test loading methods that are invoked instead of the cached test loading */
+    private final boolean legacyGetTestCase = isOverridden("getTestCase", TestContext.class, String.class);
+    private final boolean legacyCreateApplicationContext = isOverridden("createApplicationContext", TestContext.class, String.class, String.class);
+
     @Override
     public Message dispatchMessage(final Message request, String mappingName) {
         final TestCase test;
         final TestContext testContext;
+        final ConfigurableApplicationContext ctx;
 
         try {
             testContext = testContextFactory.getObject();
-            test = getTestCase(testContext, mappingName);
+
+            if (legacyGetTestCase) {
+                ctx = null;
+                test = getTestCase(testContext, mappingName);
+            } else {
+                ctx = createTestApplicationContext(testContext, packageName, mappingName);
+                test = getTestCase(testContext, ctx, mappingName);
+            }
         } catch (NoSuchBeanDefinitionException e) {
             throw new CitrusRuntimeException("Unable to find test builder with name '" +
                     mappingName + "' in Spring bean context", e);
         }
 
-        taskExecutor.execute(new Runnable() {
+        Optional.ofNullable(taskExecutor).orElse(testContext.getTaskExecutor()).execute(new Runnable() {
             public void run() {
-                prepareExecution(request, test);
-                test.execute(testContext);
+                try {
+                    prepareExecution(request, test);
+                    test.execute(testContext);
+                } finally {
+                    if (ctx != null) {
+                        ctx.close();
+                    }
+                }
             }
         });
 
@@ -87,26 +114,43 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
     /**
      * Gets the test case from application context.
      * @param context
+     * @param ctx
      * @param testName
      * @return the new test case.
      */
-    protected TestCase getTestCase(TestContext context, String testName) {
-        ClassPathXmlApplicationContext ctx = createApplicationContext(context, packageName, testName);
-
+    protected TestCase getTestCase(TestContext context, ConfigurableApplicationContext ctx, String testName) {
         try {
             TestCase testCase = ctx.getBean(testName, TestCase.class);
             testCase.setName(testName);
             testCase.setPackageName(packageName);
             return testCase;
         } catch (NoSuchBeanDefinitionException e) {
+            ctx.close();
             throw context.handleError(testName, packageName, "Could not find test with name '" + testName + "'", e);
         }
     }
 
     /**
-     * Creates the Spring application context.
+     * Gets the test case from new application context. Application context is not closed after the test. Method is only
+     * invoked when overridden by a subclass, otherwise test cases are loaded from cached test definitions.
+     * @param context
+     * @param testName
+     * @return the new test case.
+     * @deprecated in favor of {@link #getTestCase(TestContext, ConfigurableApplicationContext, String)} with context
+     * created by {@link #createTestApplicationContext(TestContext, String, String)}
+     */
+    @Deprecated
+    protected TestCase getTestCase(TestContext context, String testName) {
+        return getTestCase(context, createApplicationContext(context, packageName, testName), testName);
+    }
+
+    /**
+     * Creates the Spring application context. Method is only invoked when overridden by a subclass, otherwise application context
+     * is created from cached test definitions.
      * @return
+     * @deprecated in favor of {@link #createTestApplicationContext(TestContext, String, String)} using cached test definitions
      */
+    @Deprecated
     protected ClassPathXmlApplicationContext createApplicationContext(TestContext context, String packageName, String testName) {
         try {
             return new ClassPathXmlApplicationContext(
@@ -119,6 +163,43 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
         }
     }
 
+    /**
+     * Creates the Spring application context from cached test definitions. Caller has to close the context.
+     * @return
+     */
+    protected ConfigurableApplicationContext createTestApplicationContext(TestContext context, String packageName, String testName) {
+        if (legacyCreateApplicationContext) {
+            return createApplicationContext(context, packageName, testName);
+        }
+
+        try {
+            return testDefinitionCache.createApplicationContext(applicationContext,
+                    packageName.replace('.', '/') + "/" + testName + ".xml",
+                    "com/consol/citrus/spring/annotation-config-ctx.xml");
+        } catch (Exception e) {
+            throw context.handleError(getClass().getSimpleName(), getClass().getPackage().getName(), "Failed to load test case", e);
+        }
+    }
+
+    /**
+     * Checks if given method is overridden by a subclass of this endpoint adapter.
+     * @param methodName
+     * @param parameterTypes
+     * @return
+     */
+    private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+        for (Class<?> type = getClass(); type != null && !type.equals(XmlTestExecutingEndpointAdapter.class); type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod(methodName, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // continue with super class
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Prepares the test builder instance before execution. Subclasses may add custom properties to teest builder
      * here.
@@ -174,6 +255,22 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
         this.packageName = packageName;
     }
 
+    /**
+     * Gets the test definition cache.
+     * @return
+     */
+    public XmlTestDefinitionCache getTestDefinitionCache() {
+        return testDefinitionCache;
+    }
+
+    /**
+     * Sets the test definition cache.
+     * @param testDefinitionCache
+     */
+    public void setTestDefinitionCache(XmlTestDefinitionCache testDefinitionCache) {
+        this.testDefinitionCache = testDefinitionCache;
+    }
+
     /**
      * Gets the task executor.
      * @return
@@ -17,6 +17,7 @@
 package com.consol.citrus.json;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.*;
 import com.consol.citrus.validation.json.JsonPathFunctions;
 import com.jayway.jsonpath.*;
 import net.minidev.json.JSONArray;
@@ -33,6 +34,31 @@ import java.util.Optional;
  */
 public class JsonPathUtils {
 
+    /**
+     * Parse message payload as JSON object tree. Parsed tree is cached with the message and shared
+     * with other callers as long as the message payload does not change. Callers must not modify the tree.
+     * @param message
+     * @return
+     * @throws ParseException
+     */
+    public static Object parseMessagePayload(Message message) throws ParseException {
+        if (message instanceof DefaultMessage) {
+            try {
+                return ((DefaultMessage) message).getParsedPayload(MessageType.JSON, payload -> {
+                    try {
+                        return new JSONParser(JSONParser.MODE_JSON_SIMPLE).parse(payload);
+                    } catch (ParseException e) {
+                        throw new UncheckedParseException(e);
+                    }
+                });
+            } catch (UncheckedParseException e) {
+                throw e.getCause();
+            }
+        }
+
+        return new JSONParser(JSONParser.MODE_JSON_SIMPLE).parse(message.getPayload(String.class));
+    }
+
     /**
      * Evaluate JsonPath expression on given payload string and return result as object.
      * @param payload
@@ -130,4 +156,18 @@ public class JsonPathUtils {
             return Optional.ofNullable(jsonPathResult).map(Object::toString).orElse("null");
         }
     }
+
+    /**
+     * Runtime exception transporting JSON parse exception out of parser functions.
+     */
+    private static final class UncheckedParseException extends RuntimeException {
+        UncheckedParseException(ParseException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized ParseException getCause() {
+            return (ParseException) super.getCause();
+        }
+    }
 }
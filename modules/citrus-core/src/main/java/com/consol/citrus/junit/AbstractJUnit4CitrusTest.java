@@ -62,7 +62,11 @@ public abstract class AbstractJUnit4CitrusTest extends AbstractJUnit4SpringConte
         TestLoader testLoader = createTestLoader(frameworkMethod.getTestName(), frameworkMethod.getPackageName());
         TestCase testCase = testLoader.load();
 
-        citrus.run(testCase, ctx);
+        try {
+            citrus.run(testCase, ctx);
+        } finally {
+            testLoader.release();
+        }
     }
 
     /**
@@ -206,7 +206,7 @@ public class CitrusBaseExtension implements BeforeAllCallback,
                         String testName = fileResource.getFilename().substring(0, fileResource.getFilename().length() - ".xml".length());
 
                         XmlTestLoader testLoader = new XmlTestLoader(DynamicTest.class, testName, filePath, citrus.getApplicationContext());
-                        tests.add(DynamicTest.dynamicTest(testName, () -> citrus.run(testLoader.load())));
+                        tests.add(DynamicTest.dynamicTest(testName, () -> runXmlTest(testLoader)));
                     }
                 }
             } catch (IOException e) {
@@ -226,7 +226,7 @@ public class CitrusBaseExtension implements BeforeAllCallback,
     public static Stream<DynamicTest> dynamicTests(String packageName, String ... testNames) {
         return Stream.of(testNames).map(testName -> {
             XmlTestLoader testLoader = new XmlTestLoader(DynamicTest.class, testName, packageName, citrus.getApplicationContext());
-            return DynamicTest.dynamicTest(testName, () -> citrus.run(testLoader.load()));
+            return DynamicTest.dynamicTest(testName, () -> runXmlTest(testLoader));
         });
     }
 
@@ -238,7 +238,7 @@ public class CitrusBaseExtension implements BeforeAllCallback,
     public static Stream<DynamicTest> dynamicTests(Class<?> testClass, String ... testNames) {
         return Stream.of(testNames).map(testName -> {
             XmlTestLoader testLoader = new XmlTestLoader(DynamicTest.class, testName, testClass.getPackage().getName(), citrus.getApplicationContext());
-            return DynamicTest.dynamicTest(testName, () -> citrus.run(testLoader.load()));
+            return DynamicTest.dynamicTest(testName, () -> runXmlTest(testLoader));
         });
     }
 
@@ -250,6 +250,18 @@ public class CitrusBaseExtension implements BeforeAllCallback,
      */
     public static DynamicTest dynamicTest(String packageName, String testName) {
         XmlTestLoader testLoader = new XmlTestLoader(DynamicTest.class, testName, packageName, citrus.getApplicationContext());
-        return DynamicTest.dynamicTest(testName, () -> citrus.run(testLoader.load()));
+        return DynamicTest.dynamicTest(testName, () -> runXmlTest(testLoader));
+    }
+
+    /**
+     * Loads and runs Xml test case. Releases test loader resources after test execution.
+     * @param testLoader
+     */
+    private static void runXmlTest(TestLoader testLoader) {
+        try {
+            citrus.run(testLoader.load());
+        } finally {
+            testLoader.release();
+        }
     }
 }
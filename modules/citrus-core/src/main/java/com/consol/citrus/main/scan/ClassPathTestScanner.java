@@ -21,17 +21,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
-import org.springframework.core.annotation.AnnotationUtils;
-import org.springframework.core.type.ClassMetadata;
-import org.springframework.core.type.filter.AbstractClassTestingTypeFilter;
-import org.springframework.util.ReflectionUtils;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.ClassUtils;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
+ * Scans classpath for test classes using given test annotation on class or method level. Only class file metadata is read
+ * so test classes are not loaded and initialized during scan. When a test index generated at build time is available
+ * on the classpath test classes are read from the index instead of scanning the package.
+ *
  * @author Christoph Deppisch
  * @since 2.7.4
  */
@@ -43,6 +47,9 @@ public class ClassPathTestScanner extends AbstractTestScanner {
     /** Test annotation marking test classes and methods */
     private final Class<? extends Annotation> annotationType;
 
+    /** Read test classes from test index when available */
+    private boolean useTestIndex = true;
+
     /**
      * Default constructor using run configuration.
      * @param includes
@@ -54,29 +61,22 @@ public class ClassPathTestScanner extends AbstractTestScanner {
 
     @Override
     public List<TestClass> findTestsInPackage(String packageName) {
-        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
-        provider.addIncludeFilter(new AbstractClassTestingTypeFilter() {
-            @Override
-            protected boolean match(ClassMetadata metadata) {
-                if (!isIncluded(metadata.getClassName())) {
-                    return false;
-                }
-
-                try {
-                    Class<?> clazz = Class.forName(metadata.getClassName());
-                    if (clazz.isAnnotationPresent(annotationType)) {
-                        return true;
-                    }
-
-                    AtomicBoolean hasTestMethod = new AtomicBoolean(false);
-                    ReflectionUtils.doWithMethods(clazz, method -> hasTestMethod.set(true), method -> AnnotationUtils.findAnnotation(method, annotationType) != null);
-                    return hasTestMethod.get();
-                } catch (NoClassDefFoundError | ClassNotFoundException e) {
-                    log.warn("Unable to access class: " + metadata.getClassName());
-                    return false;
-                }
+        if (useTestIndex) {
+            TestIndex testIndex = TestIndex.load(ClassUtils.getDefaultClassLoader());
+            if (!testIndex.isEmpty()) {
+                log.debug("Reading test classes from test index");
+                return testIndex.getTestClassNames(annotationType)
+                        .stream()
+                        .filter(className -> new AntPathMatcher().match(packageName.replace('.', '/') + "/**", className.replace('.', '/')))
+                        .filter(this::isIncluded)
+                        .map(TestClass::new)
+                        .collect(Collectors.toList());
             }
-        });
+        }
+
+        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
+        provider.addIncludeFilter((metadataReader, metadataReaderFactory) -> isIncluded(metadataReader.getClassMetadata().getClassName()) &&
+                isTestClass(metadataReader, metadataReaderFactory, annotationType.getName()));
 
         return provider.findCandidateComponents(packageName)
                 .stream()
@@ -85,4 +85,56 @@ public class ClassPathTestScanner extends AbstractTestScanner {
                 .map(TestClass::new)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Checks class metadata for test annotation on class level or on methods of the class and its super classes.
+     * @param metadataReader
+     * @param metadataReaderFactory
+     * @param annotationType
+     * @return
+     */
+    static boolean isTestClass(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory, String annotationType) {
+        if (metadataReader.getAnnotationMetadata().hasAnnotation(annotationType)) {
+            return true;
+        }
+
+        MetadataReader current = metadataReader;
+        while (current != null) {
+            if (current.getAnnotationMetadata().hasAnnotatedMethods(annotationType)) {
+                return true;
+            }
+
+            String superClassName = current.getClassMetadata().getSuperClassName();
+            if (superClassName == null || superClassName.equals(Object.class.getName())) {
+                current = null;
+            } else {
+                try {
+                    current = metadataReaderFactory.getMetadataReader(superClassName);
+                } catch (IOException e) {
+                    log.warn("Unable to access class: " + superClassName);
+                    current = null;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the useTestIndex.
+     *
+     * @return
+     */
+    public boolean isUseTestIndex() {
+        return useTestIndex;
+    }
+
+    /**
+     * Sets the useTestIndex.
+     *
+     * @param useTestIndex
+     */
+    public void setUseTestIndex(boolean useTestIndex) {
+        this.useTestIndex = useTestIndex;
+    }
 }
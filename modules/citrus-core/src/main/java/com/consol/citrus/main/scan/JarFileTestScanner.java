@@ -25,6 +25,7 @@ import org.springframework.util.AntPathMatcher;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -51,6 +52,11 @@ public class JarFileTestScanner extends AbstractTestScanner {
         List<TestClass> testClasses = new ArrayList<>();
         if (artifact != null && artifact.isFile()) {
             try (JarFile jar = new JarFile(artifact)) {
+                JarEntry indexEntry = jar.getJarEntry(TestIndex.INDEX_LOCATION);
+                if (indexEntry != null && !TestIndex.isIgnored()) {
+                    return findTestsInIndex(jar, indexEntry, packageToScan);
+                }
+
                 for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
                     JarEntry entry = entries.nextElement();
                     String className = StringUtils.removeEnd(entry.getName(), ".class" ).replace( "/", "." );
@@ -66,4 +72,30 @@ public class JarFileTestScanner extends AbstractTestScanner {
 
         return testClasses;
     }
+
+    /**
+     * Reads test classes in package from test index packaged with jar file.
+     * @param jar
+     * @param indexEntry
+     * @param packageToScan
+     * @return
+     * @throws IOException
+     */
+    private List<TestClass> findTestsInIndex(JarFile jar, JarEntry indexEntry, String packageToScan) throws IOException {
+        TestIndex testIndex = new TestIndex();
+        try (InputStream inputStream = jar.getInputStream(indexEntry)) {
+            testIndex.read(inputStream);
+        }
+
+        log.info("Reading test classes from test index in test jar file");
+
+        List<TestClass> testClasses = new ArrayList<>();
+        for (String className : testIndex.getTestClassNames()) {
+            if (new AntPathMatcher().matchStart(packageToScan.replace( ".", "/" ), className.replace( ".", "/" ) + ".class") && isIncluded(className)) {
+                testClasses.add(new TestClass(className));
+            }
+        }
+
+        return testClasses;
+    }
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main.scan;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.type.classreading.*;
+import org.springframework.util.StringUtils;
+
+import java.io.*;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test index listing test classes and the test annotations they use. Index is generated at build time with
+ * {@link #main(String[])} and packaged with the test classes. Test scanners read the index instead of scanning all classes
+ * in a package so test discovery does not depend on the number of classes on the classpath.
+ *
+ * Index file holds one line per test class in the format "fully.qualified.ClassName=annotationType1,annotationType2".
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class TestIndex {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(TestIndex.class);
+
+    /** Index file location in class output directory and jar file */
+    public static final String INDEX_LOCATION = "META-INF/citrus-tests.index";
+
+    /** System property and environment variable to ignore test index and always scan classes */
+    public static final String IGNORE_INDEX_PROPERTY = "citrus.test.index.ignore";
+    public static final String IGNORE_INDEX_ENV = "CITRUS_TEST_INDEX_IGNORE";
+
+    /** Test annotations recorded when generating the index */
+    public static final String[] TEST_ANNOTATIONS = new String[] {
+            "org.testng.annotations.Test",
+            "org.junit.Test",
+            "org.junit.jupiter.api.Test",
+            "com.consol.citrus.annotations.CitrusTest",
+            "com.consol.citrus.annotations.CitrusXmlTest"
+    };
+
+    /** Test annotation type names by test class name */
+    private final Map<String, Set<String>> tests = new TreeMap<>();
+
+    /**
+     * Loads and merges all test index files found on classpath of given class loader.
+     * @param classLoader
+     * @return the index or empty index when no index file is available or index is ignored
+     */
+    public static TestIndex load(ClassLoader classLoader) {
+        TestIndex testIndex = new TestIndex();
+
+        if (isIgnored()) {
+            return testIndex;
+        }
+
+        try {
+            Enumeration<URL> indexFiles = classLoader.getResources(INDEX_LOCATION);
+            while (indexFiles.hasMoreElements()) {
+                URL indexFile = indexFiles.nextElement();
+                log.debug("Reading test index: " + indexFile);
+
+                try (InputStream inputStream = indexFile.openStream()) {
+                    testIndex.read(inputStream);
+                }
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read test index", e);
+        }
+
+        return testIndex;
+    }
+
+    /**
+     * Checks if test index should be ignored by test scanners.
+     * @return
+     */
+    public static boolean isIgnored() {
+        return Boolean.valueOf(System.getProperty(IGNORE_INDEX_PROPERTY, System.getenv(IGNORE_INDEX_ENV) != null ?
+                System.getenv(IGNORE_INDEX_ENV) : Boolean.FALSE.toString()));
+    }
+
+    /**
+     * Reads index entries from input stream and adds them to this index.
+     * @param inputStream
+     * @throws IOException
+     */
+    public void read(InputStream inputStream) throws IOException {
+        Properties entries = new Properties();
+        entries.load(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        for (String className : entries.stringPropertyNames()) {
+            for (String annotationType : StringUtils.commaDelimitedListToStringArray(entries.getProperty(className))) {
+                add(className, annotationType.trim());
+            }
+        }
+    }
+
+    /**
+     * Writes index entries to output stream.
+     * @param outputStream
+     * @throws IOException
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        for (Map.Entry<String, Set<String>> entry : tests.entrySet()) {
+            writer.write(entry.getKey() + "=" + StringUtils.collectionToCommaDelimitedString(entry.getValue()) + System.lineSeparator());
+        }
+        writer.flush();
+    }
+
+    /**
+     * Adds test class using given test annotation type.
+     * @param className
+     * @param annotationType
+     */
+    public void add(String className, String annotationType) {
+        tests.computeIfAbsent(className, key -> new TreeSet<>()).add(annotationType);
+    }
+
+    /**
+     * Gets all indexed test class names.
+     * @return
+     */
+    public Set<String> getTestClassNames() {
+        return Collections.unmodifiableSet(tests.keySet());
+    }
+
+    /**
+     * Gets names of indexed test classes using given test annotation on class or method level.
+     * @param annotationType
+     * @return
+     */
+    public Set<String> getTestClassNames(Class<? extends Annotation> annotationType) {
+        return tests.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().contains(annotationType.getName()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Checks if index has no entries.
+     * @return
+     */
+    public boolean isEmpty() {
+        return tests.isEmpty();
+    }
+
+    /**
+     * Generates test index for all classes in given class output directory. Index file is written to the same directory
+     * so it is packaged with the test classes. Run with the test classpath so that test super classes can be resolved.
+     *
+     * Usage: TestIndex <classOutputDirectory> [annotationType ...]
+     *
+     * @param args
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            throw new CitrusRuntimeException("Missing class output directory argument");
+        }
+
+        File classesDirectory = new File(args[0]);
+        String[] annotationTypes = args.length > 1 ? Arrays.copyOfRange(args, 1, args.length) : TEST_ANNOTATIONS;
+
+        TestIndex testIndex = generate(classesDirectory, annotationTypes);
+
+        File indexFile = new File(classesDirectory, INDEX_LOCATION);
+        if (!indexFile.getParentFile().exists() && !indexFile.getParentFile().mkdirs()) {
+            throw new CitrusRuntimeException("Failed to create test index directory: " + indexFile.getParentFile());
+        }
+
+        try (OutputStream outputStream = new FileOutputStream(indexFile)) {
+            testIndex.write(outputStream);
+        }
+
+        log.info(String.format("Generated test index with %s test classes: %s", testIndex.getTestClassNames().size(), indexFile));
+    }
+
+    /**
+     * Creates index of test classes found in given class output directory. Reads class file metadata only,
+     * classes are not loaded.
+     * @param classesDirectory
+     * @param annotationTypes
+     * @return
+     */
+    public static TestIndex generate(File classesDirectory, String ... annotationTypes) throws IOException {
+        TestIndex testIndex = new TestIndex();
+        MetadataReaderFactory metadataReaderFactory = new CachingMetadataReaderFactory();
+
+        try (Stream<Path> files = Files.walk(classesDirectory.toPath())) {
+            for (Path classFile : files.filter(path -> path.toString().endsWith(".class")).collect(Collectors.toList())) {
+                MetadataReader metadataReader = metadataReaderFactory.getMetadataReader(new FileSystemResource(classFile.toFile()));
+                if (!metadataReader.getClassMetadata().isConcrete() || !metadataReader.getClassMetadata().isIndependent()) {
+                    continue;
+                }
+
+                for (String annotationType : annotationTypes) {
+                    if (ClassPathTestScanner.isTestClass(metadataReader, metadataReaderFactory, annotationType)) {
+                        testIndex.add(metadataReader.getClassMetadata().getClassName(), annotationType);
+                    }
+                }
+            }
+        }
+
+        return testIndex;
+    }
+}
@@ -21,6 +21,7 @@ import com.consol.citrus.util.TypeConversionUtils;
 import org.springframework.util.CollectionUtils;
 
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * Default message implementation holds message payload and message headers. Also provides access methods for special
@@ -46,6 +47,9 @@ public class DefaultMessage implements Message {
     /** The message name for internal use */
     private String name;
 
+    /** Parsed payload representations cached by message type */
+    private transient Map<MessageType, ParsedPayload> parsedPayloads;
+
     /**
      * Empty constructor initializing with empty message payload.
      */
@@ -155,6 +159,31 @@ public class DefaultMessage implements Message {
     @Override
     public void setPayload(Object payload) {
         this.payload = payload;
+        this.parsedPayloads = null;
+    }
+
+    /**
+     * Gets parsed representation of this message payload such as a DOM document or JSON object tree. Parsed representation
+     * is created with given parser on first access and cached for subsequent calls as long as the payload does not change.
+     * Callers must not modify the parsed representation as it is shared with all other callers.
+     * @param messageType the message type identifying the parsed representation.
+     * @param parser function creating the parsed representation from payload string.
+     * @return
+     */
+    public synchronized <T> T getParsedPayload(MessageType messageType, Function<String, T> parser) {
+        String source = getPayload(String.class);
+
+        if (parsedPayloads == null) {
+            parsedPayloads = new EnumMap<>(MessageType.class);
+        }
+
+        ParsedPayload parsed = parsedPayloads.get(messageType);
+        if (parsed == null || !Objects.equals(parsed.source, source)) {
+            parsed = new ParsedPayload(source, parser.apply(source));
+            parsedPayloads.put(messageType, parsed);
+        }
+
+        return (T) parsed.value;
     }
 
     @Override
@@ -171,4 +200,17 @@ public class DefaultMessage implements Message {
     public String getName() {
         return name;
     }
+
+    /**
+     * Parsed payload representation with payload string it has been parsed from.
+     */
+    private static final class ParsedPayload {
+        private final String source;
+        private final Object value;
+
+        ParsedPayload(String source, Object value) {
+            this.source = source;
+            this.value = value;
+        }
+    }
 }
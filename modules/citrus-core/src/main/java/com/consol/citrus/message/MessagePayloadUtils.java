@@ -0,0 +1,83 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+/**
+ * Utility methods inspecting message payload content. Methods only look at leading characters of the payload and do not
+ * create trimmed copies of the payload string.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public abstract class MessagePayloadUtils {
+
+    /**
+     * Prevent instantiation.
+     */
+    private MessagePayloadUtils() {
+        super();
+    }
+
+    /**
+     * Gets first character in payload that is not whitespace. Returns 0 when payload is null or
+     * only holds whitespace characters.
+     * @param payload
+     * @return
+     */
+    public static char getFirstNonWhitespaceChar(String payload) {
+        if (payload == null) {
+            return 0;
+        }
+
+        for (int i = 0; i < payload.length(); i++) {
+            char c = payload.charAt(i);
+            if (!Character.isWhitespace(c) && c > ' ') {
+                return c;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Checks if payload holds text other than whitespace characters.
+     * @param payload
+     * @return
+     */
+    public static boolean hasText(String payload) {
+        return getFirstNonWhitespaceChar(payload) != 0;
+    }
+
+    /**
+     * Checks if payload looks like XML content.
+     * @param payload
+     * @return
+     */
+    public static boolean isXml(String payload) {
+        return getFirstNonWhitespaceChar(payload) == '<';
+    }
+
+    /**
+     * Checks if payload looks like Json content.
+     * @param payload
+     * @return
+     */
+    public static boolean isJson(String payload) {
+        char c = getFirstNonWhitespaceChar(payload);
+        return c == '{' || c == '[';
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message.correlation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * Object store with bounded size. When maximum size is exceeded the oldest stored object is evicted. Stale objects that
+ * never get consumed (e.g. replies nobody waits for) therefore do not grow the store without limit. Maximum size can be
+ * given as supplier so that it follows the current endpoint configuration setting.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class EvictingObjectStore<T> implements ObjectStore<T> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(EvictingObjectStore.class);
+
+    /** Default maximum number of stored objects */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /** Stored objects in insertion order */
+    private final Map<String, T> store;
+
+    /** Maximum number of stored objects */
+    private final IntSupplier maxSize;
+
+    /**
+     * Default constructor.
+     */
+    public EvictingObjectStore() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructor using maximum size.
+     * @param maxSize
+     */
+    public EvictingObjectStore(final int maxSize) {
+        this(() -> maxSize);
+    }
+
+    /**
+     * Constructor using maximum size supplier that is evaluated on each store operation.
+     * @param maxSize
+     */
+    public EvictingObjectStore(final IntSupplier maxSize) {
+        this.maxSize = maxSize;
+        this.store = new LinkedHashMap<String, T>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                if (size() > maxSize.getAsInt()) {
+                    log.warn(String.format("Evicting stale correlated object for '%s' - object store exceeded maximum size %s, " +
+                            "consider increasing the max store size setting on the endpoint", eldest.getKey(), maxSize.getAsInt()));
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public synchronized void add(String correlationKey, T object) {
+        store.remove(correlationKey);
+        store.put(correlationKey, object);
+    }
+
+    @Override
+    public synchronized T remove(String correlationKey) {
+        return store.remove(correlationKey);
+    }
+
+    /**
+     * Gets the current number of stored objects.
+     * @return
+     */
+    public synchronized int size() {
+        return store.size();
+    }
+
+    /**
+     * Gets the maximum number of stored objects.
+     * @return
+     */
+    public int getMaxSize() {
+        return maxSize.getAsInt();
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message.correlation;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.PollableEndpointConfiguration;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.*;
+import java.util.function.IntSupplier;
+
+/**
+ * Correlation manager notifies waiting clients as soon as a correlated object is stored or a correlation key is saved.
+ * Clients waiting in find operation register a per correlation key future that is completed on store operation so
+ * the waiting thread wakes up immediately instead of sleeping for the whole polling interval.
+ *
+ * Polling interval and overall timeout of the endpoint configuration still apply as upper bounds for each wait. Object stores
+ * that are populated without using this correlation manager are therefore still consulted periodically. By default objects
+ * are stored in a {@link EvictingObjectStore} with bounded size.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class SignallingCorrelationManager<T> extends PollingCorrelationManager<T> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(SignallingCorrelationManager.class);
+
+    /** Retry logger */
+    private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
+
+    /** Pending arrival notifications per correlation key */
+    private final ConcurrentMap<String, CompletableFuture<Boolean>> objectArrivals = new ConcurrentHashMap<>();
+
+    /** Pending arrival notifications per correlation key name */
+    private final ConcurrentMap<String, CompletableFuture<Boolean>> correlationKeyArrivals = new ConcurrentHashMap<>();
+
+    private final PollableEndpointConfiguration endpointConfiguration;
+
+    /**
+     * Constructor using fields.
+     * @param endpointConfiguration
+     * @param retryLogMessage
+     */
+    public SignallingCorrelationManager(PollableEndpointConfiguration endpointConfiguration, String retryLogMessage) {
+        this(endpointConfiguration, retryLogMessage, EvictingObjectStore.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructor using fields and maximum object store size.
+     * @param endpointConfiguration
+     * @param retryLogMessage
+     * @param maxStoreSize
+     */
+    public SignallingCorrelationManager(PollableEndpointConfiguration endpointConfiguration, String retryLogMessage, final int maxStoreSize) {
+        this(endpointConfiguration, retryLogMessage, () -> maxStoreSize);
+    }
+
+    /**
+     * Constructor using fields and maximum object store size supplier. Supplier is evaluated on each store operation so
+     * the size can follow the current endpoint configuration.
+     * @param endpointConfiguration
+     * @param retryLogMessage
+     * @param maxStoreSize
+     */
+    public SignallingCorrelationManager(PollableEndpointConfiguration endpointConfiguration, String retryLogMessage, IntSupplier maxStoreSize) {
+        super(endpointConfiguration, retryLogMessage);
+        this.endpointConfiguration = endpointConfiguration;
+        setObjectStore(new EvictingObjectStore<T>(maxStoreSize));
+    }
+
+    @Override
+    public void saveCorrelationKey(String correlationKeyName, String correlationKey, TestContext context) {
+        super.saveCorrelationKey(correlationKeyName, correlationKey, context);
+        signal(correlationKeyArrivals, correlationKeyName);
+    }
+
+    @Override
+    public String getCorrelationKey(String correlationKeyName, TestContext context) {
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Get correlation key for '%s'", correlationKeyName));
+        }
+
+        CompletableFuture<Boolean> arrival = register(correlationKeyArrivals, correlationKeyName);
+        try {
+            String correlationKey = null;
+            if (context.getVariables().containsKey(correlationKeyName)) {
+                correlationKey = context.getVariable(correlationKeyName);
+            }
+
+            long timeLeft = 1000L;
+            long pollingInterval = 300L;
+            while (correlationKey == null && timeLeft > 0) {
+                timeLeft -= pollingInterval;
+
+                if (RETRY_LOG.isDebugEnabled()) {
+                    RETRY_LOG.debug("Correlation key not available yet - waiting " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+                }
+
+                arrival = await(correlationKeyArrivals, correlationKeyName, arrival, timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
+
+                if (context.getVariables().containsKey(correlationKeyName)) {
+                    correlationKey = context.getVariable(correlationKeyName);
+                }
+            }
+
+            if (correlationKey == null) {
+                throw new CitrusRuntimeException(String.format("Failed to get correlation key for '%s'", correlationKeyName));
+            }
+
+            return correlationKey;
+        } finally {
+            correlationKeyArrivals.remove(correlationKeyName, arrival);
+        }
+    }
+
+    @Override
+    public void store(String correlationKey, T object) {
+        super.store(correlationKey, object);
+
+        if (object != null) {
+            signal(objectArrivals, correlationKey);
+        }
+    }
+
+    @Override
+    public T find(String correlationKey, long timeout) {
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Finding correlated object for '%s'", correlationKey));
+        }
+
+        CompletableFuture<Boolean> arrival = register(objectArrivals, correlationKey);
+        try {
+            long timeLeft = timeout;
+            long pollingInterval = endpointConfiguration.getPollingInterval();
+
+            T stored = getObjectStore().remove(correlationKey);
+
+            while (stored == null && timeLeft > 0) {
+                timeLeft -= pollingInterval;
+
+                if (RETRY_LOG.isDebugEnabled()) {
+                    RETRY_LOG.debug(getRetryLogMessage() + " - waiting " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+                }
+
+                arrival = await(objectArrivals, correlationKey, arrival, timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
+                stored = getObjectStore().remove(correlationKey);
+            }
+
+            return stored;
+        } finally {
+            objectArrivals.remove(correlationKey, arrival);
+        }
+    }
+
+    /**
+     * Registers arrival notification for given key. Multiple waiting clients share the same notification.
+     * @param arrivals
+     * @param key
+     * @return
+     */
+    private CompletableFuture<Boolean> register(ConcurrentMap<String, CompletableFuture<Boolean>> arrivals, String key) {
+        return arrivals.computeIfAbsent(key, k -> new CompletableFuture<>());
+    }
+
+    /**
+     * Completes pending arrival notification for given key.
+     * @param arrivals
+     * @param key
+     */
+    private void signal(ConcurrentMap<String, CompletableFuture<Boolean>> arrivals, String key) {
+        CompletableFuture<Boolean> arrival = arrivals.remove(key);
+        if (arrival != null) {
+            arrival.complete(true);
+        }
+    }
+
+    /**
+     * Waits for arrival notification at most the given time in milliseconds. Returns the notification to wait for in
+     * next round. Completed notifications are replaced with a new one so subsequent arrivals are signalled, too.
+     * @param arrivals
+     * @param key
+     * @param arrival
+     * @param wait
+     * @return
+     */
+    private CompletableFuture<Boolean> await(ConcurrentMap<String, CompletableFuture<Boolean>> arrivals, String key,
+                                             CompletableFuture<Boolean> arrival, long wait) {
+        try {
+            arrival.get(wait, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return arrival;
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to wait for correlated object", e);
+        } catch (InterruptedException e) {
+            RETRY_LOG.warn("Thread interrupted while waiting for correlated object", e);
+            Thread.currentThread().interrupt();
+        }
+
+        arrivals.remove(key, arrival);
+        return register(arrivals, key);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyObject;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of compiled Groovy script classes keyed by a hash of the script source. Scripts are compiled once with a
+ * shared class loader and instantiated per call, so repeated script executions do not pay for compilation and do not
+ * define a new class each time.
+ *
+ * When the cache is full the least recently used script class is evicted. Groovy defines each script class in its own
+ * inner class loader and the shared loader does not keep compiled classes, so evicted classes can be unloaded once no
+ * instance is in use anymore.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class GroovyScriptCache {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(GroovyScriptCache.class);
+
+    /** Default maximum number of cached script classes */
+    public static final int DEFAULT_CACHE_SIZE = 500;
+
+    /** Shared default cache instance */
+    private static GroovyScriptCache defaultCache;
+
+    /** Shared class loader compiling the scripts */
+    private final GroovyClassLoader classLoader;
+
+    /** Compiled script classes by script source hash */
+    private final Map<String, Class<?>> scriptClasses;
+
+    /** Cache statistics */
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Default constructor using default cache size.
+     */
+    public GroovyScriptCache() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor using maximum number of cached script classes.
+     * @param cacheSize
+     */
+    public GroovyScriptCache(final int cacheSize) {
+        this.classLoader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
+            public GroovyClassLoader run() {
+                return new GroovyClassLoader(GroovyScriptCache.class.getClassLoader());
+            }
+        });
+
+        this.scriptClasses = Collections.synchronizedMap(new LinkedHashMap<String, Class<?>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Class<?>> eldest) {
+                if (size() > cacheSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Gets the shared default cache instance.
+     * @return
+     */
+    public static synchronized GroovyScriptCache getDefault() {
+        if (defaultCache == null) {
+            defaultCache = new GroovyScriptCache();
+        }
+
+        return defaultCache;
+    }
+
+    /**
+     * Gets compiled class for given script source. Compiles the script when not cached yet.
+     * @param script
+     * @return
+     * @throws CompilationFailedException
+     */
+    public Class<?> getScriptClass(String script) {
+        String key = DigestUtils.md5DigestAsHex(script.getBytes(StandardCharsets.UTF_8));
+
+        Class<?> scriptClass = scriptClasses.get(key);
+        if (scriptClass != null) {
+            hits.incrementAndGet();
+            return scriptClass;
+        }
+
+        misses.incrementAndGet();
+        if (log.isDebugEnabled()) {
+            log.debug("Compiling Groovy script " + key);
+        }
+
+        scriptClass = classLoader.parseClass(script);
+
+        // this cache is the only holder of compiled classes so evicted classes can be unloaded
+        classLoader.clearCache();
+        scriptClasses.put(key, scriptClass);
+
+        return scriptClass;
+    }
+
+    /**
+     * Creates new instance of the compiled script class for given script source.
+     * @param script
+     * @return
+     * @throws CompilationFailedException
+     */
+    public GroovyObject newInstance(String script) {
+        try {
+            return (GroovyObject) getScriptClass(script).newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new CitrusRuntimeException("Failed to create Groovy script instance", e);
+        }
+    }
+
+    /**
+     * Removes all cached script classes.
+     */
+    public void clear() {
+        scriptClasses.clear();
+        classLoader.clearCache();
+    }
+
+    /**
+     * Gets the number of cached script classes.
+     * @return
+     */
+    public int getCachedScriptCount() {
+        return scriptClasses.size();
+    }
+
+    /**
+     * Gets the number of script lookups served from cache.
+     * @return
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of script lookups that had to compile the script.
+     * @return
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of script classes evicted from cache.
+     * @return
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Gets the ratio of script lookups served from cache.
+     * @return hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+}
@@ -105,7 +105,11 @@ public abstract class AbstractTestNGCitrusTest extends AbstractTestNGSpringConte
         TestCase testCase = testLoader.load();
         testCase.setGroups(testResult.getMethod().getGroups());
 
-        invokeTestMethod(testResult, method, testCase, ctx, invocationCount);
+        try {
+            invokeTestMethod(testResult, method, testCase, ctx, invocationCount);
+        } finally {
+            testLoader.release();
+        }
     }
 
     /**
@@ -311,7 +315,11 @@ public abstract class AbstractTestNGCitrusTest extends AbstractTestNGSpringConte
 
         resolveParameter(result, testNGMethod.getConstructorOrMethod().getMethod(), testCase, context, testNGMethod.getCurrentInvocationCount());
 
-        citrus.run(testCase, context);
+        try {
+            citrus.run(testCase, context);
+        } finally {
+            testLoader.release();
+        }
     }
 
     /**
@@ -18,6 +18,7 @@ package com.consol.citrus.util;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.*;
 import com.consol.citrus.xml.XmlConfigurer;
 import org.springframework.util.StringUtils;
 import org.w3c.dom.*;
@@ -336,6 +337,21 @@ public final class XMLUtils {
         return namespaces;
     }
 
+    /**
+     * Parse message payload with DOM implementation. Parsed document is cached with the message and shared
+     * with other callers as long as the message payload does not change. Callers must not modify the document.
+     * @param message
+     * @throws CitrusRuntimeException
+     * @return DOM document.
+     */
+    public static Document parseMessagePayload(Message message) {
+        if (message instanceof DefaultMessage) {
+            return ((DefaultMessage) message).getParsedPayload(MessageType.XML, payload -> parseMessagePayload(payload));
+        }
+
+        return parseMessagePayload(message.getPayload(String.class));
+    }
+
     /**
      * Parse message payload with DOM implementation.
      * @param messagePayload
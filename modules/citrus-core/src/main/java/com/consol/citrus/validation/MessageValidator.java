@@ -54,4 +54,17 @@ public interface MessageValidator<T extends ValidationContext> {
      * @return true if this message validator is capable of validating the message type.
      */
     boolean supportsMessageType(String messageType, Message message);
+
+    /**
+     * Checks if this message validator may be capable of this message type regardless of the actual message content. The
+     * {@link MessageValidatorRegistry} uses this check to index candidate validators per message type, only candidates are asked
+     * for support of the actual message. Default implementation does not restrict the message type so the validator is always
+     * asked for support of the actual message.
+     *
+     * @param messageType the message type representation as String (e.g. xml, json, csv, plaintext).
+     * @return false if this message validator is not capable of validating the message type at all.
+     */
+    default boolean supportsMessageType(String messageType) {
+        return true;
+    }
 }
\ No newline at end of file
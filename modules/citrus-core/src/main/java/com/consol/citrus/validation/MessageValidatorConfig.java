@@ -125,21 +125,21 @@ public class MessageValidatorConfig {
     public MessageValidatorRegistry getMessageValidatorRegistry() {
         MessageValidatorRegistry citrusMessageValidatorRegistry = new MessageValidatorRegistry();
 
-        citrusMessageValidatorRegistry.getMessageValidators().add(defaultXmlMessageValidator);
-        citrusMessageValidatorRegistry.getMessageValidators().add(defaultXpathMessageValidator);
-        citrusMessageValidatorRegistry.getMessageValidators().add(defaultGroovyXmlMessageValidator);
-        citrusMessageValidatorRegistry.getMessageValidators().add(defaultJsonMessageValidator);
-        citrusMessageValidatorRegistry.getMessageValidators().add(defaultJsonPathMessageValidator);
-        citrusMessageValidatorRegistry.getMessageValidators().add(defaultPlaintextMessageValidator);
-        citrusMessageValidatorRegistry.getMessageValidators().add(defaultMessageHeaderValidator);
-        citrusMessageValidatorRegistry.getMessageValidators().add(defaultBinaryMessageValidator);
-        citrusMessageValidatorRegistry.getMessageValidators().add(defaultBinaryBase64MessageValidator);
-        citrusMessageValidatorRegistry.getMessageValidators().add(defaultGzipBinaryBase64MessageValidator);
-
-        citrusMessageValidatorRegistry.getMessageValidators().add(defaultGroovyJsonMessageValidator);
-        citrusMessageValidatorRegistry.getMessageValidators().add(defaultGroovyTextMessageValidator);
-        citrusMessageValidatorRegistry.getMessageValidators().add(defaultXhtmlMessageValidator);
-        citrusMessageValidatorRegistry.getMessageValidators().add(defaultXhtmlXpathMessageValidator);
+        citrusMessageValidatorRegistry.addMessageValidator(defaultXmlMessageValidator);
+        citrusMessageValidatorRegistry.addMessageValidator(defaultXpathMessageValidator);
+        citrusMessageValidatorRegistry.addMessageValidator(defaultGroovyXmlMessageValidator);
+        citrusMessageValidatorRegistry.addMessageValidator(defaultJsonMessageValidator);
+        citrusMessageValidatorRegistry.addMessageValidator(defaultJsonPathMessageValidator);
+        citrusMessageValidatorRegistry.addMessageValidator(defaultPlaintextMessageValidator);
+        citrusMessageValidatorRegistry.addMessageValidator(defaultMessageHeaderValidator);
+        citrusMessageValidatorRegistry.addMessageValidator(defaultBinaryMessageValidator);
+        citrusMessageValidatorRegistry.addMessageValidator(defaultBinaryBase64MessageValidator);
+        citrusMessageValidatorRegistry.addMessageValidator(defaultGzipBinaryBase64MessageValidator);
+
+        citrusMessageValidatorRegistry.addMessageValidator(defaultGroovyJsonMessageValidator);
+        citrusMessageValidatorRegistry.addMessageValidator(defaultGroovyTextMessageValidator);
+        citrusMessageValidatorRegistry.addMessageValidator(defaultXhtmlMessageValidator);
+        citrusMessageValidatorRegistry.addMessageValidator(defaultXhtmlXpathMessageValidator);
 
         return citrusMessageValidatorRegistry;
     }
@@ -17,22 +17,26 @@
 package com.consol.citrus.validation;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import com.consol.citrus.message.Message;
-import com.consol.citrus.message.MessageType;
+import com.consol.citrus.message.*;
 import com.consol.citrus.validation.context.ValidationContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
-import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Simple registry holding all available message validator implementations. Test context can ask this registry for
  * matching validator implementation according to the message type (e.g. xml, json, csv, plaintext).
  * 
  * Registry tries to find a matching validator for the message.
+ *
+ * Registry keeps an index of candidate validators per message type. Candidates are those validators that do not rule out the
+ * message type regardless of the message content (see {@link MessageValidator#supportsMessageType(String)}). Only the candidates
+ * get asked for support of the actual message which avoids inspecting the message payload with each of the registered validators.
+ * Index is rebuilt when the list of registered validators is modified.
  * 
  * @author Christoph Deppisch
  */
@@ -45,7 +49,10 @@ public class MessageValidatorRegistry implements InitializingBean {
     public static final String BEAN_NAME = "citrusMessageValidatorRegistry";
 
     /** List of registered message validator implementations */
-    private List<MessageValidator<? extends ValidationContext>> messageValidators = new ArrayList<>();
+    private final List<MessageValidator<? extends ValidationContext>> messageValidators = new IndexedValidatorList();
+
+    /** Candidate validators per message type, replaced when registered validators are modified */
+    private volatile ConcurrentMap<String, List<MessageValidator<? extends ValidationContext>>> validatorIndex = new ConcurrentHashMap<>();
 
     /**
      * Finds matching message validators for this message type.
@@ -55,31 +62,26 @@ public class MessageValidatorRegistry implements InitializingBean {
      * @return the list of matching message validators.
      */
     public List<MessageValidator<? extends ValidationContext>> findMessageValidators(String messageType, Message message) {
-        List<MessageValidator<? extends ValidationContext>> matchingValidators = new ArrayList<>();
-
-        for (MessageValidator<? extends ValidationContext> validator : messageValidators) {
-            if (validator.supportsMessageType(messageType, message)) {
-                matchingValidators.add(validator);
-            }
-        }
+        List<MessageValidator<? extends ValidationContext>> matchingValidators = findMatchingValidators(messageType, message);
 
-        if (matchingValidators.isEmpty() || matchingValidators.stream().allMatch(validator -> DefaultMessageHeaderValidator.class.isAssignableFrom(validator.getClass()))) {
+        if (onlyHeaderValidators(matchingValidators)) {
             // try to find fallback message validator for given message payload
-            if (message.getPayload() instanceof String &&
-                    StringUtils.hasText(message.getPayload(String.class))) {
-                String payload = message.getPayload(String.class).trim();
-
-                if (payload.startsWith("<") && !messageType.equals(MessageType.XML.name())) {
-                    matchingValidators = findFallbackMessageValidators(MessageType.XML.name(), message);
-                } else if ((payload.trim().startsWith("{") || payload.trim().startsWith("[")) && !messageType.equals(MessageType.JSON.name())) {
-                    matchingValidators = findFallbackMessageValidators(MessageType.JSON.name(), message);
-                } else if (!messageType.equals(MessageType.PLAINTEXT.name())) {
-                    matchingValidators = findFallbackMessageValidators(MessageType.PLAINTEXT.name(), message);
+            if (message.getPayload() instanceof String) {
+                char start = MessagePayloadUtils.getFirstNonWhitespaceChar(message.getPayload(String.class));
+
+                if (start != 0) {
+                    if (start == '<' && !messageType.equals(MessageType.XML.name())) {
+                        matchingValidators = findMatchingValidators(MessageType.XML.name(), message);
+                    } else if ((start == '{' || start == '[') && !messageType.equals(MessageType.JSON.name())) {
+                        matchingValidators = findMatchingValidators(MessageType.JSON.name(), message);
+                    } else if (!messageType.equals(MessageType.PLAINTEXT.name())) {
+                        matchingValidators = findMatchingValidators(MessageType.PLAINTEXT.name(), message);
+                    }
                 }
             }
         }
 
-        if (matchingValidators.isEmpty() || matchingValidators.stream().allMatch(validator -> DefaultMessageHeaderValidator.class.isAssignableFrom(validator.getClass()))) {
+        if (onlyHeaderValidators(matchingValidators)) {
             throw new CitrusRuntimeException("Could not find proper message validator for message type '" +
                     messageType + "', please define a capable message validator for this message type");
         }
@@ -91,10 +93,16 @@ public class MessageValidatorRegistry implements InitializingBean {
         return matchingValidators;
     }
 
-    private List<MessageValidator<? extends ValidationContext>> findFallbackMessageValidators(String messageType, Message message) {
+    /**
+     * Finds validators supporting given message type and message. Only candidate validators from index are asked for support.
+     * @param messageType
+     * @param message
+     * @return
+     */
+    private List<MessageValidator<? extends ValidationContext>> findMatchingValidators(String messageType, Message message) {
         List<MessageValidator<? extends ValidationContext>> matchingValidators = new ArrayList<>();
 
-        for (MessageValidator<? extends ValidationContext> validator : messageValidators) {
+        for (MessageValidator<? extends ValidationContext> validator : getCandidateValidators(messageType)) {
             if (validator.supportsMessageType(messageType, message)) {
                 matchingValidators.add(validator);
             }
@@ -103,6 +111,48 @@ public class MessageValidatorRegistry implements InitializingBean {
         return matchingValidators;
     }
 
+    /**
+     * Gets candidate validators for message type from index. Index entry is created on first access.
+     * @param messageType
+     * @return
+     */
+    private List<MessageValidator<? extends ValidationContext>> getCandidateValidators(String messageType) {
+        return validatorIndex.computeIfAbsent(messageType, type -> {
+            List<MessageValidator<? extends ValidationContext>> candidates = new ArrayList<>();
+            synchronized (messageValidators) {
+                for (MessageValidator<? extends ValidationContext> validator : messageValidators) {
+                    if (validator.supportsMessageType(type)) {
+                        candidates.add(validator);
+                    }
+                }
+            }
+
+            return Collections.unmodifiableList(candidates);
+        });
+    }
+
+    /**
+     * Discards all index entries so candidates get collected from the current list of registered validators.
+     */
+    private void resetIndex() {
+        validatorIndex = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Checks if given validators are empty or only hold header validators.
+     * @param validators
+     * @return
+     */
+    private boolean onlyHeaderValidators(List<MessageValidator<? extends ValidationContext>> validators) {
+        for (MessageValidator<? extends ValidationContext> validator : validators) {
+            if (!DefaultMessageHeaderValidator.class.isAssignableFrom(validator.getClass())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * Check if we have at least one message validator available.
      */
@@ -114,16 +164,30 @@ public class MessageValidatorRegistry implements InitializingBean {
     }
 
     /**
-     * Sets available message validator implementations.
+     * Sets available message validator implementations. Given validators replace all registered validators.
      * @param messageValidators the messageValidators to set
      */
     public void setMessageValidators(
             List<MessageValidator<? extends ValidationContext>> messageValidators) {
-        this.messageValidators = messageValidators;
+        List<MessageValidator<? extends ValidationContext>> validators = new ArrayList<>(messageValidators);
+        synchronized (this.messageValidators) {
+            this.messageValidators.clear();
+            this.messageValidators.addAll(validators);
+        }
+    }
+
+    /**
+     * Adds message validator implementation.
+     * @param messageValidator
+     */
+    public void addMessageValidator(MessageValidator<? extends ValidationContext> messageValidator) {
+        synchronized (messageValidators) {
+            messageValidators.add(messageValidator);
+        }
     }
 
     /**
-     * Gets the message validators.
+     * Gets the message validators. Modifications of the returned list reset the message type index.
      * @return
      */
     public List<MessageValidator<? extends ValidationContext>> getMessageValidators() {
@@ -141,4 +205,65 @@ public class MessageValidatorRegistry implements InitializingBean {
                 .findFirst()
                 .orElse(null);
     }
+
+    /**
+     * Validator list resetting the message type index on each modification. List is based on {@link AbstractList} so all
+     * modifications including those made through iterators, list iterators, sub lists, sort and replace operations are
+     * routed through the overridden methods below.
+     */
+    private class IndexedValidatorList extends AbstractList<MessageValidator<? extends ValidationContext>> {
+
+        /** Registered validators */
+        private final List<MessageValidator<? extends ValidationContext>> validators = new ArrayList<>();
+
+        @Override
+        public MessageValidator<? extends ValidationContext> get(int index) {
+            return validators.get(index);
+        }
+
+        @Override
+        public int size() {
+            return validators.size();
+        }
+
+        @Override
+        public MessageValidator<? extends ValidationContext> set(int index, MessageValidator<? extends ValidationContext> validator) {
+            try {
+                return validators.set(index, validator);
+            } finally {
+                resetIndex();
+            }
+        }
+
+        @Override
+        public void add(int index, MessageValidator<? extends ValidationContext> validator) {
+            try {
+                validators.add(index, validator);
+                modCount++;
+            } finally {
+                resetIndex();
+            }
+        }
+
+        @Override
+        public MessageValidator<? extends ValidationContext> remove(int index) {
+            try {
+                MessageValidator<? extends ValidationContext> removed = validators.remove(index);
+                modCount++;
+                return removed;
+            } finally {
+                resetIndex();
+            }
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            try {
+                validators.subList(fromIndex, toIndex).clear();
+                modCount++;
+            } finally {
+                resetIndex();
+            }
+        }
+    }
 }
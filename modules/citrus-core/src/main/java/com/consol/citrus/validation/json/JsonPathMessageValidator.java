@@ -25,7 +25,6 @@ import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.ReadContext;
-import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,8 +54,7 @@ public class JsonPathMessageValidator extends AbstractMessageValidator<JsonPathM
 
         String jsonPathExpression;
         try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(receivedMessage.getPayload(String.class));
+            Object receivedJson = JsonPathUtils.parseMessagePayload(receivedMessage);
             ReadContext readerContext = JsonPath.parse(receivedJson);
 
             for (Map.Entry<String, Object> entry : validationContext.getJsonPathExpressions().entrySet()) {
@@ -87,6 +85,11 @@ public class JsonPathMessageValidator extends AbstractMessageValidator<JsonPathM
         return JsonPathMessageValidationContext.class;
     }
 
+    @Override
+    public boolean supportsMessageType(String messageType) {
+        return new JsonTextMessageValidator().supportsMessageType(messageType);
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         return new JsonTextMessageValidator().supportsMessageType(messageType, message);
@@ -25,7 +25,6 @@ import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.ReadContext;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
-import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,8 +57,7 @@ public class JsonPathVariableExtractor implements VariableExtractor {
 
         String jsonPathExpression;
         try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(message.getPayload(String.class));
+            Object receivedJson = JsonPathUtils.parseMessagePayload(message);
             ReadContext readerContext = JsonPath.parse(receivedJson);
 
             for (Map.Entry<String, String> entry : jsonPathExpressions.entrySet()) {
@@ -20,15 +20,19 @@ import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.json.JsonPathUtils;
 import com.consol.citrus.json.JsonSchemaRepository;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessagePayloadUtils;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
 import com.consol.citrus.validation.json.schema.JsonSchemaValidation;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.ReadContext;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
@@ -42,10 +46,7 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 /**
  * This message validator implementation is able to validate two JSON text objects. The order of JSON entries can differ
@@ -56,11 +57,17 @@ import java.util.Set;
  * Validator offers two different modes to operate. By default strict mode is set and the validator will also check the exact amount of
  * control object fields to match. No additional fields in received JSON data structure will be accepted. In soft mode validator
  * allows additional fields in received JSON data structure so the control JSON object can be a partial subset.
+ *
+ * Ignore expressions are evaluated once per validation on the received JSON document and resolved to the paths of all
+ * selected nodes. Entries are ignored when their path in the received document is one of these paths.
  * 
  * @author Christoph Deppisch
  */
 public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessageValidationContext> implements ApplicationContextAware {
 
+    /** JSONPath root of received document */
+    private static final String ROOT_PATH = "$";
+
     /** Should also check exact amount of object fields */
     @Value("${citrus.json.message.validation.strict:true}")
     private boolean strict = true;
@@ -108,7 +115,7 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
             
             JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
         
-            Object receivedJson = parser.parse(receivedJsonText);
+            Object receivedJson = JsonPathUtils.parseMessagePayload(receivedMessage);
             ReadContext readContext = JsonPath.parse(receivedJson);
             Object controlJson = parser.parse(controlJsonText);
             if (receivedJson instanceof JSONObject) {
@@ -119,7 +126,8 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
                 JSONObject tempControl = new JSONObject();
                 tempControl.put("array", controlJson);
                 
-                validateJson("$.", tempReceived, tempControl, validationContext, context, readContext);
+                validateJson("$.", tempReceived, tempControl, context,
+                        resolveIgnoredPaths(validationContext.getIgnoreExpressions(), readContext, ROOT_PATH + "['array']"));
             } else {
                 throw new CitrusRuntimeException("Unsupported json type " + receivedJson.getClass());
             }
@@ -155,7 +163,8 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
 
     /**
      * Validates JSON text with comparison to expected control JSON object.
-     * JSON entries can be ignored with ignore placeholder.
+     * JSON entries can be ignored with ignore placeholder. Ignore expressions are evaluated on the read context, so received JSON
+     * object has to be the root of the read context document.
      * 
      * @param elementName the current element name that is under verification in this method
      * @param receivedJson the received JSON text object.
@@ -164,86 +173,90 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
      * @param context the current test context.
      * @param readContext the JSONPath read context.
      */
-    @SuppressWarnings("rawtypes")
     public void validateJson(String elementName, JSONObject receivedJson, JSONObject controlJson, JsonMessageValidationContext validationContext, TestContext context, ReadContext readContext) {
+        validateJson(elementName, receivedJson, controlJson, context,
+                resolveIgnoredPaths(validationContext.getIgnoreExpressions(), readContext, ROOT_PATH));
+    }
+
+    /**
+     * Validates received JSON document root object. Entry paths are only tracked when there are paths to ignore.
+     *
+     * @param elementName the current element name that is under verification in this method
+     * @param receivedJson the received JSON text object.
+     * @param controlJson the expected control JSON text.
+     * @param context the current test context.
+     * @param ignoredPaths received JSON paths to ignore.
+     */
+    private void validateJson(String elementName, JSONObject receivedJson, JSONObject controlJson, TestContext context, Set<String> ignoredPaths) {
+        validateJson(elementName, ignoredPaths.isEmpty() ? null : ROOT_PATH, receivedJson, controlJson, context, ignoredPaths);
+    }
+
+    /**
+     * Validates JSON object entries recursively. Received JSON entries whose path is contained in given ignored paths
+     * are skipped. Error messages are only built in case validation fails.
+     *
+     * @param elementName the current element name that is under verification in this method
+     * @param path the path of the received JSON object, null when there are no ignored paths.
+     * @param receivedJson the received JSON text object.
+     * @param controlJson the expected control JSON text.
+     * @param context the current test context.
+     * @param ignoredPaths received JSON paths to ignore.
+     */
+    private void validateJson(String elementName, String path, JSONObject receivedJson, JSONObject controlJson, TestContext context, Set<String> ignoredPaths) {
         if (strict) {
             Assert.isTrue(controlJson.size() == receivedJson.size(),
-                          ValidationUtils.buildValueMismatchErrorMessage("Number of JSON entries not equal for element: '" + elementName + "'", controlJson.size(), receivedJson.size()));
+                          () -> ValidationUtils.buildValueMismatchErrorMessage("Number of JSON entries not equal for element: '" + elementName + "'", controlJson.size(), receivedJson.size()));
         }
 
         for (Map.Entry<String, Object> controlJsonEntry : controlJson.entrySet()) {
             String controlKey = controlJsonEntry.getKey();
 
             Assert.isTrue(receivedJson.containsKey(controlKey),
-                    "Missing JSON entry: + '" + controlKey + "'");
+                    () -> "Missing JSON entry: + '" + controlKey + "'");
 
             Object controlValue = controlJsonEntry.getValue();
             Object receivedValue = receivedJson.get(controlKey);
+            String entryPath = path != null ? path + "['" + controlKey + "']" : null;
 
             // check if entry is ignored by placeholder
-            if (isIgnored(controlKey, controlValue, receivedValue, validationContext.getIgnoreExpressions(), readContext)) {
+            if (isIgnored(controlKey, controlValue, entryPath, ignoredPaths)) {
                 continue;
             }
 
             if (controlValue == null) {
                 Assert.isTrue(receivedValue == null,
-                        ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
+                        () -> ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
                                 null, receivedValue));
             } else if (receivedValue != null) {
-                if (ValidationMatcherUtils.isValidationMatcherExpression(controlValue.toString())) {
-                    ValidationMatcherUtils.resolveValidationMatcher(controlKey,
-                            receivedValue.toString(),
-                            controlValue.toString(), context);
-                } else if (controlValue instanceof JSONObject) {
+                if (controlValue instanceof JSONObject) {
                     Assert.isTrue(receivedValue instanceof JSONObject,
-                            ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
+                            () -> ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
                                     JSONObject.class.getSimpleName(), receivedValue.getClass().getSimpleName()));
 
-                    validateJson(controlKey, (JSONObject) receivedValue,
-                            (JSONObject) controlValue, validationContext, context, readContext);
+                    validateJson(controlKey, entryPath, (JSONObject) receivedValue,
+                            (JSONObject) controlValue, context, ignoredPaths);
                 } else if (controlValue instanceof JSONArray) {
                     Assert.isTrue(receivedValue instanceof JSONArray,
-                            ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
+                            () -> ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
                                     JSONArray.class.getSimpleName(), receivedValue.getClass().getSimpleName()));
 
-                    JSONArray jsonArrayControl = (JSONArray) controlValue;
-                    JSONArray jsonArrayReceived = (JSONArray) receivedValue;
-
-                    if (log.isDebugEnabled()) {
-                        log.debug("Validating JSONArray containing " + jsonArrayControl.size() + " entries");
-                    }
-
-                    if (strict) {
-                        Assert.isTrue(jsonArrayControl.size() == jsonArrayReceived.size(),
-                                ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + controlKey + "'",
-                                        jsonArrayControl.size(), jsonArrayReceived.size()));
-                    }
-                    for (int i = 0; i < jsonArrayControl.size(); i++) {
-                        if (jsonArrayControl.get(i).getClass().isAssignableFrom(JSONObject.class)) {
-                            Assert.isTrue(jsonArrayReceived.get(i).getClass().isAssignableFrom(JSONObject.class),
-                                    ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + jsonArrayControl.get(i) + "'",
-                                            JSONObject.class.getName(), jsonArrayReceived.get(i).getClass().getName()));
-
-                            validateJson(controlKey, (JSONObject) jsonArrayReceived.get(i),
-                                    (JSONObject) jsonArrayControl.get(i), validationContext, context, readContext);
-                        } else {
-                            Assert.isTrue(jsonArrayControl.get(i).equals(jsonArrayReceived.get(i)),
-                                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + jsonArrayControl.get(i) + "'",
-                                            jsonArrayControl.get(i), jsonArrayReceived.get(i)));
-                        }
-                    }
+                    validateJsonArray(controlKey, entryPath, (JSONArray) receivedValue, (JSONArray) controlValue, context, ignoredPaths);
+                } else if (isValidationMatcherExpression(controlValue)) {
+                    ValidationMatcherUtils.resolveValidationMatcher(controlKey,
+                            receivedValue.toString(),
+                            controlValue.toString(), context);
                 } else {
                     Assert.isTrue(controlValue.equals(receivedValue),
-                            ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
+                            () -> ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
                                     controlValue, receivedValue));
                 }
-            } else if (ValidationMatcherUtils.isValidationMatcherExpression(controlValue.toString())) {
+            } else if (isValidationMatcherExpression(controlValue)) {
                 ValidationMatcherUtils.resolveValidationMatcher(controlKey,
                         null,
                         controlValue.toString(), context);
             } else {
                 Assert.isTrue(!StringUtils.hasText(controlValue.toString()),
-                        ValidationUtils.buildValueMismatchErrorMessage(
+                        () -> ValidationUtils.buildValueMismatchErrorMessage(
                                 "Values not equal for entry '" + controlKey + "'", controlValue.toString(), null));
             }
 
@@ -253,16 +266,97 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         }
     }
 
+    /**
+     * Validates JSON array entries in order.
+     *
+     * @param controlKey the JSON entry holding the array.
+     * @param path the path of the received JSON array, null when there are no ignored paths.
+     * @param jsonArrayReceived the received JSON array.
+     * @param jsonArrayControl the expected control JSON array.
+     * @param context the current test context.
+     * @param ignoredPaths received JSON paths to ignore.
+     */
+    private void validateJsonArray(String controlKey, String path, JSONArray jsonArrayReceived, JSONArray jsonArrayControl, TestContext context, Set<String> ignoredPaths) {
+        if (log.isDebugEnabled()) {
+            log.debug("Validating JSONArray containing " + jsonArrayControl.size() + " entries");
+        }
+
+        if (strict) {
+            Assert.isTrue(jsonArrayControl.size() == jsonArrayReceived.size(),
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + controlKey + "'",
+                            jsonArrayControl.size(), jsonArrayReceived.size()));
+        }
+
+        for (int i = 0; i < jsonArrayControl.size(); i++) {
+            Object controlItem = jsonArrayControl.get(i);
+            Object receivedItem = jsonArrayReceived.get(i);
+
+            if (controlItem.getClass().isAssignableFrom(JSONObject.class)) {
+                Assert.isTrue(receivedItem.getClass().isAssignableFrom(JSONObject.class),
+                        () -> ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + controlItem + "'",
+                                JSONObject.class.getName(), receivedItem.getClass().getName()));
+
+                validateJson(controlKey, path != null ? path + "[" + i + "]" : null, (JSONObject) receivedItem,
+                        (JSONObject) controlItem, context, ignoredPaths);
+            } else {
+                Assert.isTrue(controlItem.equals(receivedItem),
+                        () -> ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlItem + "'",
+                                controlItem, receivedItem));
+            }
+        }
+    }
+
+    /**
+     * Checks if control value is a validation matcher expression. Only text values can hold validation matchers so
+     * nested JSON objects and arrays are not serialized for this check.
+     * @param controlValue
+     * @return
+     */
+    private boolean isValidationMatcherExpression(Object controlValue) {
+        return controlValue instanceof String && ValidationMatcherUtils.isValidationMatcherExpression((String) controlValue);
+    }
+
+    /**
+     * Evaluates all ignore expressions once on the received JSON document and collects the paths of
+     * all matching JSON nodes. When an expression matches multiple nodes each of the nodes is ignored. Paths are
+     * given in bracket notation (e.g. $['items'][0]['id']) with the document root replaced by given root path.
+     * @param ignoreExpressions
+     * @param readContext
+     * @param rootPath
+     * @return
+     */
+    private Set<String> resolveIgnoredPaths(Set<String> ignoreExpressions, ReadContext readContext, String rootPath) {
+        if (ignoreExpressions.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        ReadContext pathContext = JsonPath.using(Configuration.builder().options(Option.AS_PATH_LIST).build()).parse((Object) readContext.json());
+
+        Set<String> ignoredPaths = new HashSet<>();
+        for (String jsonPathExpression : ignoreExpressions) {
+            List<String> foundPaths = pathContext.read(jsonPathExpression);
+
+            for (String foundPath : foundPaths) {
+                ignoredPaths.add(rootPath + foundPath.substring(ROOT_PATH.length()));
+            }
+        }
+
+        return ignoredPaths;
+    }
+
     /**
      * Checks if given element node is either on ignore list or
-     * contains @ignore@ tag inside control message
+     * contains @ignore@ tag inside control message. Evaluates all ignore expressions on each call and
+     * ignores received values equal to one of the selected nodes.
      * @param controlKey
      * @param controlValue
      * @param receivedJson
      * @param ignoreExpressions
      * @param readContext
      * @return
+     * @deprecated validation uses ignore expressions resolved once per message to paths and ignores only entries on these paths
      */
+    @Deprecated
     public boolean isIgnored(String controlKey, Object controlValue, Object receivedJson, Set<String> ignoreExpressions, ReadContext readContext) {
         if (controlValue != null && controlValue.toString().trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
             if (log.isDebugEnabled()) {
@@ -293,11 +387,44 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         return false;
     }
 
+    /**
+     * Checks if given element path is either one of the ignored paths or
+     * contains @ignore@ tag inside control message
+     * @param controlKey
+     * @param controlValue
+     * @param path
+     * @param ignoredPaths
+     * @return
+     */
+    private boolean isIgnored(String controlKey, Object controlValue, String path, Set<String> ignoredPaths) {
+        if (controlValue instanceof String && ((String) controlValue).trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
+            if (log.isDebugEnabled()) {
+                log.debug("JSON entry: '" + controlKey + "' is ignored by placeholder '" +
+                        Citrus.IGNORE_PLACEHOLDER + "'");
+            }
+            return true;
+        }
+
+        if (path != null && ignoredPaths.contains(path)) {
+            if (log.isDebugEnabled()) {
+                log.debug("JSON entry: '" + controlKey + "' is ignored - skip value validation");
+            }
+            return true;
+        }
+
+        return false;
+    }
+
     @Override
     protected Class<JsonMessageValidationContext> getRequiredValidationContextType() {
         return JsonMessageValidationContext.class;
     }
 
+    @Override
+    public boolean supportsMessageType(String messageType) {
+        return messageType.equalsIgnoreCase(MessageType.JSON.name());
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         if (!messageType.equalsIgnoreCase(MessageType.JSON.name())) {
@@ -308,9 +435,8 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
             return false;
         }
 
-        if (StringUtils.hasText(message.getPayload(String.class)) &&
-                !message.getPayload(String.class).trim().startsWith("{") &&
-                !message.getPayload(String.class).trim().startsWith("[")) {
+        String payload = message.getPayload(String.class);
+        if (MessagePayloadUtils.hasText(payload) && !MessagePayloadUtils.isJson(payload)) {
             return false;
         }
 
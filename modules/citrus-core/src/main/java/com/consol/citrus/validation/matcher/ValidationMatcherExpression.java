@@ -0,0 +1,154 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.matcher;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.variable.VariableUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parsed validation matcher expression holding library prefix, matcher name and matcher value. Control values
+ * are extracted from the matcher value once per control expression parser type and reused on subsequent
+ * validations. Instances are immutable except for the extracted control values and safe to share between threads.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class ValidationMatcherExpression {
+
+    /** Validation matcher library prefix */
+    private final String prefix;
+
+    /** Validation matcher name */
+    private final String name;
+
+    /** Matcher value in function body */
+    private final String value;
+
+    /** Control values extracted by the last used control expression parser */
+    private volatile ParsedControlValues controlValues;
+
+    /**
+     * Default constructor using prefix, name and value.
+     * @param prefix
+     * @param name
+     * @param value
+     */
+    private ValidationMatcherExpression(String prefix, String name, String value) {
+        this.prefix = prefix;
+        this.name = name;
+        this.value = value;
+    }
+
+    /**
+     * Parses validation matcher expression with or without validation matcher prefix and suffix.
+     * @param validationMatcherExpression
+     * @return
+     */
+    public static ValidationMatcherExpression parse(String validationMatcherExpression) {
+        String expression = VariableUtils.cutOffVariablesPrefix(cutOffValidationMatchersPrefix(validationMatcherExpression));
+
+        if (expression.equals("ignore")) {
+            expression += "()";
+        }
+
+        int bodyStart = expression.indexOf('(');
+        if (bodyStart < 0) {
+            throw new CitrusRuntimeException("Illegal syntax for validation matcher expression - missing validation value in '()' function body");
+        }
+
+        String prefix = "";
+        if (expression.indexOf(':') > 0 && expression.indexOf(':') < bodyStart) {
+            prefix = expression.substring(0, expression.indexOf(':') + 1);
+        }
+
+        String matcherValue = expression.substring(bodyStart + 1, expression.length() - 1);
+        String matcherName = expression.substring(prefix.length(), bodyStart);
+
+        return new ValidationMatcherExpression(prefix, matcherName, matcherValue);
+    }
+
+    /**
+     * Cut off validation matchers prefix and suffix.
+     * @param expression
+     * @return
+     */
+    private static String cutOffValidationMatchersPrefix(String expression) {
+        if (expression.startsWith(Citrus.VALIDATION_MATCHER_PREFIX) && expression.endsWith(Citrus.VALIDATION_MATCHER_SUFFIX)) {
+            return expression.substring(Citrus.VALIDATION_MATCHER_PREFIX.length(), expression.length() - Citrus.VALIDATION_MATCHER_SUFFIX.length());
+        }
+
+        return expression;
+    }
+
+    /**
+     * Gets control values extracted from matcher value with given parser. Extracted values are reused as long as
+     * the same type of control expression parser is used.
+     * @param controlExpressionParser
+     * @return unmodifiable list of control values
+     */
+    public List<String> getControlValues(ControlExpressionParser controlExpressionParser) {
+        ParsedControlValues parsed = controlValues;
+        if (parsed == null || !parsed.parserType.equals(controlExpressionParser.getClass())) {
+            parsed = new ParsedControlValues(controlExpressionParser.getClass(),
+                    Collections.unmodifiableList(controlExpressionParser.extractControlValues(value, null)));
+            controlValues = parsed;
+        }
+
+        return parsed.values;
+    }
+
+    /**
+     * Gets the prefix.
+     * @return
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Gets the name.
+     * @return
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the value.
+     * @return
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Control values along with the parser type that extracted them.
+     */
+    private static final class ParsedControlValues {
+        private final Class<?> parserType;
+        private final List<String> values;
+
+        ParsedControlValues(Class<?> parserType, List<String> values) {
+            this.parserType = parserType;
+            this.values = values;
+        }
+    }
+}
@@ -18,13 +18,12 @@ package com.consol.citrus.validation.matcher;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
-import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.functions.FunctionUtils;
 import com.consol.citrus.variable.VariableUtils;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for validation matchers.
@@ -33,6 +32,15 @@ import java.util.List;
  */
 public final class ValidationMatcherUtils {
 
+    /** Maximum number of cached validation matcher expressions */
+    private static final int EXPRESSION_CACHE_SIZE = 10000;
+
+    /** Control expression parser used for validation matchers without custom parser */
+    private static final ControlExpressionParser DEFAULT_CONTROL_EXPRESSION_PARSER = new DefaultControlExpressionParser();
+
+    /** Parsed validation matcher expressions by expression string */
+    private static final Map<String, ValidationMatcherExpression> expressionCache = new ConcurrentHashMap<>();
+
     /**
      * Prevent class instantiation.
      */
@@ -47,34 +55,38 @@ public final class ValidationMatcherUtils {
      */
     public static void resolveValidationMatcher(String fieldName, String fieldValue, 
             String validationMatcherExpression, TestContext context) {
-        String expression = VariableUtils.cutOffVariablesPrefix(cutOffValidationMatchersPrefix(validationMatcherExpression));
-
-        if (expression.equals("ignore")) {
-            expression += "()";
-        }
-
-        int bodyStart = expression.indexOf('(');
-        if (bodyStart < 0) {
-            throw new CitrusRuntimeException("Illegal syntax for validation matcher expression - missing validation value in '()' function body");
-        }
-        
-        String prefix = "";
-        if (expression.indexOf(':') > 0 && expression.indexOf(':') < bodyStart) {
-            prefix = expression.substring(0, expression.indexOf(':') + 1);
-        }
-
-        String matcherValue = expression.substring(bodyStart + 1, expression.length() - 1);
-        String matcherName = expression.substring(prefix.length(), bodyStart);
+        ValidationMatcherExpression expression = getValidationMatcherExpression(validationMatcherExpression);
 
-        ValidationMatcherLibrary library = context.getValidationMatcherRegistry().getLibraryForPrefix(prefix);
-        ValidationMatcher validationMatcher = library.getValidationMatcher(matcherName);
+        ValidationMatcherLibrary library = context.getValidationMatcherRegistry().getLibraryForPrefix(expression.getPrefix());
+        ValidationMatcher validationMatcher = library.getValidationMatcher(expression.getName());
 
         ControlExpressionParser controlExpressionParser = lookupControlExpressionParser(validationMatcher);
-        List<String> params = controlExpressionParser.extractControlValues(matcherValue, null);
+        List<String> params = expression.getControlValues(controlExpressionParser);
         List<String> replacedParams = replaceVariablesAndFunctionsInParameters(params, context);
         validationMatcher.validate(fieldName, fieldValue, replacedParams, context);
     }
 
+    /**
+     * Gets parsed validation matcher expression from cache. Parses and caches expression on first usage. Cache is
+     * bounded and gets cleared when maximum number of cached expressions is reached.
+     * @param validationMatcherExpression
+     * @return
+     */
+    private static ValidationMatcherExpression getValidationMatcherExpression(String validationMatcherExpression) {
+        ValidationMatcherExpression expression = expressionCache.get(validationMatcherExpression);
+        if (expression == null) {
+            expression = ValidationMatcherExpression.parse(validationMatcherExpression);
+
+            if (expressionCache.size() >= EXPRESSION_CACHE_SIZE) {
+                expressionCache.clear();
+            }
+
+            expressionCache.put(validationMatcherExpression, expression);
+        }
+
+        return expression;
+    }
+
     private static List<String> replaceVariablesAndFunctionsInParameters(List<String> params, TestContext context) {
         List<String> replacedParams = new ArrayList<>(params.size());
         for (String param : params) {
@@ -95,24 +107,11 @@ public final class ValidationMatcherUtils {
                 expression.endsWith(Citrus.VALIDATION_MATCHER_SUFFIX);
     }
     
-    /**
-     * Cut off validation matchers prefix and suffix.
-     * @param expression
-     * @return
-     */
-    private static String cutOffValidationMatchersPrefix(String expression) {
-        if (expression.startsWith(Citrus.VALIDATION_MATCHER_PREFIX) && expression.endsWith(Citrus.VALIDATION_MATCHER_SUFFIX)) {
-            return expression.substring(Citrus.VALIDATION_MATCHER_PREFIX.length(), expression.length() - Citrus.VALIDATION_MATCHER_SUFFIX.length());
-        }
-
-        return expression;
-    }
-
     private static ControlExpressionParser lookupControlExpressionParser(ValidationMatcher validationMatcher) {
         if (validationMatcher instanceof ControlExpressionParser) {
             return (ControlExpressionParser) validationMatcher;
         }
-        return new DefaultControlExpressionParser();
+        return DEFAULT_CONTROL_EXPRESSION_PARSER;
     }
 
     public static String getParameterListAsString(List<String> parameters) {
@@ -21,21 +21,31 @@ import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.validation.matcher.ValidationMatcher;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 /**
- * ValidationMatcher based on String.matches()
+ * ValidationMatcher based on regular expression matching like String.matches(). Compiled patterns are cached
+ * and reused for subsequent validations with the same control expression.
  * 
  * @author Christian Wied
  */
 public class MatchesValidationMatcher implements ValidationMatcher {
 
+    /** Maximum number of cached patterns */
+    private static final int PATTERN_CACHE_SIZE = 1000;
+
+    /** Compiled patterns by regular expression */
+    private final Map<String, Pattern> patternCache = new ConcurrentHashMap<>();
+
     public void validate(String fieldName, String value, List<String> controlParameters, TestContext context) throws ValidationException {
 		String control = controlParameters.get(0);
     	boolean success;
 
     	try {
-    		success = value.matches(control);
+    		success = getPattern(control).matcher(value).matches();
     	} catch (PatternSyntaxException e) {
     		throw new ValidationException(this.getClass().getSimpleName()
                     + " failed for field '" + fieldName
@@ -49,4 +59,24 @@ public class MatchesValidationMatcher implements ValidationMatcher {
                     + "', control value is '" + control + "'");
         }
     }
+
+    /**
+     * Gets compiled pattern for regular expression from cache. Compiles and caches pattern on first usage.
+     * @param regex
+     * @return
+     */
+    private Pattern getPattern(String regex) {
+        Pattern pattern = patternCache.get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+
+            if (patternCache.size() >= PATTERN_CACHE_SIZE) {
+                patternCache.clear();
+            }
+
+            patternCache.put(regex, pattern);
+        }
+
+        return pattern;
+    }
 }
@@ -36,6 +36,11 @@ public class GroovyJsonMessageValidator extends GroovyScriptMessageValidator {
         super(new ClassPathResource("com/consol/citrus/validation/json-validation-template.groovy"));
     }
 
+    @Override
+    public boolean supportsMessageType(String messageType) {
+        return new JsonTextMessageValidator().supportsMessageType(messageType);
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         // only support json message type
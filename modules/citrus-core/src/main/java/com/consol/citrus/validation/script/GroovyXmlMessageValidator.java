@@ -37,6 +37,12 @@ public class GroovyXmlMessageValidator extends GroovyScriptMessageValidator {
         super(new ClassPathResource("com/consol/citrus/validation/xml-validation-template.groovy"));
     }
     
+    @Override
+    public boolean supportsMessageType(String messageType) {
+        return new DomXmlMessageValidator().supportsMessageType(messageType) ||
+                new XhtmlMessageValidator().supportsMessageType(messageType);
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         // only support xml message type
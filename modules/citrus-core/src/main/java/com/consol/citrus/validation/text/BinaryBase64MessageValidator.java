@@ -41,6 +41,11 @@ public class BinaryBase64MessageValidator extends PlainTextMessageValidator {
         super.validateMessage(receivedMessage, controlMessage, context, validationContext);
     }
     
+    @Override
+    public boolean supportsMessageType(String messageType) {
+        return messageType.equalsIgnoreCase(MessageType.BINARY_BASE64.toString());
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         return messageType.equalsIgnoreCase(MessageType.BINARY_BASE64.toString());
@@ -75,6 +75,11 @@ public class BinaryMessageValidator extends DefaultMessageValidator {
         }
     }
 
+    @Override
+    public boolean supportsMessageType(String messageType) {
+        return messageType.equalsIgnoreCase(MessageType.BINARY.toString());
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         return messageType.equalsIgnoreCase(MessageType.BINARY.toString());
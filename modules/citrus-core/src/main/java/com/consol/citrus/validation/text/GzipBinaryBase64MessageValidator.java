@@ -54,6 +54,11 @@ public class GzipBinaryBase64MessageValidator extends BinaryBase64MessageValidat
         super.validateMessage(receivedMessage, controlMessage, context, validationContext);
     }
     
+    @Override
+    public boolean supportsMessageType(String messageType) {
+        return messageType.equalsIgnoreCase(MessageType.GZIP_BASE64.toString());
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         return messageType.equalsIgnoreCase(MessageType.GZIP_BASE64.toString());
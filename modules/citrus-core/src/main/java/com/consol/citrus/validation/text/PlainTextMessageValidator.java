@@ -218,6 +218,11 @@ public class PlainTextMessageValidator extends DefaultMessageValidator {
         return payload;
     }
 
+    @Override
+    public boolean supportsMessageType(String messageType) {
+        return messageType.equalsIgnoreCase(MessageType.PLAINTEXT.toString());
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         return messageType.equalsIgnoreCase(MessageType.PLAINTEXT.toString());
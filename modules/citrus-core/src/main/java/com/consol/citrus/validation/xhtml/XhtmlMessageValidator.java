@@ -44,6 +44,11 @@ public class XhtmlMessageValidator extends DomXmlMessageValidator implements Ini
                 controlMessage, context, validationContext);
     }
     
+    @Override
+    public boolean supportsMessageType(String messageType) {
+        return messageType.equalsIgnoreCase(MessageType.XHTML.name());
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         return super.supportsMessageType(MessageType.XML.name(), message)
@@ -41,6 +41,11 @@ public class XhtmlXpathMessageValidator extends XpathMessageValidator implements
                 controlMessage, context, validationContext);
     }
 
+    @Override
+    public boolean supportsMessageType(String messageType) {
+        return messageType.equalsIgnoreCase(MessageType.XHTML.name());
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         return messageType.equalsIgnoreCase(MessageType.XHTML.name());
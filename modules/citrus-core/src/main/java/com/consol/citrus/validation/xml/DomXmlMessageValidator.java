@@ -81,6 +81,9 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
     /** Transformer factory */
     private TransformerFactory transformerFactory = TransformerFactory.newInstance();
 
+    /** Compiled schema validators */
+    private XsdSchemaValidatorCache schemaValidatorCache = new XsdSchemaValidatorCache();
+
     @Override
     public void validateMessage(Message receivedMessage, Message controlMessage,
                                 TestContext context, XmlMessageValidationContext validationContext) throws ValidationException {
@@ -141,7 +144,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
 
         try {
-            Document doc = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+            Document doc = XMLUtils.parseMessagePayload(receivedMessage);
 
             if (!StringUtils.hasText(doc.getFirstChild().getNamespaceURI())) {
                 return;
@@ -152,7 +155,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             XmlValidator validator = null;
             XsdSchemaRepository schemaRepository = null;
             if (validationContext.getSchema() != null) {
-                validator = applicationContext.getBean(validationContext.getSchema(), XsdSchema.class).createValidator();
+                final XsdSchema schema = applicationContext.getBean(validationContext.getSchema(), XsdSchema.class);
+                validator = schemaValidatorCache.getValidator(schema, Collections.singletonList(schema), schema::createValidator);
             } else if (validationContext.getSchemaRepository() != null) {
                 schemaRepository = applicationContext.getBean(validationContext.getSchemaRepository(), XsdSchemaRepository.class);
             } else if (schemaRepositories.size() == 1) {
@@ -181,30 +185,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                             schemaRepository.getName()));
                 }
 
-                List<Resource> schemas = new ArrayList<>();
-                for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
-                    if (xsdSchema instanceof XsdSchemaCollection) {
-                        for (Resource resource : ((XsdSchemaCollection) xsdSchema).getSchemaResources()) {
-                            schemas.add(resource);
-                        }                            
-                    } else if (xsdSchema instanceof WsdlXsdSchema) {
-                        for (Resource resource : ((WsdlXsdSchema) xsdSchema).getSchemaResources()) {
-                            schemas.add(resource);
-                        }
-                    } else {
-                        synchronized (transformerFactory) {
-                            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                            try {
-                                transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
-                            } catch (TransformerException e) {
-                                throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
-                            }
-                            schemas.add(new ByteArrayResource(bos.toByteArray()));
-                        }
-                    }
-                }
-                
-                validator = XmlValidatorFactory.createValidator(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+                final XsdSchemaRepository repository = schemaRepository;
+                validator = schemaValidatorCache.getValidator(repository, repository.getSchemas(), () -> createValidator(repository));
             }
             
             SAXParseException[] results = validator.validate(new DOMSource(doc));
@@ -230,6 +212,42 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
     }
 
+    /**
+     * Compiles validator for all schemas in given schema repository.
+     * @param schemaRepository
+     * @return
+     */
+    private XmlValidator createValidator(XsdSchemaRepository schemaRepository) {
+        List<Resource> schemas = new ArrayList<>();
+        for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
+            if (xsdSchema instanceof XsdSchemaCollection) {
+                for (Resource resource : ((XsdSchemaCollection) xsdSchema).getSchemaResources()) {
+                    schemas.add(resource);
+                }
+            } else if (xsdSchema instanceof WsdlXsdSchema) {
+                for (Resource resource : ((WsdlXsdSchema) xsdSchema).getSchemaResources()) {
+                    schemas.add(resource);
+                }
+            } else {
+                synchronized (transformerFactory) {
+                    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                    try {
+                        transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
+                    } catch (TransformerException e) {
+                        throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
+                    }
+                    schemas.add(new ByteArrayResource(bos.toByteArray()));
+                }
+            }
+        }
+
+        try {
+            return XmlValidatorFactory.createValidator(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to create schema validator for schema repository " + schemaRepository.getName(), e);
+        }
+    }
+
     /**
      * Validate namespaces in message. The method compares namespace declarations in the root
      * element of the received message to expected namespaces. Prefixes are important too, so
@@ -247,7 +265,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         log.debug("Start XML namespace validation");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = XMLUtils.parseMessagePayload(receivedMessage);
 
         Map<String, String> foundNamespaces = XMLUtils.lookupNamespaces(receivedMessage.getPayload(String.class));
 
@@ -344,7 +362,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         log.debug("Start XML tree validation ...");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        // work on a copy of the shared parsed payload as whitespace nodes get stripped
+        Document received = (Document) XMLUtils.parseMessagePayload(receivedMessage).cloneNode(true);
         Document source = XMLUtils.parseMessagePayload(controlMessagePayload);
 
         XMLUtils.stripWhitespaceNodes(received);
@@ -720,6 +739,11 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         return XmlMessageValidationContext.class;
     }
 
+    @Override
+    public boolean supportsMessageType(String messageType) {
+        return messageType.equalsIgnoreCase(MessageType.XML.name());
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         if (!messageType.equalsIgnoreCase(MessageType.XML.name())) {
@@ -730,8 +754,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             return false;
         }
 
-        if (StringUtils.hasText(message.getPayload(String.class)) &&
-                !message.getPayload(String.class).trim().startsWith("<")) {
+        String payload = message.getPayload(String.class);
+        if (MessagePayloadUtils.hasText(payload) && !MessagePayloadUtils.isXml(payload)) {
             return false;
         }
 
@@ -756,4 +780,12 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
     }
+
+    /**
+     * Gets the schema validator cache providing cache hit and miss statistics.
+     * @return
+     */
+    public XsdSchemaValidatorCache getSchemaValidatorCache() {
+        return schemaValidatorCache;
+    }
 }
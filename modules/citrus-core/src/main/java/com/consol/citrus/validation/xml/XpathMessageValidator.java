@@ -60,7 +60,7 @@ public class XpathMessageValidator extends AbstractMessageValidator<XpathMessage
 
         log.debug("Start XPath element validation ...");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = XMLUtils.parseMessagePayload(receivedMessage);
         NamespaceContext namespaceContext = namespaceContextBuilder.buildContext(
                 receivedMessage, validationContext.getNamespaces());
 
@@ -124,6 +124,11 @@ public class XpathMessageValidator extends AbstractMessageValidator<XpathMessage
         return XpathMessageValidationContext.class;
     }
 
+    @Override
+    public boolean supportsMessageType(String messageType) {
+        return new DomXmlMessageValidator().supportsMessageType(messageType);
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         return new DomXmlMessageValidator().supportsMessageType(messageType, message);
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml;
+
+import org.springframework.xml.validation.XmlValidator;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache holds compiled XML schema validators per schema source (e.g. schema repository or single schema). Cached validators
+ * hold the compiled schema and create a new JAXP validator for each validation so they are safe to share between threads.
+ *
+ * Cache entries remember the list of schemas they have been compiled from. When the list of schemas changes the validator is
+ * compiled again.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class XsdSchemaValidatorCache {
+
+    /** Cached validators by schema source identity */
+    private final Map<Object, CacheEntry> validators = Collections.synchronizedMap(new IdentityHashMap<Object, CacheEntry>());
+
+    /** Lock objects per schema source so compilation happens only once */
+    private final Map<Object, Object> locks = new ConcurrentHashMap<>();
+
+    /** Cache statistics */
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Gets cached validator for given schema source or compiles a new validator with given factory.
+     * @param source the schema source such as schema repository or schema instance.
+     * @param schemas the list of schemas the validator is compiled from.
+     * @param factory compiles the validator.
+     * @return
+     */
+    public XmlValidator getValidator(Object source, List<?> schemas, Supplier<XmlValidator> factory) {
+        CacheEntry entry = validators.get(source);
+        if (entry != null && entry.schemas.equals(schemas)) {
+            hits.incrementAndGet();
+            return entry.validator;
+        }
+
+        synchronized (locks.computeIfAbsent(source, key -> new Object())) {
+            entry = validators.get(source);
+            if (entry != null && entry.schemas.equals(schemas)) {
+                hits.incrementAndGet();
+                return entry.validator;
+            }
+
+            misses.incrementAndGet();
+            entry = new CacheEntry(new ArrayList<>(schemas), factory.get());
+            validators.put(source, entry);
+            return entry.validator;
+        }
+    }
+
+    /**
+     * Removes all cached validators.
+     */
+    public void clear() {
+        validators.clear();
+    }
+
+    /**
+     * Gets the number of cached validators.
+     * @return
+     */
+    public int size() {
+        return validators.size();
+    }
+
+    /**
+     * Gets the number of cache hits.
+     * @return
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of cache misses that caused schema compilation.
+     * @return
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Cached validator with list of schemas it has been compiled from.
+     */
+    private static final class CacheEntry {
+        private final List<?> schemas;
+        private final XmlValidator validator;
+
+        CacheEntry(List<?> schemas, XmlValidator validator) {
+            this.schemas = schemas;
+            this.validator = validator;
+        }
+    }
+}
@@ -0,0 +1,514 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.NoSuchVariableException;
+import com.consol.citrus.functions.FunctionLibrary;
+import com.consol.citrus.functions.FunctionUtils;
+
+import java.util.*;
+
+/**
+ * Compiled representation of a string holding variable and function expressions. The template string is
+ * parsed once into a list of literal, variable and function segments. Compiled templates are cached by their
+ * template string so repeated resolution of the same string in a test run does not have to scan the raw string again.
+ *
+ * Evaluation produces the exact same result as replacing variables with {@link VariableUtils#replaceVariablesInString(String, TestContext, boolean)}
+ * followed by {@link FunctionUtils#replaceFunctionsInString(String, TestContext, boolean)}. In case a variable value
+ * may change the function structure of the resulting string (e.g. value holds parenthesis or a colon) the evaluation
+ * falls back to the function replacement on the variable free string.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class ExpressionTemplate {
+
+    /** Maximum number of compiled templates held in cache */
+    public static final String CACHE_SIZE_PROPERTY = "citrus.expression.cache.size";
+    public static final String CACHE_SIZE_ENV = "CITRUS_EXPRESSION_CACHE_SIZE";
+    public static final int CACHE_SIZE = Integer.valueOf(System.getProperty(CACHE_SIZE_PROPERTY, System.getenv(CACHE_SIZE_ENV) != null ?
+            System.getenv(CACHE_SIZE_ENV) : "1000"));
+
+    /** Least recently used cache of compiled templates */
+    private static final Map<String, ExpressionTemplate> CACHE = Collections.synchronizedMap(new LinkedHashMap<String, ExpressionTemplate>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ExpressionTemplate> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    });
+
+    /** Raw template string */
+    private final String template;
+
+    /** Function library prefixes this template has been compiled with */
+    private final String[] prefixes;
+
+    /** Compiled segments */
+    private final Segment[] segments;
+
+    /** Number of variable references including those nested in function segments */
+    private final int variableCount;
+
+    /** Literal text of this template passes the function expression check */
+    private final boolean functionCandidate;
+
+    /** Compiled function segments can be used as long as variable values are function neutral */
+    private final boolean functionsCompiled;
+
+    /**
+     * Private constructor used by compile methods.
+     * @param template
+     * @param prefixes
+     */
+    private ExpressionTemplate(String template, String[] prefixes) {
+        this.template = template;
+        this.prefixes = prefixes;
+
+        List<Segment> parsed = parseVariables(template);
+
+        this.functionCandidate = isFunctionCandidate(parsed);
+
+        boolean boundarySafe = true;
+        if (functionCandidate) {
+            for (String prefix : prefixes) {
+                boundarySafe &= isBoundarySafe(parsed, prefix);
+                parsed = parseFunctions(parsed, prefix);
+            }
+        }
+
+        this.functionsCompiled = boundarySafe;
+        this.segments = parsed.toArray(new Segment[parsed.size()]);
+        this.variableCount = indexVariables(segments, 0);
+    }
+
+    /**
+     * Gets compiled template for given string either from cache or by compiling the string. Compiled
+     * templates in cache are only reused when function library prefixes have not changed in the meantime.
+     * @param template
+     * @param libraries
+     * @return
+     */
+    public static ExpressionTemplate compile(String template, List<FunctionLibrary> libraries) {
+        ExpressionTemplate compiled = CACHE.get(template);
+
+        if (compiled == null || !compiled.matchesLibraries(libraries)) {
+            String[] prefixes = new String[libraries.size()];
+            for (int i = 0; i < prefixes.length; i++) {
+                prefixes[i] = libraries.get(i).getPrefix();
+            }
+
+            compiled = new ExpressionTemplate(template, prefixes);
+            CACHE.put(template, compiled);
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Removes all compiled templates from cache.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Replaces all variable and function expressions in this template with respective values. Variable and
+     * function values are enclosed with quotes if enabled.
+     * @param context
+     * @param enableQuoting
+     * @return
+     */
+    public String evaluate(TestContext context, boolean enableQuoting) {
+        if (variableCount == 0 && !functionCandidate) {
+            return template;
+        }
+
+        String[] values = new String[variableCount];
+        boolean functionNeutral = resolveVariables(segments, values, context);
+
+        if (!functionNeutral || (functionCandidate && !functionsCompiled)) {
+            return FunctionUtils.replaceFunctionsInString(substitute(values, enableQuoting), context, enableQuoting);
+        } else if (!functionCandidate) {
+            return substitute(values, enableQuoting);
+        }
+
+        StringBuilder builder = new StringBuilder(template.length());
+        append(builder, segments, values, context, enableQuoting);
+        return builder.toString();
+    }
+
+    /**
+     * Gets the raw template string.
+     * @return
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Builds the variable free string representation leaving all function expressions untouched.
+     * @param values
+     * @param enableQuoting
+     * @return
+     */
+    private String substitute(String[] values, boolean enableQuoting) {
+        StringBuilder builder = new StringBuilder(template.length());
+        for (Segment segment : segments) {
+            segment.appendRaw(builder, values, enableQuoting);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Checks that given libraries provide the same prefixes this template has been compiled with.
+     * @param libraries
+     * @return
+     */
+    private boolean matchesLibraries(List<FunctionLibrary> libraries) {
+        if (libraries.size() != prefixes.length) {
+            return false;
+        }
+
+        for (int i = 0; i < prefixes.length; i++) {
+            if (!prefixes[i].equals(libraries.get(i).getPrefix())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Resolves all variable values and checks that none of them is able to change the function structure
+     * of the template.
+     * @param segments
+     * @param values
+     * @param context
+     * @return
+     */
+    private static boolean resolveVariables(Segment[] segments, String[] values, TestContext context) {
+        boolean functionNeutral = true;
+        for (Segment segment : segments) {
+            if (segment instanceof VariableSegment) {
+                VariableSegment variable = (VariableSegment) segment;
+                String value = context.getVariable(variable.name);
+                if (value == null) {
+                    throw new NoSuchVariableException("Variable: " + variable.name + " could not be found");
+                }
+
+                values[variable.index] = value;
+                functionNeutral &= value.indexOf('(') < 0 && value.indexOf(')') < 0 && value.indexOf(':') < 0;
+            } else if (segment instanceof FunctionSegment) {
+                functionNeutral &= resolveVariables(((FunctionSegment) segment).expression, values, context);
+            }
+        }
+
+        return functionNeutral;
+    }
+
+    /**
+     * Appends evaluated segments to string builder.
+     * @param builder
+     * @param segments
+     * @param values
+     * @param context
+     * @param enableQuoting
+     */
+    private static void append(StringBuilder builder, Segment[] segments, String[] values, TestContext context, boolean enableQuoting) {
+        for (Segment segment : segments) {
+            if (segment instanceof FunctionSegment) {
+                StringBuilder expression = new StringBuilder();
+                for (Segment part : ((FunctionSegment) segment).expression) {
+                    part.appendRaw(expression, values, enableQuoting);
+                }
+
+                String value = FunctionUtils.resolveFunction(expression.toString(), context);
+                if (enableQuoting) {
+                    builder.append('\'').append(value).append('\'');
+                } else {
+                    builder.append(value);
+                }
+            } else {
+                segment.appendRaw(builder, values, enableQuoting);
+            }
+        }
+    }
+
+    /**
+     * Assigns value indices to all variable segments.
+     * @param segments
+     * @param index
+     * @return next free index
+     */
+    private static int indexVariables(Segment[] segments, int index) {
+        for (Segment segment : segments) {
+            if (segment instanceof VariableSegment) {
+                ((VariableSegment) segment).index = index++;
+            } else if (segment instanceof FunctionSegment) {
+                index = indexVariables(((FunctionSegment) segment).expression, index);
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Splits template into literal and variable segments. Uses the same parsing rules as
+     * {@link VariableUtils#replaceVariablesInString(String, TestContext, boolean)}.
+     * @param str
+     * @return
+     */
+    private static List<Segment> parseVariables(String str) {
+        List<Segment> parsed = new ArrayList<>();
+
+        int startIndex = 0;
+        int curIndex;
+        int searchIndex;
+
+        while ((searchIndex = str.indexOf(Citrus.VARIABLE_PREFIX, startIndex)) != -1) {
+            int control = 0;
+            boolean isVarComplete = false;
+            StringBuilder variableNameBuf = new StringBuilder();
+
+            curIndex = searchIndex + Citrus.VARIABLE_PREFIX.length();
+
+            while (curIndex < str.length() && !isVarComplete) {
+                if (str.startsWith(Citrus.VARIABLE_PREFIX, curIndex)) {
+                    control++;
+                }
+
+                if ((!Character.isJavaIdentifierPart(str.charAt(curIndex)) && (str.charAt(curIndex) == Citrus.VARIABLE_SUFFIX.charAt(0))) || (curIndex + 1 == str.length())) {
+                    if (control == 0) {
+                        isVarComplete = true;
+                    } else {
+                        control--;
+                    }
+                }
+
+                if (!isVarComplete) {
+                    variableNameBuf.append(str.charAt(curIndex));
+                }
+                ++curIndex;
+            }
+
+            if (searchIndex > startIndex) {
+                parsed.add(new LiteralSegment(str.substring(startIndex, searchIndex)));
+            }
+            parsed.add(new VariableSegment(variableNameBuf.toString()));
+
+            startIndex = curIndex;
+        }
+
+        if (startIndex < str.length()) {
+            parsed.add(new LiteralSegment(str.substring(startIndex)));
+        }
+
+        return parsed;
+    }
+
+    /**
+     * Extracts function expressions with given library prefix from literal segments. Uses the same
+     * parenthesis matching as {@link FunctionUtils#replaceFunctionsInString(String, TestContext, boolean)}.
+     * Variable segments are treated as function neutral text. Function segments from previous libraries are
+     * left untouched.
+     * @param segments
+     * @param prefix
+     * @return
+     */
+    private static List<Segment> parseFunctions(List<Segment> segments, String prefix) {
+        List<Segment> parsed = new ArrayList<>();
+
+        int i = 0;
+        while (i < segments.size()) {
+            Segment segment = segments.get(i);
+            int searchIndex;
+
+            if (!(segment instanceof LiteralSegment) ||
+                    (searchIndex = ((LiteralSegment) segment).text.indexOf(prefix)) < 0) {
+                parsed.add(segment);
+                i++;
+                continue;
+            }
+
+            String text = ((LiteralSegment) segment).text;
+            if (searchIndex > 0) {
+                parsed.add(new LiteralSegment(text.substring(0, searchIndex)));
+            }
+
+            List<Segment> expression = new ArrayList<>();
+            int control = -1;
+            int curIndex = searchIndex;
+            boolean isComplete = false;
+            String remainder = null;
+
+            while (i < segments.size() && !isComplete) {
+                Segment current = segments.get(i);
+                if (current instanceof LiteralSegment) {
+                    String currentText = current == segment ? text : ((LiteralSegment) current).text;
+                    int beginIndex = curIndex;
+
+                    while (curIndex < currentText.length() && !isComplete) {
+                        char c = currentText.charAt(curIndex);
+                        if (c == '(') {
+                            control++;
+                        } else if (c == ')') {
+                            if (control == 0) {
+                                isComplete = true;
+                            } else {
+                                control--;
+                            }
+                        }
+                        curIndex++;
+                    }
+
+                    expression.add(new LiteralSegment(currentText.substring(beginIndex, curIndex)));
+                    if (curIndex < currentText.length()) {
+                        remainder = currentText.substring(curIndex);
+                    }
+                } else {
+                    expression.add(current);
+                }
+
+                i++;
+                curIndex = 0;
+            }
+
+            parsed.add(new FunctionSegment(expression.toArray(new Segment[expression.size()])));
+
+            if (remainder != null) {
+                // continue search for further functions in the rest of the literal
+                List<Segment> rest = new ArrayList<>();
+                rest.add(new LiteralSegment(remainder));
+                rest.addAll(segments.subList(i, segments.size()));
+                parsed.addAll(parseFunctions(rest, prefix));
+                return parsed;
+            }
+        }
+
+        return parsed;
+    }
+
+    /**
+     * Checks that literal text must contain all characters of a function expression check.
+     * @param segments
+     * @return
+     */
+    private static boolean isFunctionCandidate(List<Segment> segments) {
+        boolean colon = false, open = false, close = false;
+        for (Segment segment : segments) {
+            if (segment instanceof LiteralSegment) {
+                String text = ((LiteralSegment) segment).text;
+                colon |= text.indexOf(':') >= 0;
+                open |= text.indexOf('(') >= 0;
+                close |= text.indexOf(')') >= 0;
+            }
+        }
+
+        return colon && open && close;
+    }
+
+    /**
+     * Checks that no function prefix can be built from a variable value followed by literal text.
+     * @param segments
+     * @param prefix
+     * @return
+     */
+    private static boolean isBoundarySafe(List<Segment> segments, String prefix) {
+        for (int i = 1; i < segments.size(); i++) {
+            if (segments.get(i) instanceof LiteralSegment && !(segments.get(i - 1) instanceof LiteralSegment)) {
+                String text = ((LiteralSegment) segments.get(i)).text;
+                for (int k = 1; k < prefix.length(); k++) {
+                    if (text.startsWith(prefix.substring(k))) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Compiled template segment.
+     */
+    private interface Segment {
+        /**
+         * Appends segment text with variables replaced and functions left untouched.
+         * @param builder
+         * @param values
+         * @param enableQuoting
+         */
+        void appendRaw(StringBuilder builder, String[] values, boolean enableQuoting);
+    }
+
+    /**
+     * Plain text segment.
+     */
+    private static final class LiteralSegment implements Segment {
+        private final String text;
+
+        LiteralSegment(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void appendRaw(StringBuilder builder, String[] values, boolean enableQuoting) {
+            builder.append(text);
+        }
+    }
+
+    /**
+     * Variable reference segment.
+     */
+    private static final class VariableSegment implements Segment {
+        private final String name;
+        private int index;
+
+        VariableSegment(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void appendRaw(StringBuilder builder, String[] values, boolean enableQuoting) {
+            if (enableQuoting) {
+                builder.append('\'').append(values[index]).append('\'');
+            } else {
+                builder.append(values[index]);
+            }
+        }
+    }
+
+    /**
+     * Function call segment holding the function expression as nested literal and variable segments.
+     */
+    private static final class FunctionSegment implements Segment {
+        private final Segment[] expression;
+
+        FunctionSegment(Segment[] expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        public void appendRaw(StringBuilder builder, String[] values, boolean enableQuoting) {
+            for (Segment segment : expression) {
+                segment.appendRaw(builder, values, enableQuoting);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.util.StringUtils;
+
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Process wide registry of shared marshallers. Creating a JAXB marshaller builds the JAXB context and loads the XML schema which
+ * is expensive, so message types share the marshallers held in this registry. Marshallers are created lazily on first usage.
+ *
+ * JAXB marshallers provided by this registry reuse the thread bound JAXB marshaller and unmarshaller instances created
+ * from the shared JAXB context so they are safe to use from multiple threads.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public abstract class MarshallerRegistry {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(MarshallerRegistry.class);
+
+    /** Shared JAXB marshallers by schema and bound classes */
+    private static final Map<String, Jaxb2Marshaller> jaxbMarshallers = new ConcurrentHashMap<>();
+
+    /** Shared marshallers by type */
+    private static final Map<Class<?>, Object> marshallers = new ConcurrentHashMap<>();
+
+    /**
+     * Prevent instantiation.
+     */
+    private MarshallerRegistry() {
+        super();
+    }
+
+    /**
+     * Gets shared JAXB marshaller for given schema and classes to be bound. Marshaller is created on first usage.
+     * @param schemaPath classpath location of the schema or null when no schema should be used
+     * @param classesToBeBound
+     * @return
+     */
+    public static Jaxb2Marshaller getJaxb2Marshaller(String schemaPath, Class<?>... classesToBeBound) {
+        String key = Arrays.stream(classesToBeBound)
+                .map(Class::getName)
+                .collect(Collectors.joining(",", schemaPath + ":", ""));
+
+        Jaxb2Marshaller marshaller = jaxbMarshallers.get(key);
+        if (marshaller == null) {
+            marshaller = createJaxb2Marshaller(schemaPath, classesToBeBound);
+
+            Jaxb2Marshaller existing = jaxbMarshallers.putIfAbsent(key, marshaller);
+            if (existing != null) {
+                marshaller = existing;
+            }
+        }
+
+        return marshaller;
+    }
+
+    /**
+     * Gets shared marshaller of given type. When no marshaller of this type is registered yet the factory is used to create it.
+     * Marshaller must be safe to use from multiple threads.
+     * @param type
+     * @param factory
+     * @param <T>
+     * @return
+     */
+    public static <T> T getMarshaller(Class<T> type, Supplier<T> factory) {
+        Object marshaller = marshallers.get(type);
+        if (marshaller == null) {
+            marshaller = factory.get();
+
+            Object existing = marshallers.putIfAbsent(type, marshaller);
+            if (existing != null) {
+                marshaller = existing;
+            }
+        }
+
+        return type.cast(marshaller);
+    }
+
+    /**
+     * Removes all shared marshallers from this registry.
+     */
+    public static void clear() {
+        jaxbMarshallers.clear();
+        marshallers.clear();
+    }
+
+    /**
+     * Creates and initializes new JAXB marshaller.
+     * @param schemaPath
+     * @param classesToBeBound
+     * @return
+     */
+    private static Jaxb2Marshaller createJaxb2Marshaller(String schemaPath, Class<?>... classesToBeBound) {
+        Jaxb2Marshaller marshaller = new ThreadBoundJaxb2Marshaller();
+        marshaller.setClassesToBeBound(classesToBeBound);
+
+        if (StringUtils.hasText(schemaPath)) {
+            marshaller.setSchema(new ClassPathResource(schemaPath));
+        }
+
+        try {
+            marshaller.afterPropertiesSet();
+        } catch (Exception e) {
+            log.warn("Failed to setup message marshaller: " + e.getMessage());
+        }
+
+        return marshaller;
+    }
+
+    /**
+     * JAXB marshaller keeps one JAXB marshaller and unmarshaller per thread instead of creating new instances for each
+     * marshalling operation.
+     */
+    private static class ThreadBoundJaxb2Marshaller extends Jaxb2Marshaller {
+        private final ThreadLocal<Marshaller> marshaller = ThreadLocal.withInitial(super::createMarshaller);
+        private final ThreadLocal<Unmarshaller> unmarshaller = ThreadLocal.withInitial(super::createUnmarshaller);
+
+        @Override
+        public Marshaller createMarshaller() {
+            return marshaller.get();
+        }
+
+        @Override
+        public Unmarshaller createUnmarshaller() {
+            return unmarshaller.get();
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
+import org.springframework.xml.namespace.SimpleNamespaceContext;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
@@ -35,6 +36,10 @@ import java.util.Map.Entry;
  *
  * Class is abstract to prevent instantiation.
  *
+ * Compiled XPath expressions are cached per thread as neither XPath factory, XPath nor compiled expressions are thread safe.
+ * Cache entries are identified by expression string and namespace bindings of the namespace context. Cache size
+ * is bounded and can be set with system property or environment variable.
+ *
  * @author Christoph Deppisch
  */
 public abstract class XPathUtils {
@@ -49,6 +54,24 @@ public abstract class XPathUtils {
     /** Dynamic namespace prefix */
     private static final String DYNAMIC_NS_PREFIX = "dns";
 
+    /** Maximum number of compiled expressions cached per thread */
+    public static final String XPATH_CACHE_SIZE_PROPERTY = "citrus.xpath.cache.size";
+    public static final String XPATH_CACHE_SIZE_ENV = "CITRUS_XPATH_CACHE_SIZE";
+    public static final int XPATH_CACHE_SIZE = Integer.valueOf(System.getProperty(XPATH_CACHE_SIZE_PROPERTY, System.getenv(XPATH_CACHE_SIZE_ENV) != null ?
+            System.getenv(XPATH_CACHE_SIZE_ENV) : "500"));
+
+    /** XPath factory per thread */
+    private static final ThreadLocal<XPathFactory> xPathFactory = ThreadLocal.withInitial(XPathUtils::createXPathFactory);
+
+    /** Compiled expressions per thread in least recently used order */
+    private static final ThreadLocal<Map<ExpressionKey, XPathExpression>> expressionCache = ThreadLocal.withInitial(() ->
+            new LinkedHashMap<ExpressionKey, XPathExpression>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ExpressionKey, XPathExpression> eldest) {
+                    return size() > XPATH_CACHE_SIZE;
+                }
+            });
+
     /**
      * Prevent instantiation.
      */
@@ -260,7 +283,8 @@ public abstract class XPathUtils {
     /**
      * Construct a xPath expression instance with given expression string and namespace context.
      * If namespace context is not specified a default context is built from the XML node
-     * that is evaluated against.
+     * that is evaluated against. Compiled expressions are cached for the current thread when namespace
+     * bindings of the context are known.
      * @param xPathExpression
      * @param nsContext
      * @return
@@ -268,8 +292,32 @@ public abstract class XPathUtils {
      */
     private static XPathExpression buildExpression(String xPathExpression, NamespaceContext nsContext)
             throws XPathExpressionException {
-        XPath xpath = createXPathFactory().newXPath();
-        
+        ExpressionKey key = ExpressionKey.of(xPathExpression, nsContext);
+        if (key == null) {
+            return compileExpression(xPathExpression, nsContext);
+        }
+
+        Map<ExpressionKey, XPathExpression> cache = expressionCache.get();
+        XPathExpression expression = cache.get(key);
+        if (expression == null) {
+            expression = compileExpression(xPathExpression, nsContext);
+            cache.put(key, expression);
+        }
+
+        return expression;
+    }
+
+    /**
+     * Compiles expression string with given namespace context.
+     * @param xPathExpression
+     * @param nsContext
+     * @return
+     * @throws XPathExpressionException
+     */
+    private static XPathExpression compileExpression(String xPathExpression, NamespaceContext nsContext)
+            throws XPathExpressionException {
+        XPath xpath = xPathFactory.get().newXPath();
+
         if (nsContext != null) {
             xpath.setNamespaceContext(nsContext);
         }
@@ -277,6 +325,13 @@ public abstract class XPathUtils {
         return xpath.compile(xPathExpression);
     }
 
+    /**
+     * Removes all compiled expressions cached for the current thread.
+     */
+    public static void clearExpressionCache() {
+        expressionCache.get().clear();
+    }
+
     /**
      * Method to find out whether an expression is of XPath nature or custom dot notation syntax.
      * @param expression the expression string to check.
@@ -304,7 +359,7 @@ public abstract class XPathUtils {
     }
 
     /**
-     * Creates new xpath factory which is not thread safe per definition.
+     * Creates new xpath factory which is not thread safe per definition. Factory is created once per thread.
      * @return
      */
     private synchronized static XPathFactory createXPathFactory() {
@@ -336,4 +391,65 @@ public abstract class XPathUtils {
         return factory;
     }
 
+    /**
+     * Cache key combining expression string and namespace bindings.
+     */
+    private static final class ExpressionKey {
+        private final String expression;
+        private final Map<String, String> namespaces;
+
+        private ExpressionKey(String expression, Map<String, String> namespaces) {
+            this.expression = expression;
+            this.namespaces = namespaces;
+        }
+
+        /**
+         * Creates cache key for expression and namespace context. Returns null when namespace bindings
+         * of given context are not known so the expression can not be cached.
+         * @param expression
+         * @param nsContext
+         * @return
+         */
+        static ExpressionKey of(String expression, NamespaceContext nsContext) {
+            if (nsContext == null) {
+                return new ExpressionKey(expression, Collections.emptyMap());
+            }
+
+            Iterator<String> prefixes;
+            if (nsContext instanceof SimpleNamespaceContext) {
+                prefixes = ((SimpleNamespaceContext) nsContext).getBoundPrefixes();
+            } else if (nsContext instanceof org.springframework.util.xml.SimpleNamespaceContext) {
+                prefixes = ((org.springframework.util.xml.SimpleNamespaceContext) nsContext).getBoundPrefixes();
+            } else {
+                return null;
+            }
+
+            Map<String, String> namespaces = new HashMap<>();
+            while (prefixes.hasNext()) {
+                String prefix = prefixes.next();
+                namespaces.put(prefix, nsContext.getNamespaceURI(prefix));
+            }
+
+            return new ExpressionKey(expression, namespaces);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            ExpressionKey that = (ExpressionKey) o;
+            return expression.equals(that.expression) && namespaces.equals(that.namespaces);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * expression.hashCode() + namespaces.hashCode();
+        }
+    }
 }
@@ -63,6 +63,28 @@ public class TestCaseTest extends AbstractTestNGUnitTest {
         testcase.execute(context);
     }
 
+    @Test
+    public void testWaitForFinishSignalled() {
+        TestCase testcase = new TestCase();
+        testcase.setTimeout(10000L);
+        testcase.setName("MyTestCase");
+
+        testcase.addTestAction(new AbstractAsyncTestAction() {
+            @Override
+            public void doExecuteAsync(TestContext context) {
+                try {
+                    Thread.sleep(100L);
+                } catch (InterruptedException e) {
+                    throw new CitrusRuntimeException(e);
+                }
+            }
+        });
+
+        long start = System.currentTimeMillis();
+        testcase.execute(context);
+        Assert.assertTrue(System.currentTimeMillis() - start < 1000L);
+    }
+
     @Test(expectedExceptions = TestCaseFailedException.class, expectedExceptionsMessageRegExp = "Failed to wait for nested test actions to finish properly")
     public void testWaitForFinishTimeout() {
         TestCase testcase = new TestCase();
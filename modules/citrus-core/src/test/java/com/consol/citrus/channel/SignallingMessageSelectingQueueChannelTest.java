@@ -0,0 +1,157 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.channel;
+
+import com.consol.citrus.channel.selector.HeaderMatchingMessageSelector;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class SignallingMessageSelectingQueueChannelTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testReceiveSelected() {
+        SignallingMessageSelectingQueueChannel channel = new SignallingMessageSelectingQueueChannel();
+
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context);
+
+        Message<?> receivedMessage = channel.receive(selector, 1000L);
+
+        Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        Assert.assertEquals(receivedMessage.getHeaders().get("foo"), "bar");
+    }
+
+    @Test
+    public void testReceiveOnArrival() throws Exception {
+        final SignallingMessageSelectingQueueChannel channel = new SignallingMessageSelectingQueueChannel();
+
+        for (int i = 0; i < 5000; i++) {
+            channel.send(MessageBuilder.withPayload("Message" + i).setHeader("foo", "other").build());
+        }
+
+        final AtomicLong selections = new AtomicLong();
+        final MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context) {
+            @Override
+            public boolean accept(Message<?> message) {
+                selections.incrementAndGet();
+                return super.accept(message);
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Message<?>> receivedMessage = executor.submit(new Callable<Message<?>>() {
+                @Override
+                public Message<?> call() throws Exception {
+                    return channel.receive(selector, 5000L);
+                }
+            });
+
+            while (channel.getWaitingReceiverCount() == 0) {
+                Thread.sleep(10L);
+            }
+
+            channel.send(MessageBuilder.withPayload("Message").setHeader("foo", "other").build());
+            channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+
+            Assert.assertEquals(receivedMessage.get(1000L, TimeUnit.MILLISECONDS).getPayload(), "FooMessage");
+            Assert.assertEquals(selections.get(), 5002L);
+            Assert.assertEquals(channel.getQueueSize(), 5001);
+            Assert.assertEquals(channel.getWaitingReceiverCount(), 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSendDuringScan() throws Exception {
+        final SignallingMessageSelectingQueueChannel channel = new SignallingMessageSelectingQueueChannel();
+        final CountDownLatch scanStarted = new CountDownLatch(1);
+        final CountDownLatch releaseScan = new CountDownLatch(1);
+
+        channel.send(MessageBuilder.withPayload("Blocking").setHeader("foo", "other").build());
+
+        final MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context) {
+            @Override
+            public boolean accept(Message<?> message) {
+                if (message.getPayload().equals("Blocking")) {
+                    scanStarted.countDown();
+                    try {
+                        releaseScan.await(5000L, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                return super.accept(message);
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Message<?>> receivedMessage = executor.submit(new Callable<Message<?>>() {
+                @Override
+                public Message<?> call() throws Exception {
+                    return channel.receive(selector, 5000L);
+                }
+            });
+
+            Assert.assertTrue(scanStarted.await(5000L, TimeUnit.MILLISECONDS));
+
+            Future<Boolean> sent = executor.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    return channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+                }
+            });
+
+            Assert.assertTrue(sent.get(1000L, TimeUnit.MILLISECONDS));
+            releaseScan.countDown();
+
+            Assert.assertEquals(receivedMessage.get(1000L, TimeUnit.MILLISECONDS).getPayload(), "FooMessage");
+            Assert.assertEquals(channel.getQueueSize(), 1);
+            Assert.assertEquals(channel.getWaitingReceiverCount(), 0);
+        } finally {
+            releaseScan.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTimeoutExceeded() {
+        SignallingMessageSelectingQueueChannel channel = new SignallingMessageSelectingQueueChannel();
+
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foos", "bars").build());
+
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context);
+
+        Assert.assertNull(channel.receive(selector, 200L));
+        Assert.assertEquals(channel.getQueueSize(), 1);
+        Assert.assertEquals(channel.getWaitingReceiverCount(), 0);
+    }
+}
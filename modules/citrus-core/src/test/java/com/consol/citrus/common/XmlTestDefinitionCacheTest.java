@@ -0,0 +1,96 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.common;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class XmlTestDefinitionCacheTest extends AbstractTestNGUnitTest {
+
+    private static final String SLEEP_TEST = "com/consol/citrus/config/xml/SleepActionParserTest-context.xml";
+    private static final String ECHO_TEST = "com/consol/citrus/config/xml/ActionParserTest-context.xml";
+    private static final String ANNOTATION_CONFIG = "com/consol/citrus/spring/annotation-config-ctx.xml";
+
+    @Test
+    public void testCreateApplicationContext() {
+        XmlTestDefinitionCache cache = new XmlTestDefinitionCache();
+
+        ConfigurableApplicationContext first = cache.createApplicationContext(applicationContext, SLEEP_TEST, ANNOTATION_CONFIG);
+        ConfigurableApplicationContext second = cache.createApplicationContext(applicationContext, SLEEP_TEST, ANNOTATION_CONFIG);
+
+        try {
+            TestCase firstTest = first.getBean("SleepActionParserTest", TestCase.class);
+            TestCase secondTest = second.getBean("SleepActionParserTest", TestCase.class);
+
+            Assert.assertNotSame(firstTest, secondTest);
+            Assert.assertEquals(firstTest.getActionCount(), secondTest.getActionCount());
+            Assert.assertNotSame(firstTest.getActions().get(0), secondTest.getActions().get(0));
+            Assert.assertSame(first.getParent(), applicationContext);
+        } finally {
+            first.close();
+            second.close();
+        }
+
+        Assert.assertEquals(cache.getCachedTestCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1L);
+        Assert.assertEquals(cache.getHitCount(), 1L);
+    }
+
+    @Test
+    public void testCacheEviction() {
+        XmlTestDefinitionCache cache = new XmlTestDefinitionCache(1);
+
+        cache.createApplicationContext(applicationContext, SLEEP_TEST, ANNOTATION_CONFIG).close();
+        cache.createApplicationContext(applicationContext, ECHO_TEST, ANNOTATION_CONFIG).close();
+        Assert.assertEquals(cache.getCachedTestCount(), 1);
+
+        cache.createApplicationContext(applicationContext, SLEEP_TEST, ANNOTATION_CONFIG).close();
+        Assert.assertEquals(cache.getMissCount(), 3L);
+
+        cache.clear();
+        Assert.assertEquals(cache.getCachedTestCount(), 0);
+    }
+
+    @Test
+    public void testCacheKeyIncludesActiveProfiles() {
+        XmlTestDefinitionCache cache = new XmlTestDefinitionCache();
+
+        GenericApplicationContext profileContext = new GenericApplicationContext(applicationContext);
+        profileContext.getEnvironment().setActiveProfiles("foo");
+        profileContext.refresh();
+
+        try {
+            cache.createApplicationContext(applicationContext, SLEEP_TEST, ANNOTATION_CONFIG).close();
+            cache.createApplicationContext(profileContext, SLEEP_TEST, ANNOTATION_CONFIG).close();
+            cache.createApplicationContext(profileContext, SLEEP_TEST, ANNOTATION_CONFIG).close();
+        } finally {
+            profileContext.close();
+        }
+
+        Assert.assertEquals(cache.getCachedTestCount(), 2);
+        Assert.assertEquals(cache.getMissCount(), 2L);
+        Assert.assertEquals(cache.getHitCount(), 1L);
+    }
+}
@@ -44,6 +44,7 @@ public class ChannelSyncEndpointParserTest extends AbstractBeanDefinitionParserT
         Assert.assertNull(channelSyncEndpoint.getEndpointConfiguration().getChannel());
         Assert.assertEquals(channelSyncEndpoint.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertEquals(channelSyncEndpoint.getEndpointConfiguration().getPollingInterval(), 500L);
+        Assert.assertEquals(channelSyncEndpoint.getEndpointConfiguration().getMaxStoreSize(), 1000);
         Assert.assertNotNull(channelSyncEndpoint.getEndpointConfiguration().getChannelResolver());
         Assert.assertEquals(channelSyncEndpoint.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
 
@@ -64,6 +65,7 @@ public class ChannelSyncEndpointParserTest extends AbstractBeanDefinitionParserT
         Assert.assertNotNull(channelSyncEndpoint.getEndpointConfiguration().getMessagingTemplate());
         Assert.assertEquals(channelSyncEndpoint.getEndpointConfiguration().getMessagingTemplate(), beanDefinitionContext.getBean("messagingTemplate", MessagingTemplate.class));
         Assert.assertEquals(channelSyncEndpoint.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertEquals(channelSyncEndpoint.getEndpointConfiguration().getMaxStoreSize(), 5000);
         Assert.assertNotNull(channelSyncEndpoint.getActor());
         Assert.assertEquals(channelSyncEndpoint.getActor(), beanDefinitionContext.getBean("testActor", TestActor.class));
     }
@@ -17,6 +17,7 @@
 package com.consol.citrus.config.xml;
 
 import com.consol.citrus.channel.MessageSelectingQueueChannel;
+import com.consol.citrus.channel.SignallingMessageSelectingQueueChannel;
 import com.consol.citrus.testng.AbstractBeanDefinitionParserTest;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -32,7 +33,7 @@ public class MessageSelectingQueueChannelParserTest extends AbstractBeanDefiniti
     public void testMessageSelectingQueueChannelParser() {
         Map<String, MessageSelectingQueueChannel> channels = beanDefinitionContext.getBeansOfType(MessageSelectingQueueChannel.class);
         
-        Assert.assertEquals(channels.size(), 6);
+        Assert.assertEquals(channels.size(), 7);
         
         // 1st channel
         Assert.assertTrue(channels.containsKey("channel1"));
@@ -55,5 +56,8 @@ public class MessageSelectingQueueChannelParserTest extends AbstractBeanDefiniti
         // 6th chanel with polling interval
         channel = channels.get("channel6");
         Assert.assertEquals(channel.getPollingInterval(), 550);
+
+        // 7th channel with signalling selective receive
+        Assert.assertEquals(channels.get("channel7").getClass(), SignallingMessageSelectingQueueChannel.class);
     }
 }
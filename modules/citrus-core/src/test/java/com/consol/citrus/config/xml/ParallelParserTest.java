@@ -37,9 +37,13 @@ public class ParallelParserTest extends AbstractActionParserTest<Parallel> {
         Assert.assertEquals(action.getActionCount(), 2);
         Assert.assertEquals(action.getActions().get(0).getClass(), EchoAction.class);
         Assert.assertEquals(action.getActions().get(1).getClass(), EchoAction.class);
+        Assert.assertEquals(action.getMaxConcurrency(), 0);
+        Assert.assertFalse(action.isFailFast());
         
         action = getNextTestActionFromTest();
         Assert.assertEquals(action.getActionCount(), 3);
+        Assert.assertEquals(action.getMaxConcurrency(), 2);
+        Assert.assertTrue(action.isFailFast());
         Assert.assertEquals(action.getActions().get(0).getClass(), Parallel.class);
         Assert.assertEquals(((Parallel)action.getActions().get(0)).getActionCount(), 2);
         Assert.assertEquals(action.getActions().get(1).getClass(), EchoAction.class);
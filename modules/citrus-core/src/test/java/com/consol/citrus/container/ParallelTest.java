@@ -18,13 +18,18 @@ package com.consol.citrus.container;
 
 import com.consol.citrus.TestAction;
 import com.consol.citrus.actions.*;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.*;
 
@@ -146,4 +151,119 @@ public class ParallelTest extends AbstractTestNGUnitTest {
 
         verify(action).execute(context);
     }
+
+    @Test
+    public void testMaxConcurrency() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setMaxConcurrency(2);
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        for (int i = 0; i < 10; i++) {
+            actionList.add(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(20L);
+                    } catch (InterruptedException e) {
+                        throw new CitrusRuntimeException(e);
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                }
+            });
+        }
+
+        parallelAction.setActions(actionList);
+
+        parallelAction.execute(context);
+
+        Assert.assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void testFailFast() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setFailFast(true);
+
+        SleepAction sleep = new SleepAction();
+        sleep.setMilliseconds("10000");
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(sleep);
+        actionList.add(new FailAction());
+
+        parallelAction.setActions(actionList);
+
+        long start = System.currentTimeMillis();
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing exception due to failing action");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+        }
+    }
+
+    @Test
+    public void testAllActionsStarted() {
+        Parallel parallelAction = new Parallel();
+
+        final CountDownLatch started = new CountDownLatch(250);
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        for (int i = 0; i < 250; i++) {
+            actionList.add(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    started.countDown();
+                    try {
+                        if (!started.await(5000L, TimeUnit.MILLISECONDS)) {
+                            throw new CitrusRuntimeException("Not all parallel actions have been started");
+                        }
+                    } catch (InterruptedException e) {
+                        throw new CitrusRuntimeException(e);
+                    }
+                }
+            });
+        }
+
+        parallelAction.setActions(actionList);
+
+        parallelAction.execute(context);
+
+        Assert.assertEquals(started.getCount(), 0L);
+    }
+
+    @Test
+    public void testInterrupted() {
+        Parallel parallelAction = new Parallel();
+
+        final Thread caller = Thread.currentThread();
+
+        SleepAction sleep = new SleepAction();
+        sleep.setMilliseconds("10000");
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(sleep);
+        actionList.add(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                caller.interrupt();
+            }
+        });
+
+        parallelAction.setActions(actionList);
+
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing exception due to interrupted container");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getCause() instanceof InterruptedException);
+        } finally {
+            Thread.interrupted();
+        }
+    }
 }
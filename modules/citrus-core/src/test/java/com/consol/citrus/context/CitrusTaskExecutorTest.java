@@ -0,0 +1,106 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class CitrusTaskExecutorTest {
+
+    @Test
+    public void testTaskStatistics() throws Exception {
+        CitrusTaskExecutor taskExecutor = new CitrusTaskExecutor();
+        taskExecutor.setWarnThreshold(1);
+
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            Future<?> first = taskExecutor.submit(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Future<String> second = taskExecutor.submit(() -> {
+                release.await();
+                return "done";
+            });
+
+            long start = System.currentTimeMillis();
+            while (taskExecutor.getActiveCount() < 2 && System.currentTimeMillis() - start < 5000L) {
+                Thread.sleep(10L);
+            }
+
+            // tasks exceeding the warn threshold get started on additional threads instead of being queued
+            Assert.assertEquals(taskExecutor.getActiveCount(), 2);
+            Assert.assertEquals(taskExecutor.getQueuedCount(), 0L);
+            Assert.assertEquals(taskExecutor.getSubmittedCount(), 2L);
+
+            release.countDown();
+            first.get(5000L, TimeUnit.MILLISECONDS);
+            Assert.assertEquals(second.get(5000L, TimeUnit.MILLISECONDS), "done");
+
+            start = System.currentTimeMillis();
+            while (taskExecutor.getCompletedCount() < 2L && System.currentTimeMillis() - start < 5000L) {
+                Thread.sleep(10L);
+            }
+
+            Assert.assertEquals(taskExecutor.getCompletedCount(), 2L);
+            Assert.assertEquals(taskExecutor.getActiveCount(), 0);
+            Assert.assertEquals(taskExecutor.getQueuedCount(), 0L);
+        } finally {
+            taskExecutor.destroy();
+        }
+    }
+
+    @Test
+    public void testMaxPoolSize() throws Exception {
+        CitrusTaskExecutor taskExecutor = new CitrusTaskExecutor();
+        taskExecutor.setMaxPoolSize(1);
+
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            Future<String> first = taskExecutor.submit(() -> {
+                release.await();
+                return "first";
+            });
+            Future<String> second = taskExecutor.submit(() -> "second");
+
+            long start = System.currentTimeMillis();
+            while (taskExecutor.getActiveCount() < 1 && System.currentTimeMillis() - start < 5000L) {
+                Thread.sleep(10L);
+            }
+
+            // tasks exceeding the maximum pool size wait in queue
+            Assert.assertEquals(taskExecutor.getActiveCount(), 1);
+            Assert.assertEquals(taskExecutor.getQueuedCount(), 1L);
+            Assert.assertFalse(second.isDone());
+
+            release.countDown();
+            Assert.assertEquals(first.get(5000L, TimeUnit.MILLISECONDS), "first");
+            Assert.assertEquals(second.get(5000L, TimeUnit.MILLISECONDS), "second");
+            Assert.assertEquals(taskExecutor.getQueuedCount(), 0L);
+        } finally {
+            taskExecutor.destroy();
+        }
+    }
+}
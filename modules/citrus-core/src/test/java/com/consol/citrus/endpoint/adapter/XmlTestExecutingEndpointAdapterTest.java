@@ -16,11 +16,14 @@
 
 package com.consol.citrus.endpoint.adapter;
 
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.adapter.mapping.XPathPayloadMappingKeyExtractor;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
 import org.testng.Assert;
@@ -32,6 +35,9 @@ import org.testng.annotations.Test;
  * @since 1.4
  */
 public class XmlTestExecutingEndpointAdapterTest extends AbstractTestNGUnitTest {
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(XmlTestExecutingEndpointAdapterTest.class);
+
     private XmlTestExecutingEndpointAdapter endpointAdapter;
 
     @BeforeClass
@@ -110,4 +116,52 @@ public class XmlTestExecutingEndpointAdapterTest extends AbstractTestNGUnitTest
             Assert.assertEquals(e.getMessage(), "Failed to load test case");
         }
     }
+
+    /**
+     * Test deprecated application context creation is still invoked when overridden by subclass.
+     */
+    @Test
+    public void testOverriddenCreateApplicationContext() throws Exception {
+        final String[] loadedTest = new String[1];
+        XmlTestExecutingEndpointAdapter customEndpointAdapter = new XmlTestExecutingEndpointAdapter() {
+            @Override
+            protected ClassPathXmlApplicationContext createApplicationContext(TestContext context, String packageName, String testName) {
+                loadedTest[0] = packageName + "." + testName;
+                return null;
+            }
+        };
+
+        Assert.assertNull(customEndpointAdapter.createTestApplicationContext(context, "com.consol.citrus.tests", "FooTest"));
+        Assert.assertEquals(loadedTest[0], "com.consol.citrus.tests.FooTest");
+    }
+
+    /**
+     * Test repeated requests reuse parsed test definitions. Logged request throughput is a smoke measurement only,
+     * it is not a benchmark and not asserted.
+     */
+    @Test
+    public void testCachedTestDefinitions() throws Exception {
+        XPathPayloadMappingKeyExtractor mappingNameExtractor = new XPathPayloadMappingKeyExtractor();
+        mappingNameExtractor.setXpathExpression("//Test/@name");
+        endpointAdapter.setMappingKeyExtractor(mappingNameExtractor);
+
+        long missCount = endpointAdapter.getTestDefinitionCache().getMissCount();
+        long hitCount = endpointAdapter.getTestDefinitionCache().getHitCount();
+
+        int requests = 100;
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            Message response = endpointAdapter.handleMessage(
+                    new DefaultMessage("<Test name=\"FooTest\"></Test>"));
+
+            Assert.assertEquals(response.getPayload(String.class).trim(), "<Test name=\"FooTest\">OK</Test>");
+        }
+        long duration = Math.max(1L, System.nanoTime() - start);
+
+        log.info(String.format("Smoke measurement: processed %s requests in %s ms (%.1f requests/second)",
+                requests, duration / 1000000L, requests * 1000000000.0 / duration));
+
+        Assert.assertTrue(endpointAdapter.getTestDefinitionCache().getMissCount() - missCount <= 1L);
+        Assert.assertTrue(endpointAdapter.getTestDefinitionCache().getHitCount() - hitCount >= requests - 1);
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main.scan;
+
+import com.consol.citrus.TestClass;
+import com.consol.citrus.junit.scan.SampleJUnit4Test;
+import com.consol.citrus.testng.scan.SampleTestNGTest;
+import org.springframework.core.io.ClassPathResource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.*;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class TestIndexTest {
+
+    @Test
+    public void testGenerate() throws IOException {
+        TestIndex testIndex = TestIndex.generate(new ClassPathResource("com/consol/citrus/testng/scan").getFile(), TestIndex.TEST_ANNOTATIONS);
+
+        Assert.assertEquals(testIndex.getTestClassNames().size(), 1L);
+        Assert.assertTrue(testIndex.getTestClassNames(org.testng.annotations.Test.class).contains(SampleTestNGTest.class.getName()));
+        Assert.assertTrue(testIndex.getTestClassNames(org.junit.Test.class).isEmpty());
+    }
+
+    @Test
+    public void testReadWrite() throws IOException {
+        TestIndex testIndex = new TestIndex();
+        testIndex.add(SampleTestNGTest.class.getName(), org.testng.annotations.Test.class.getName());
+        testIndex.add(SampleJUnit4Test.class.getName(), org.junit.Test.class.getName());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        testIndex.write(outputStream);
+
+        TestIndex loaded = new TestIndex();
+        loaded.read(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        Assert.assertEquals(loaded.getTestClassNames(), testIndex.getTestClassNames());
+        Assert.assertEquals(loaded.getTestClassNames(org.junit.Test.class).size(), 1L);
+        Assert.assertTrue(loaded.getTestClassNames(org.junit.Test.class).contains(SampleJUnit4Test.class.getName()));
+    }
+
+    @Test
+    public void testJarFileTestIndex() throws IOException {
+        TestIndex testIndex = new TestIndex();
+        testIndex.add(SampleTestNGTest.class.getName(), org.testng.annotations.Test.class.getName());
+        testIndex.add(SampleJUnit4Test.class.getName(), org.junit.Test.class.getName());
+
+        File testJar = File.createTempFile("citrus-tests", ".jar");
+        testJar.deleteOnExit();
+
+        try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(testJar))) {
+            jar.putNextEntry(new JarEntry(TestIndex.INDEX_LOCATION));
+            testIndex.write(jar);
+            jar.closeEntry();
+        }
+
+        List<TestClass> findings = new JarFileTestScanner(testJar, ".*Test").findTestsInPackage(SampleTestNGTest.class.getPackage().getName());
+        Assert.assertEquals(findings.size(), 1L);
+        Assert.assertEquals(findings.get(0).getName(), SampleTestNGTest.class.getName());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.json.JsonPathUtils;
+import com.consol.citrus.util.XMLUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class DefaultMessageTest {
+
+    @Test
+    public void testParsedPayloadCached() {
+        DefaultMessage message = new DefaultMessage("<root><element>Hello</element></root>");
+
+        Document doc = XMLUtils.parseMessagePayload(message);
+        Assert.assertSame(XMLUtils.parseMessagePayload(message), doc);
+        Assert.assertEquals(doc.getDocumentElement().getNodeName(), "root");
+
+        message.setPayload("<other/>");
+        Document other = XMLUtils.parseMessagePayload(message);
+        Assert.assertNotSame(other, doc);
+        Assert.assertEquals(other.getDocumentElement().getNodeName(), "other");
+    }
+
+    @Test
+    public void testParsedPayloadPerMessageType() throws Exception {
+        DefaultMessage message = new DefaultMessage("{\"text\": \"Hello\"}");
+
+        Object json = JsonPathUtils.parseMessagePayload(message);
+        Assert.assertSame(JsonPathUtils.parseMessagePayload(message), json);
+        Assert.assertEquals(message.getParsedPayload(MessageType.PLAINTEXT, String::length), Integer.valueOf(17));
+        Assert.assertSame(JsonPathUtils.parseMessagePayload(message), json);
+    }
+}
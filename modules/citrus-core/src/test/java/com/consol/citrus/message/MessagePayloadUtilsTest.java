@@ -0,0 +1,43 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class MessagePayloadUtilsTest {
+
+    @Test
+    public void testPayloadInspection() {
+        Assert.assertEquals(MessagePayloadUtils.getFirstNonWhitespaceChar(" \n\t <root/>"), '<');
+        Assert.assertEquals(MessagePayloadUtils.getFirstNonWhitespaceChar(" \n\t "), 0);
+        Assert.assertEquals(MessagePayloadUtils.getFirstNonWhitespaceChar(null), 0);
+
+        Assert.assertTrue(MessagePayloadUtils.hasText(" foo "));
+        Assert.assertFalse(MessagePayloadUtils.hasText("  "));
+        Assert.assertFalse(MessagePayloadUtils.hasText(""));
+
+        Assert.assertTrue(MessagePayloadUtils.isXml("\n  <root/>"));
+        Assert.assertFalse(MessagePayloadUtils.isXml("{}"));
+        Assert.assertTrue(MessagePayloadUtils.isJson("  {\"foo\": \"bar\"}"));
+        Assert.assertTrue(MessagePayloadUtils.isJson("\n[1, 2]"));
+        Assert.assertFalse(MessagePayloadUtils.isJson("foo"));
+    }
+}
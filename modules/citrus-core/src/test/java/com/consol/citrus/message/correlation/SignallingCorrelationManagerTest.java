@@ -0,0 +1,128 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message.correlation;
+
+import com.consol.citrus.channel.ChannelSyncEndpointConfiguration;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.*;
+
+import static org.mockito.Mockito.*;
+
+
+public class SignallingCorrelationManagerTest {
+
+    private ObjectStore objectStore = Mockito.mock(ObjectStore.class);
+
+    @Test
+    public void testFind() throws Exception {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(100L);
+        pollableEndpointConfiguration.setTimeout(500L);
+
+        SignallingCorrelationManager<String> correlationManager = new SignallingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+        Assert.assertNull(correlationManager.find(""));
+
+        correlationManager.store("foo", "bar");
+        Assert.assertNull(correlationManager.find("bar"));
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+
+        //2nd invocation with same correlation key
+        Assert.assertNull(correlationManager.find("foo"));
+    }
+
+    @Test
+    public void testFindSignalled() throws Exception {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(10000L);
+        pollableEndpointConfiguration.setTimeout(10000L);
+
+        final SignallingCorrelationManager<String> correlationManager = new SignallingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> stored = executor.submit(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    return correlationManager.find("foo");
+                }
+            });
+
+            Thread.sleep(100L);
+            correlationManager.store("foo", "bar");
+
+            Assert.assertEquals(stored.get(1000L, TimeUnit.MILLISECONDS), "bar");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFindWithRetry() {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(100L);
+        pollableEndpointConfiguration.setTimeout(500L);
+
+        SignallingCorrelationManager<String> correlationManager = new SignallingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+        correlationManager.setObjectStore(objectStore);
+
+        reset(objectStore);
+        when(objectStore.remove("foo")).thenReturn(null).thenReturn("bar");
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+    }
+
+    @Test
+    public void testStoreEviction() {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(100L);
+        pollableEndpointConfiguration.setTimeout(100L);
+
+        SignallingCorrelationManager<String> correlationManager = new SignallingCorrelationManager<>(pollableEndpointConfiguration, "Try again", 3);
+
+        for (String key : new String[]{"1", "2", "3", "4", "5"}) {
+            correlationManager.store(key, "value" + key);
+        }
+
+        Assert.assertEquals(((EvictingObjectStore) correlationManager.getObjectStore()).size(), 3);
+        Assert.assertNull(correlationManager.find("1", 0L));
+        Assert.assertNull(correlationManager.find("2", 0L));
+        Assert.assertEquals(correlationManager.find("3", 0L), "value3");
+        Assert.assertEquals(correlationManager.find("5", 0L), "value5");
+    }
+
+    @Test
+    public void testConfiguredStoreSize() {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(100L);
+        pollableEndpointConfiguration.setTimeout(100L);
+
+        SignallingCorrelationManager<String> correlationManager = new SignallingCorrelationManager<>(pollableEndpointConfiguration,
+                "Try again", pollableEndpointConfiguration::getMaxStoreSize);
+        Assert.assertEquals(((EvictingObjectStore) correlationManager.getObjectStore()).getMaxSize(), EvictingObjectStore.DEFAULT_MAX_SIZE);
+
+        pollableEndpointConfiguration.setMaxStoreSize(2);
+        for (String key : new String[]{"1", "2", "3"}) {
+            correlationManager.store(key, "value" + key);
+        }
+
+        Assert.assertEquals(((EvictingObjectStore) correlationManager.getObjectStore()).size(), 2);
+        Assert.assertNull(correlationManager.find("1", 0L));
+        Assert.assertEquals(correlationManager.find("3", 0L), "value3");
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import groovy.lang.GroovyObject;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class GroovyScriptCacheTest {
+
+    private static final String SCRIPT = "public class CachedScript { public String run() { return \"%s\" } }";
+
+    @Test
+    public void testScriptCaching() {
+        GroovyScriptCache cache = new GroovyScriptCache();
+
+        GroovyObject first = cache.newInstance(String.format(SCRIPT, "foo"));
+        GroovyObject second = cache.newInstance(String.format(SCRIPT, "foo"));
+
+        Assert.assertNotSame(first, second);
+        Assert.assertSame(first.getClass(), second.getClass());
+        Assert.assertEquals(second.invokeMethod("run", new Object[] {}), "foo");
+
+        GroovyObject other = cache.newInstance(String.format(SCRIPT, "bar"));
+        Assert.assertNotSame(other.getClass(), first.getClass());
+        Assert.assertEquals(other.invokeMethod("run", new Object[] {}), "bar");
+
+        Assert.assertEquals(cache.getCachedScriptCount(), 2);
+        Assert.assertEquals(cache.getHitCount(), 1L);
+        Assert.assertEquals(cache.getMissCount(), 2L);
+        Assert.assertEquals(cache.getHitRate(), 1.0 / 3, 0.001);
+    }
+
+    @Test
+    public void testEviction() {
+        GroovyScriptCache cache = new GroovyScriptCache(1);
+
+        Class<?> foo = cache.getScriptClass(String.format(SCRIPT, "foo"));
+        cache.getScriptClass(String.format(SCRIPT, "bar"));
+
+        Assert.assertEquals(cache.getCachedScriptCount(), 1);
+        Assert.assertEquals(cache.getEvictionCount(), 1L);
+        Assert.assertNotSame(cache.getScriptClass(String.format(SCRIPT, "foo")), foo);
+        Assert.assertEquals(cache.getMissCount(), 3L);
+
+        cache.clear();
+        Assert.assertEquals(cache.getCachedScriptCount(), 0);
+    }
+
+    @Test(expectedExceptions = CompilationFailedException.class)
+    public void testCompilationFailure() {
+        GroovyScriptCache cache = new GroovyScriptCache();
+
+        try {
+            cache.getScriptClass("public class BrokenScript {");
+        } finally {
+            Assert.assertEquals(cache.getCachedScriptCount(), 0);
+        }
+    }
+}
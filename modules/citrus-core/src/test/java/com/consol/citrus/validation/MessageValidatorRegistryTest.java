@@ -18,6 +18,7 @@ package com.consol.citrus.validation;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.validation.context.*;
 import com.consol.citrus.validation.json.*;
@@ -28,6 +29,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -100,6 +102,80 @@ public class MessageValidatorRegistryTest {
         Assert.assertEquals(matchingValidators.get(0).getClass(), DomXmlMessageValidator.class);
     }
 
+    @Test
+    public void testPayloadDependentValidator() throws Exception {
+        MessageValidatorRegistry messageValidatorRegistry = new MessageValidatorRegistry();
+
+        messageValidatorRegistry.addMessageValidator(new PlainTextMessageValidator());
+        messageValidatorRegistry.addMessageValidator(new DefaultMessageValidator() {
+            @Override
+            public boolean supportsMessageType(String messageType, Message message) {
+                return messageType.equalsIgnoreCase("csv") && message.getPayload() instanceof byte[];
+            }
+        });
+        messageValidatorRegistry.afterPropertiesSet();
+
+        try {
+            messageValidatorRegistry.findMessageValidators("csv", new DefaultMessage(""));
+            Assert.fail("Missing exception due to no matching validator implementation");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Could not find proper message validator for message type"));
+        }
+
+        List<MessageValidator<? extends ValidationContext>> matchingValidators = messageValidatorRegistry.findMessageValidators("csv", new DefaultMessage("foo,bar".getBytes()));
+        Assert.assertEquals(matchingValidators.size(), 1L);
+        Assert.assertTrue(matchingValidators.get(0) instanceof DefaultMessageValidator);
+
+        messageValidatorRegistry.getMessageValidators().remove(1);
+        matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.PLAINTEXT.name(), new DefaultMessage("foo,bar"));
+        Assert.assertEquals(matchingValidators.size(), 1L);
+        Assert.assertEquals(matchingValidators.get(0).getClass(), PlainTextMessageValidator.class);
+
+        try {
+            messageValidatorRegistry.findMessageValidators("csv", new DefaultMessage("foo,bar".getBytes()));
+            Assert.fail("Missing exception due to no matching validator implementation");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Could not find proper message validator for message type"));
+        }
+    }
+
+    @Test
+    public void testIndexResetOnListModification() throws Exception {
+        MessageValidatorRegistry messageValidatorRegistry = new MessageValidatorRegistry();
+
+        messageValidatorRegistry.addMessageValidator(new PlainTextMessageValidator());
+        messageValidatorRegistry.addMessageValidator(new DomXmlMessageValidator());
+        messageValidatorRegistry.afterPropertiesSet();
+
+        Assert.assertEquals(messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("<hello/>")).get(0).getClass(), DomXmlMessageValidator.class);
+
+        Iterator<MessageValidator<? extends ValidationContext>> it = messageValidatorRegistry.getMessageValidators().iterator();
+        while (it.hasNext()) {
+            if (it.next() instanceof DomXmlMessageValidator) {
+                it.remove();
+            }
+        }
+
+        try {
+            messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("<hello/>"));
+            Assert.fail("Missing exception due to no matching validator implementation");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Could not find proper message validator for message type"));
+        }
+
+        messageValidatorRegistry.getMessageValidators().listIterator().add(new DomXmlMessageValidator());
+        Assert.assertEquals(messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("<hello/>")).get(0).getClass(), DomXmlMessageValidator.class);
+
+        messageValidatorRegistry.getMessageValidators().subList(0, 1).clear();
+        Assert.assertEquals(messageValidatorRegistry.getMessageValidators().size(), 1L);
+        try {
+            messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("<hello/>"));
+            Assert.fail("Missing exception due to no matching validator implementation");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Could not find proper message validator for message type"));
+        }
+    }
+
     @Test
     public void testMessageValidatorRegistryXmlConfig() throws Exception {
         MessageValidatorRegistry messageValidatorRegistry = new MessageValidatorConfig().getMessageValidatorRegistry();
@@ -25,6 +25,8 @@ import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.validation.json.report.GraciousProcessingReport;
 import com.consol.citrus.validation.json.schema.JsonSchemaValidation;
 import net.minidev.json.parser.ParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.testng.Assert;
@@ -44,6 +46,9 @@ import static org.mockito.Mockito.when;
  */
 public class JsonTextMessageValidatorTest extends AbstractTestNGUnitTest {
 
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(JsonTextMessageValidatorTest.class);
+
     @Autowired
     @Qualifier("defaultJsonMessageValidator")
     private JsonTextMessageValidator validator;
@@ -423,6 +428,101 @@ public class JsonTextMessageValidatorTest extends AbstractTestNGUnitTest {
         }
     }
 
+    @Test
+    public void testJsonValidationIgnoreSelectedNodesOnly() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("{\"first\":{\"id\":\"x123456789x\"}, \"second\":{\"id\":\"x123456789x\"}}");
+        Message controlMessage = new DefaultMessage("{\"first\":{\"id\":\"wrong\"}, \"second\":{\"id\":\"wrong\"}}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$.first");
+
+        try {
+            validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+            Assert.fail("Missing validation exception for equal but not ignored JSON entry");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("Values not equal for entry: 'id'"));
+        }
+
+        controlMessage = new DefaultMessage("{\"first\":{\"id\":\"wrong\"}, \"second\":{\"id\":\"x123456789x\"}}");
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Test
+    public void testJsonValidationIgnoreSelectedValuesOnly() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("{\"a\":{\"enabled\":true, \"id\":1}, \"b\":{\"enabled\":true, \"id\":1}, \"items\":[{\"id\":1}]}");
+        Message controlMessage = new DefaultMessage("{\"a\":{\"enabled\":false, \"id\":2}, \"b\":{\"enabled\":false, \"id\":1}, \"items\":[{\"id\":1}]}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$.a.enabled");
+        validationContext.getIgnoreExpressions().add("$.a.id");
+
+        try {
+            validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+            Assert.fail("Missing validation exception for equal boolean value that is not ignored");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("Values not equal for entry: 'enabled'"));
+        }
+
+        controlMessage = new DefaultMessage("{\"a\":{\"enabled\":false, \"id\":2}, \"b\":{\"enabled\":true, \"id\":2}, \"items\":[{\"id\":1}]}");
+        try {
+            validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+            Assert.fail("Missing validation exception for equal number value that is not ignored");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("Values not equal for entry: 'id'"));
+        }
+
+        controlMessage = new DefaultMessage("{\"a\":{\"enabled\":false, \"id\":2}, \"b\":{\"enabled\":true, \"id\":1}, \"items\":[{\"id\":1}]}");
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Test
+    public void testJsonArrayValidationIgnoreEntries() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("[{\"id\":1, \"active\":true}, {\"id\":2, \"active\":true}]");
+        Message controlMessage = new DefaultMessage("[{\"id\":1, \"active\":false}, {\"id\":2, \"active\":true}]");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$[0].active");
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Test
+    public void testLargeJsonValidation() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        StringBuilder receivedJson = new StringBuilder("{\"items\":[");
+        StringBuilder controlJson = new StringBuilder("{\"items\":[");
+        int items = 0;
+        while (receivedJson.length() < 256 * 1024) {
+            if (items > 0) {
+                receivedJson.append(",");
+                controlJson.append(",");
+            }
+
+            String item = "{\"id\":" + items + ", \"name\":\"item-" + items + "\", \"tags\":[\"foo\",\"bar\"], " +
+                    "\"details\":{\"description\":\"Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt\", \"active\":true}, ";
+            receivedJson.append(item).append("\"timestamp\":\"").append(System.nanoTime()).append("\"}");
+            controlJson.append(item).append("\"timestamp\":\"?\"}");
+            items++;
+        }
+        receivedJson.append("]}");
+        controlJson.append("]}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$.items[*].timestamp");
+
+        long start = System.currentTimeMillis();
+        validator.validateMessage(new DefaultMessage(receivedJson.toString()), new DefaultMessage(controlJson.toString()), context, validationContext);
+
+        log.info(String.format("Validated JSON document of %s bytes with %s entries in %s ms",
+                receivedJson.length(), items, System.currentTimeMillis() - start));
+    }
+
     @Test
     public void testUseSchemaRepositoryValidatorIfSchemaValidationIsEnabled() {
 
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.matcher;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class ValidationMatcherExpressionTest {
+
+    @Test
+    public void testParse() {
+        ValidationMatcherExpression expression = ValidationMatcherExpression.parse("@foo:customMatcher('value')@");
+        Assert.assertEquals(expression.getPrefix(), "foo:");
+        Assert.assertEquals(expression.getName(), "customMatcher");
+        Assert.assertEquals(expression.getValue(), "'value'");
+
+        expression = ValidationMatcherExpression.parse("@${equalsIgnoreCase('prefix:value')}@");
+        Assert.assertEquals(expression.getPrefix(), "");
+        Assert.assertEquals(expression.getName(), "equalsIgnoreCase");
+        Assert.assertEquals(expression.getValue(), "'prefix:value'");
+
+        expression = ValidationMatcherExpression.parse("@ignore@");
+        Assert.assertEquals(expression.getName(), "ignore");
+        Assert.assertEquals(expression.getValue(), "");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testParseIllegalSyntax() {
+        ValidationMatcherExpression.parse("@equalsIgnoreCase@");
+    }
+
+    @Test
+    public void testGetControlValues() {
+        ValidationMatcherExpression expression = ValidationMatcherExpression.parse("@foo:customMatcher('a','b')@");
+
+        DefaultControlExpressionParser parser = new DefaultControlExpressionParser();
+        Assert.assertEquals(expression.getControlValues(parser), Arrays.asList("a", "b"));
+        Assert.assertSame(expression.getControlValues(parser), expression.getControlValues(new DefaultControlExpressionParser()));
+
+        ControlExpressionParser customParser = (controlExpression, delimiter) -> Collections.singletonList(controlExpression);
+        Assert.assertEquals(expression.getControlValues(customParser), Collections.singletonList("'a','b'"));
+    }
+}
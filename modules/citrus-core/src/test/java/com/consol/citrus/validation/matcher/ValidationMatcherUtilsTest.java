@@ -58,4 +58,13 @@ public class ValidationMatcherUtilsTest extends AbstractTestNGUnitTest {
         verify(validationMatcher, times(3)).validate("field", "value", Arrays.asList("value"), context);
         verify(validationMatcher).validate("field", "prefix:value", Arrays.asList("prefix:value"), context);
     }
+
+    @Test
+    public void testResolveCachedValidationMatcherExpression() {
+        context.setVariable("expected", "foo");
+        ValidationMatcherUtils.resolveValidationMatcher("field", "foo", "@equalsIgnoreCase('${expected}')@", context);
+
+        context.setVariable("expected", "bar");
+        ValidationMatcherUtils.resolveValidationMatcher("field", "bar", "@equalsIgnoreCase('${expected}')@", context);
+    }
 }
@@ -43,6 +43,18 @@ public class MatchesValidationMatcherTest extends AbstractTestNGUnitTest {
     	assertException("field", "aaaab", Arrays.asList("aaab*"));
     }
 
+    @Test
+    public void testValidateCachedPattern() {
+        matcher.validate("field", "aaaab", Arrays.asList("a*b"), context);
+        matcher.validate("field", "ab", Arrays.asList("a*b"), context);
+        assertException("field", "abc", Arrays.asList("a*b"));
+    }
+
+    @Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = ".*Found invalid pattern syntax")
+    public void testValidateInvalidPattern() {
+        matcher.validate("field", "a", Arrays.asList("[a"), context);
+    }
+
     private void assertException(String fieldName, String value, List<String> control) {
     	try {
     		matcher.validate(fieldName, value, control, context);
@@ -66,6 +66,34 @@ public class DomXmlMessageValidatorTest extends AbstractTestNGUnitTest {
         validator.validateXMLSchema(message, new XmlMessageValidationContext());
     }
 
+    @Test
+    public void validateXMLSchemaCached() throws SAXException, IOException, ParserConfigurationException {
+        Message message = new DefaultMessage("<message xmlns='http://citrusframework.org/test'>"
+                        + "<correlationId>Kx1R123456789</correlationId>"
+                        + "<bookingId>Bx1G987654321</bookingId>"
+                        + "<test>Hello TestFramework</test>"
+                    + "</message>");
+
+        DomXmlMessageValidator validator = new DomXmlMessageValidator();
+
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+        Resource schemaResource = new ClassPathResource("com/consol/citrus/validation/test.xsd");
+        SimpleXsdSchema schema = new SimpleXsdSchema(schemaResource);
+        schema.afterPropertiesSet();
+
+        schemaRepository.getSchemas().add(schema);
+
+        validator.addSchemaRepository(schemaRepository);
+
+        validator.validateXMLSchema(message, new XmlMessageValidationContext());
+        validator.validateXMLSchema(message, new XmlMessageValidationContext());
+        validator.validateXMLSchema(message, new XmlMessageValidationContext());
+
+        Assert.assertEquals(validator.getSchemaValidatorCache().size(), 1);
+        Assert.assertEquals(validator.getSchemaValidatorCache().getMisses(), 1L);
+        Assert.assertEquals(validator.getSchemaValidatorCache().getHits(), 2L);
+    }
+
     @Test
     public void validateXMLSchemaNested() throws Exception {
         Message message = new DefaultMessage("<SOAP-ENV:Envelope xmlns:SOAP-ENV=\"http://schemas.xmlsoap.org/soap/envelope/\">" +
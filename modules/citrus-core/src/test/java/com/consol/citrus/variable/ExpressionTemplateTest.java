@@ -0,0 +1,69 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import com.consol.citrus.exceptions.NoSuchVariableException;
+import com.consol.citrus.functions.FunctionUtils;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class ExpressionTemplateTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testCompileCached() {
+        ExpressionTemplate template = ExpressionTemplate.compile("Hello ${name}!", context.getFunctionRegistry().getFunctionLibraries());
+        Assert.assertSame(ExpressionTemplate.compile("Hello ${name}!", context.getFunctionRegistry().getFunctionLibraries()), template);
+        Assert.assertEquals(template.getTemplate(), "Hello ${name}!");
+    }
+
+    @Test
+    public void testEvaluate() {
+        context.setVariable("greeting", "Hello");
+        context.setVariable("url", "http://localhost:8080");
+        context.setVariable("function", "citrus:upperCase('foo')");
+        context.setVariable("braces", "(x)");
+
+        String[] templates = new String[] {
+            "Plain text",
+            "${greeting}",
+            "<Text>${greeting} ${url}</Text>",
+            "citrus:concat('Hello', ' TestFramework!')",
+            "<Text>citrus:upperCase(${greeting})</Text><Url>${url}</Url>",
+            "citrus:concat(${greeting}, ' ', citrus:upperCase('citrus'))",
+            "${function}",
+            "${braces} citrus:upperCase('x')",
+            "citrus:upperCase('a')citrus:upperCase('b')${greeting}citrus:upperCase(${greeting})",
+            "Time: 12:00 (${greeting})"
+        };
+
+        for (String template : templates) {
+            for (boolean enableQuoting : new boolean[] { false, true }) {
+                String expected = FunctionUtils.replaceFunctionsInString(VariableUtils.replaceVariablesInString(template, context, enableQuoting), context, enableQuoting);
+                Assert.assertEquals(ExpressionTemplate.compile(template, context.getFunctionRegistry().getFunctionLibraries()).evaluate(context, enableQuoting), expected);
+            }
+        }
+    }
+
+    @Test(expectedExceptions = NoSuchVariableException.class)
+    public void testUnknownVariable() {
+        ExpressionTemplate.compile("Hello ${unknown}!", context.getFunctionRegistry().getFunctionLibraries()).evaluate(context, false);
+    }
+}
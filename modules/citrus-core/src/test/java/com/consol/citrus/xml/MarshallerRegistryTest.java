@@ -0,0 +1,90 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.xml.transform.StringResult;
+import org.springframework.xml.transform.StringSource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.xml.bind.annotation.XmlRootElement;
+import java.util.concurrent.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class MarshallerRegistryTest {
+
+    @Test
+    public void testSharedJaxb2Marshaller() {
+        Jaxb2Marshaller marshaller = MarshallerRegistry.getJaxb2Marshaller(null, Greeting.class);
+        Assert.assertSame(MarshallerRegistry.getJaxb2Marshaller(null, Greeting.class), marshaller);
+
+        Greeting greeting = new Greeting();
+        greeting.text = "Hello";
+
+        StringResult result = new StringResult();
+        marshaller.marshal(greeting, result);
+        Assert.assertTrue(result.toString().contains("<text>Hello</text>"));
+
+        Greeting unmarshalled = (Greeting) marshaller.unmarshal(new StringSource(result.toString()));
+        Assert.assertEquals(unmarshalled.text, "Hello");
+    }
+
+    @Test
+    public void testSharedJaxb2MarshallerConcurrentUsage() throws Exception {
+        Jaxb2Marshaller marshaller = MarshallerRegistry.getJaxb2Marshaller(null, Greeting.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CompletionService<String> completionService = new ExecutorCompletionService<>(executor);
+            for (int i = 0; i < 100; i++) {
+                final String text = "Hello" + i;
+                completionService.submit(() -> {
+                    Greeting greeting = new Greeting();
+                    greeting.text = text;
+
+                    StringResult result = new StringResult();
+                    marshaller.marshal(greeting, result);
+                    Greeting unmarshalled = (Greeting) marshaller.unmarshal(new StringSource(result.toString()));
+                    Assert.assertEquals(unmarshalled.text, text);
+                    return unmarshalled.text;
+                });
+            }
+
+            for (int i = 0; i < 100; i++) {
+                Assert.assertTrue(completionService.take().get(5, TimeUnit.SECONDS).startsWith("Hello"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSharedMarshaller() {
+        Object marshaller = MarshallerRegistry.getMarshaller(StringBuilder.class, StringBuilder::new);
+        Assert.assertSame(MarshallerRegistry.getMarshaller(StringBuilder.class, () -> {
+            throw new AssertionError("Unexpected marshaller creation");
+        }), marshaller);
+    }
+
+    @XmlRootElement(name = "greeting")
+    public static class Greeting {
+        public String text;
+    }
+}
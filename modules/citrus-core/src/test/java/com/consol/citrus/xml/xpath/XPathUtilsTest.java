@@ -27,6 +27,7 @@ import javax.xml.namespace.QName;
 import javax.xml.xpath.XPathFactory;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author Christoph Deppisch
@@ -98,9 +99,47 @@ public class XPathUtilsTest {
         Assert.assertEquals(XPathUtils.evaluateAsString(personNode, "/person/@status", namespaceContext), "single");
     }
 
+    @Test
+    public void testEvaluateCachedExpressionWithNamespaces() {
+        Document document = XMLUtils.parseMessagePayload("<root xmlns:a=\"http://citrusframework.org/a\" xmlns:b=\"http://citrusframework.org/b\">" +
+                    "<a:value>foo</a:value>" +
+                    "<b:value>bar</b:value>" +
+                "</root>");
+
+        XPathUtils.clearExpressionCache();
+
+        SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext();
+        namespaceContext.bindNamespaceUri("ns", "http://citrusframework.org/a");
+        Assert.assertEquals(XPathUtils.evaluateAsString(document, "/root/ns:value", namespaceContext), "foo");
+        Assert.assertEquals(XPathUtils.evaluateAsString(document, "/root/ns:value", namespaceContext), "foo");
+
+        namespaceContext = new SimpleNamespaceContext();
+        namespaceContext.bindNamespaceUri("ns", "http://citrusframework.org/b");
+        Assert.assertEquals(XPathUtils.evaluateAsString(document, "/root/ns:value", namespaceContext), "bar");
+    }
+
     @Test(priority = 1)
-    public void testCustomXPathFactory() {
+    public void testCustomXPathFactory() throws Exception {
         System.setProperty(XPathFactory.DEFAULT_PROPERTY_NAME + ":" + XPathFactory.DEFAULT_OBJECT_MODEL_URI, "");
-        testEvaluate();
+
+        try {
+            // xpath factory is created once per thread, so evaluate on a fresh thread to run the custom factory lookup
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            Thread evaluation = new Thread(() -> {
+                try {
+                    testEvaluate();
+                } catch (Throwable e) {
+                    error.set(e);
+                }
+            });
+
+            evaluation.start();
+            evaluation.join(5000L);
+
+            Assert.assertFalse(evaluation.isAlive());
+            Assert.assertNull(error.get(), String.valueOf(error.get()));
+        } finally {
+            System.clearProperty(XPathFactory.DEFAULT_PROPERTY_NAME + ":" + XPathFactory.DEFAULT_OBJECT_MODEL_URI);
+        }
     }
 }
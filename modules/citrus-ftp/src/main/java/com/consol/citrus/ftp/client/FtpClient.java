@@ -29,6 +29,8 @@ import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.*;
 import com.consol.citrus.util.FileUtils;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.net.ProtocolCommandEvent;
 import org.apache.commons.net.ProtocolCommandListener;
 import org.apache.commons.net.ftp.*;
@@ -43,6 +45,8 @@ import org.springframework.util.StringUtils;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.*;
 
 import static org.apache.commons.net.ftp.FTPReply.FILE_ACTION_OK;
@@ -284,7 +288,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
     /**
      * Constructs local file input stream. When using ASCII data type the test variable replacement is activated otherwise
-     * plain byte stream is used.
+     * plain byte stream is used. In streaming mode the file content is never read into memory so variable replacement is skipped.
      *
      * @param path
      * @param dataType
@@ -293,7 +297,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @throws IOException
      */
     protected InputStream getLocalFileInputStream(String path, String dataType, TestContext context) throws IOException {
-        if (dataType.equals(DataType.ASCII.name())) {
+        if (dataType.equals(DataType.ASCII.name()) && !getEndpointConfiguration().isStreamFiles()) {
             String content = context.replaceDynamicContentInString(FileUtils.readToString(FileUtils.getFileResource(path)));
             return new ByteArrayInputStream(content.getBytes(FileUtils.getDefaultCharset()));
         } else {
@@ -315,7 +319,8 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             }
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
-            try (FileOutputStream localFileOutputStream = new FileOutputStream(localFilePath)) {
+            MessageDigest digest = DigestUtils.getSha256Digest();
+            try (OutputStream localFileOutputStream = getLocalFileOutputStream(localFilePath, digest)) {
                 ftpClient.setFileType(getFileType(dataType));
 
                 if (!ftpClient.retrieveFile(remoteFilePath, localFileOutputStream)) {
@@ -324,7 +329,10 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
                 }
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
+            if (getEndpointConfiguration().isStreamFiles()) {
+                return FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath,
+                        Files.size(Paths.get(localFilePath)), Hex.encodeHexString(digest.digest()));
+            } else if (getEndpointConfiguration().isAutoReadFiles()) {
                 String fileContent;
                 if (command.getFile().getType().equals(DataType.BINARY.name())) {
                     fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
@@ -341,6 +349,36 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    /**
+     * Constructs local file output stream. In streaming mode the checksum of the written content is computed on the fly
+     * with given message digest.
+     * @param localFilePath
+     * @param digest
+     * @return
+     * @throws IOException
+     */
+    protected OutputStream getLocalFileOutputStream(String localFilePath, MessageDigest digest) throws IOException {
+        OutputStream localFileOutputStream = new FileOutputStream(localFilePath);
+        if (getEndpointConfiguration().isStreamFiles()) {
+            return new DigestOutputStream(localFileOutputStream, digest);
+        }
+
+        return localFileOutputStream;
+    }
+
+    /**
+     * Computes hex encoded SHA-256 checksum of given local file. File content is read in chunks so
+     * memory consumption does not depend on the file size.
+     * @param localFilePath
+     * @return
+     * @throws IOException
+     */
+    protected static String getChecksum(String localFilePath) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(Paths.get(localFilePath))) {
+            return DigestUtils.sha256Hex(inputStream);
+        }
+    }
+
     /**
      * Get file type from info string.
      * @param typeInfo
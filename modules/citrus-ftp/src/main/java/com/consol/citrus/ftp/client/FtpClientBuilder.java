@@ -64,6 +64,16 @@ public class FtpClientBuilder extends AbstractEndpointBuilder<FtpClient> {
         return this;
     }
 
+    /**
+     * Sets the stream files property.
+     * @param streamFiles
+     * @return
+     */
+    public FtpClientBuilder streamFiles(boolean streamFiles) {
+        endpoint.getEndpointConfiguration().setStreamFiles(streamFiles);
+        return this;
+    }
+
     /**
      * Sets the client username.
      * @param username
@@ -64,6 +64,9 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** Auto read file content retrieved from server */
     private boolean autoReadFiles = true;
 
+    /** Stream file transfers and represent file content by size and checksum instead of reading content into memory */
+    private boolean streamFiles = false;
+
     /**
      * Gets the ftp host.
      * @return
@@ -251,4 +254,23 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public void setAutoReadFiles(boolean autoReadFiles) {
         this.autoReadFiles = autoReadFiles;
     }
+
+    /**
+     * Gets the streamFiles.
+     *
+     * @return
+     */
+    public boolean isStreamFiles() {
+        return streamFiles;
+    }
+
+    /**
+     * Sets the streamFiles. When enabled file transfers use streams and retrieved files are represented by
+     * their local path, size and checksum instead of the file content.
+     *
+     * @param streamFiles
+     */
+    public void setStreamFiles(boolean streamFiles) {
+        this.streamFiles = streamFiles;
+    }
 }
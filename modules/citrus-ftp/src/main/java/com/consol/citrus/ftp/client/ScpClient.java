@@ -21,6 +21,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ftp.message.FtpMessage;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.util.FileUtils;
+import org.apache.commons.net.ftp.FTPReply;
 import org.apache.sshd.client.SshClient;
 import org.apache.sshd.client.keyverifier.*;
 import org.apache.sshd.client.scp.DefaultScpClientCreator;
@@ -34,6 +35,8 @@ import org.springframework.core.io.Resource;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Optional;
 
 /**
@@ -103,6 +106,12 @@ public class ScpClient extends SftpClient {
             }
 
             scpClient.download(command.getFile().getPath(), target.getFile().getAbsolutePath());
+
+            if (getEndpointConfiguration().isStreamFiles()) {
+                String localFilePath = target.getFile().getAbsolutePath();
+                return FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath,
+                        Files.size(Paths.get(localFilePath)), getChecksum(localFilePath));
+            }
         } catch (IOException e) {
             log.error("Failed to retrieve file via SCP", e);
             return FtpMessage.error();
@@ -74,6 +74,16 @@ public class ScpClientBuilder extends AbstractEndpointBuilder<ScpClient> {
         return this;
     }
 
+    /**
+     * Sets the stream files property.
+     * @param streamFiles
+     * @return
+     */
+    public ScpClientBuilder streamFiles(boolean streamFiles) {
+        endpoint.getEndpointConfiguration().setStreamFiles(streamFiles);
+        return this;
+    }
+
     /**
      * Sets the client username.
      * @param username
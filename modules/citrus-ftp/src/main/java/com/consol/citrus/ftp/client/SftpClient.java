@@ -23,6 +23,8 @@ import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.util.FileUtils;
 import com.jcraft.jsch.*;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.net.ftp.FTPCmd;
 import org.apache.commons.net.ftp.FTPReply;
 import org.apache.ftpserver.ftplet.DataType;
@@ -33,6 +35,7 @@ import org.springframework.util.*;
 
 import java.io.*;
 import java.nio.file.*;
+import java.security.MessageDigest;
 import java.util.*;
 
 /**
@@ -198,19 +201,23 @@ public class SftpClient extends FtpClient {
             String remoteFilePath = context.replaceDynamicContentInString(command.getFile().getPath());
             String localFilePath = addFileNameToTargetPath(remoteFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
-            try (InputStream inputStream = sftp.get(remoteFilePath)) {
-                byte[] bytes = FileCopyUtils.copyToByteArray(inputStream);
+            // create intermediate directories if necessary
+            Path localFilePathObj = Paths.get(localFilePath);
+            Files.createDirectories(localFilePathObj.getParent());
 
-                // create intermediate directories if necessary
-                Path localFilePathObj = Paths.get(localFilePath);
-                Files.createDirectories(localFilePathObj.getParent());
-                Files.write(localFilePathObj, bytes);
+            MessageDigest digest = DigestUtils.getSha256Digest();
+            try (InputStream inputStream = sftp.get(remoteFilePath);
+                 OutputStream localFileOutputStream = getLocalFileOutputStream(localFilePath, digest)) {
+                StreamUtils.copy(inputStream, localFileOutputStream);
             } catch (SftpException e) {
                 throw new CitrusRuntimeException(String.format("Failed to get file from FTP server. Remote path: %s. Local file path: %s. Error: %s",
                         remoteFilePath, localFilePath, e.getMessage()));
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
+            if (getEndpointConfiguration().isStreamFiles()) {
+                return FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath,
+                        Files.size(localFilePathObj), Hex.encodeHexString(digest.digest()));
+            } else if (getEndpointConfiguration().isAutoReadFiles()) {
                 String fileContent;
                 if (command.getFile().getType().equals(DataType.BINARY.name())) {
                     fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
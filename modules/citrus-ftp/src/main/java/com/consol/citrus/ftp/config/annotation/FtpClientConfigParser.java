@@ -48,6 +48,7 @@ public class FtpClientConfigParser extends AbstractAnnotationConfigParser<FtpCli
 
         builder.port(annotation.port());
         builder.autoReadFiles(annotation.autoReadFiles());
+        builder.streamFiles(annotation.streamFiles());
 
         if (StringUtils.hasText(annotation.username())) {
             builder.username(annotation.username());
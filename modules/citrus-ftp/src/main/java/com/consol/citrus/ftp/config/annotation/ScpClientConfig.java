@@ -48,6 +48,12 @@ public @interface ScpClientConfig {
      */
     String portOption() default "-P";
 
+    /**
+     * Stream files
+     * @return
+     */
+    boolean streamFiles() default false;
+
     /**
      * Username
      * @return
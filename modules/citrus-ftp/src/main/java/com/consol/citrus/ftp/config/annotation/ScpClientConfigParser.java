@@ -47,6 +47,7 @@ public class ScpClientConfigParser extends AbstractAnnotationConfigParser<ScpCli
 
         builder.port(annotation.port());
         builder.portOption(annotation.portOption());
+        builder.streamFiles(annotation.streamFiles());
 
         if (StringUtils.hasText(annotation.username())) {
             builder.username(annotation.username());
@@ -48,6 +48,12 @@ public @interface SftpClientConfig {
      */
     boolean autoReadFiles() default true;
 
+    /**
+     * Stream files
+     * @return
+     */
+    boolean streamFiles() default false;
+
     /**
      * Username
      * @return
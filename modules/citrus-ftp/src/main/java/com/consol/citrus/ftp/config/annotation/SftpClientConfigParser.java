@@ -47,6 +47,7 @@ public class SftpClientConfigParser extends AbstractAnnotationConfigParser<SftpC
 
         builder.port(annotation.port());
         builder.autoReadFiles(annotation.autoReadFiles());
+        builder.streamFiles(annotation.streamFiles());
 
         if (StringUtils.hasText(annotation.username())) {
             builder.username(annotation.username());
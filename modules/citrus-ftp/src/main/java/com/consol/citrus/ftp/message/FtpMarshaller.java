@@ -19,13 +19,13 @@ package com.consol.citrus.ftp.message;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.xml.MarshallerRegistry;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.oxm.*;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.xml.transform.StringResult;
@@ -50,7 +50,7 @@ public class FtpMarshaller extends ObjectMapper implements Marshaller, Unmarshal
     private static final String JDBC_MARSHALLER_TYPE_PROPERTY = "citrus.ftp.marshaller.type";
 
     /** XML marshalling delegate */
-    private Jaxb2Marshaller jaxbDelegate = new Jaxb2Marshaller();
+    private final Jaxb2Marshaller jaxbDelegate;
 
     /** Message type format: XML or JSON */
     private String type;
@@ -59,7 +59,8 @@ public class FtpMarshaller extends ObjectMapper implements Marshaller, Unmarshal
      * Default constructor
      */
     public FtpMarshaller() {
-        jaxbDelegate.setClassesToBeBound(Command.class,
+        jaxbDelegate = MarshallerRegistry.getJaxb2Marshaller("com/consol/citrus/schema/citrus-ftp-message.xsd",
+                            Command.class,
                             CommandResult.class,
                             ConnectCommand.class,
                             GetCommand.class,
@@ -70,16 +71,9 @@ public class FtpMarshaller extends ObjectMapper implements Marshaller, Unmarshal
                             PutCommandResult.class,
                             ListCommandResult.class,
                             DeleteCommandResult.class);
-        jaxbDelegate.setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-ftp-message.xsd"));
 
         type = System.getProperty(JDBC_MARSHALLER_TYPE_PROPERTY, MessageType.XML.name());
 
-        try {
-            jaxbDelegate.afterPropertiesSet();
-        } catch (Exception e) {
-            log.warn("Failed to setup ftp message marshaller: " + e.getMessage());
-        }
-
         setSerializationInclusion(JsonInclude.Include.NON_NULL);
     }
 
@@ -20,6 +20,7 @@ import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.util.FileUtils;
+import com.consol.citrus.xml.MarshallerRegistry;
 import org.apache.commons.net.ftp.FTPCmd;
 import org.apache.commons.net.ftp.FTPReply;
 import org.apache.ftpserver.ftplet.DataType;
@@ -41,7 +42,7 @@ public class FtpMessage extends DefaultMessage {
     private CommandType command;
     private CommandResultType commandResult;
 
-    private FtpMarshaller marshaller = new FtpMarshaller();
+    private FtpMarshaller marshaller = MarshallerRegistry.getMarshaller(FtpMarshaller.class, FtpMarshaller::new);
 
     /**
      * Constructs copy of given message.
@@ -298,6 +299,22 @@ public class FtpMessage extends DefaultMessage {
         return result(getCommandResult);
     }
 
+    public static FtpMessage result(int replyCode, String replyString, String path, long size, String checksum) {
+        GetCommandResult getCommandResult = new GetCommandResult();
+        getCommandResult.setReplyCode(String.valueOf(replyCode));
+        getCommandResult.setReplyString(replyString);
+        getCommandResult.setSuccess(true);
+
+        GetCommandResult.File file = new GetCommandResult.File();
+        file.setPath(path);
+        file.setSize(size);
+        file.setChecksum(checksum);
+
+        getCommandResult.setFile(file);
+
+        return result(getCommandResult);
+    }
+
     /**
      * Sets the command args.
      * @param arguments
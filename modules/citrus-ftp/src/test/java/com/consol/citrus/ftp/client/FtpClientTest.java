@@ -54,6 +54,8 @@ public class FtpClientTest extends AbstractFtpClientTest {
     private static final String UPLOAD_FILE = "upload_file";
     private static final String DOWNLOAD_FILE = "/download_file";
     private static final String SINGLE_FILE = "/single_file";
+    private static final String STREAM_FILE = "/stream_file";
+    private static final String STREAM_FILE_CONTENT = "Hello Citrus streaming!";
     private static final String DELETE_FOLDER = "/delete";
     private static final String EMPTY_FOLDER = "/empty_folder";
     private static final String FOLDER = "/folder";
@@ -90,6 +92,7 @@ public class FtpClientTest extends AbstractFtpClientTest {
         Thread.sleep(2000);
         fileSystem.add(new FileEntry(DOWNLOAD_FILE + "_2"));
         fileSystem.add(new FileEntry(SINGLE_FILE));
+        fileSystem.add(new FileEntry(STREAM_FILE, STREAM_FILE_CONTENT));
         fileSystem.add(new DirectoryEntry(COMPLETELY_DELETE_FOLDER + "/first_folder"));
         fileSystem.add(new DirectoryEntry(COMPLETELY_DELETE_FOLDER + "/second_folder"));
         fileSystem.add(new FileEntry(COMPLETELY_DELETE_FOLDER + "/first_folder/file1"));
@@ -137,6 +140,48 @@ public class FtpClientTest extends AbstractFtpClientTest {
         assertTrue(new File(localFilePath).exists());
     }
 
+    @Test
+    public void testRetrieveFileStreaming() {
+        assertTrue(fakeFtpServer.getFileSystem().exists(DOWNLOAD_FILE));
+        String localFilePath = Paths.get(targetPath, "download_file_streamed").toString();
+
+        ftpClient.getEndpointConfiguration().setStreamFiles(true);
+        try {
+            FtpMessage ftpMessage = ftpClient.retrieveFile(getCommand(DOWNLOAD_FILE, localFilePath), context);
+            GetCommandResult result = ftpMessage.getPayload(GetCommandResult.class);
+
+            assertTrue(result.isSuccess());
+            assertEquals(result.getFile().getPath(), localFilePath);
+            assertNull(result.getFile().getData());
+            assertEquals(result.getFile().getSize(), Long.valueOf(0L));
+            assertEquals(result.getFile().getChecksum(), "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+            assertTrue(new File(localFilePath).exists());
+        } finally {
+            ftpClient.getEndpointConfiguration().setStreamFiles(false);
+        }
+    }
+
+    @Test
+    public void testRetrieveFileStreamingWithContent() throws IOException {
+        assertTrue(fakeFtpServer.getFileSystem().exists(STREAM_FILE));
+        String localFilePath = Paths.get(targetPath, "stream_file_streamed").toString();
+
+        ftpClient.getEndpointConfiguration().setStreamFiles(true);
+        try {
+            FtpMessage ftpMessage = ftpClient.retrieveFile(getCommand(STREAM_FILE, localFilePath), context);
+            GetCommandResult result = ftpMessage.getPayload(GetCommandResult.class);
+
+            assertTrue(result.isSuccess());
+            assertEquals(result.getFile().getPath(), localFilePath);
+            assertNull(result.getFile().getData());
+            assertEquals(result.getFile().getSize(), Long.valueOf(STREAM_FILE_CONTENT.length()));
+            assertEquals(result.getFile().getChecksum(), "94e738433f6991397956a6dd173389cd252f96de39d11cb60aa1d39f7e4c269c");
+            assertEquals(new String(Files.readAllBytes(Paths.get(localFilePath))), STREAM_FILE_CONTENT);
+        } finally {
+            ftpClient.getEndpointConfiguration().setStreamFiles(false);
+        }
+    }
+
     @Test
     public void testRetrieveFileImplicitFilename() {
         assertTrue(fakeFtpServer.getFileSystem().exists(DOWNLOAD_FILE));
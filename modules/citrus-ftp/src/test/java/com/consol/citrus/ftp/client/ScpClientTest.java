@@ -0,0 +1,117 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ftp.client;
+
+import com.consol.citrus.ftp.message.FtpMessage;
+import com.consol.citrus.ftp.model.CommandResult;
+import com.consol.citrus.ftp.model.GetCommandResult;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.sshd.common.keyprovider.ClassLoadableResourceKeyPairProvider;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.scp.ScpCommandFactory;
+import org.testng.Assert;
+import org.testng.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Collections;
+
+import static org.apache.commons.net.ftp.FTPReply.CLOSING_DATA_CONNECTION;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class ScpClientTest extends AbstractFtpClientTest {
+
+    private ScpClient scpClient;
+    private SshServer sshServer;
+
+    private String targetPath;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        targetPath = System.getProperty("project.build.directory");
+        sshServer = startScpMockServer();
+        scpClient = createScpClient();
+    }
+
+    @AfterClass
+    public void tearDown() throws Exception {
+        scpClient.destroy();
+        sshServer.close();
+    }
+
+    @Test
+    public void testRetrieveFileStreaming() throws Exception {
+        Path remoteFilePath = Paths.get(targetPath, "scp_hello.xml");
+        Path localDownloadFilePath = Paths.get(targetPath, "scp_download", "scp_hello_streamed.xml");
+
+        FtpMessage ftpMessage = scpClient.storeFile(putCommand("classpath:ftp/input/hello.xml", remoteFilePath.toString()), context);
+        Assert.assertTrue(ftpMessage.getPayload(CommandResult.class).isSuccess());
+        Assert.assertTrue(remoteFilePath.toFile().exists());
+
+        byte[] remoteContent = Files.readAllBytes(remoteFilePath);
+        Assert.assertTrue(remoteContent.length > 0);
+
+        scpClient.getEndpointConfiguration().setStreamFiles(true);
+        try {
+            ftpMessage = scpClient.retrieveFile(getCommand(remoteFilePath.toString(), "file:" + localDownloadFilePath), context);
+            verifyMessage(ftpMessage, GetCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+
+            GetCommandResult result = ftpMessage.getPayload(GetCommandResult.class);
+            Assert.assertEquals(result.getFile().getPath(), localDownloadFilePath.toString());
+            Assert.assertNull(result.getFile().getData());
+            Assert.assertEquals(result.getFile().getSize(), Long.valueOf(remoteContent.length));
+            Assert.assertEquals(result.getFile().getChecksum(), DigestUtils.sha256Hex(remoteContent));
+            Assert.assertEquals(Files.readAllBytes(localDownloadFilePath), remoteContent);
+        } finally {
+            scpClient.getEndpointConfiguration().setStreamFiles(false);
+        }
+    }
+
+    private SshServer startScpMockServer() throws IOException {
+        // SCP mock server without authentication
+        SshServer sshd = SshServer.setUpDefaultServer();
+        sshd.setPort(2224);
+
+        ClassLoadableResourceKeyPairProvider resourceKeyPairProvider = new ClassLoadableResourceKeyPairProvider();
+        resourceKeyPairProvider.setResources(Collections.singletonList("com/consol/citrus/ssh/citrus.pem"));
+        sshd.setKeyPairProvider(resourceKeyPairProvider);
+
+        sshd.setPasswordAuthenticator((username, password, session) -> true);
+        sshd.setCommandFactory(new ScpCommandFactory.Builder().build());
+
+        sshd.start();
+
+        return sshd;
+    }
+
+    private ScpClient createScpClient() {
+        ScpEndpointConfiguration endpointConfiguration = new ScpEndpointConfiguration();
+        endpointConfiguration.setHost("localhost");
+        endpointConfiguration.setPort(2224);
+        endpointConfiguration.setUser("remote-username");
+        endpointConfiguration.setPassword("remote-password");
+        endpointConfiguration.setPrivateKeyPath("classpath:com/consol/citrus/ssh/citrus.pem");
+
+        ScpClient scpClient = new ScpClient(endpointConfiguration);
+        scpClient.afterPropertiesSet();
+        scpClient.connectAndLogin();
+        return scpClient;
+    }
+}
@@ -19,6 +19,7 @@ package com.consol.citrus.ftp.client;
 import com.consol.citrus.ftp.message.FtpMessage;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.util.FileUtils;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.sshd.common.NamedFactory;
 import org.apache.sshd.common.keyprovider.ClassLoadableResourceKeyPairProvider;
 import org.apache.sshd.server.SshServer;
@@ -125,6 +126,32 @@ public class SftpClientTest extends AbstractFtpClientTest {
                 new String(Files.readAllBytes(localDownloadFilePath), "UTF-8"));
     }
 
+    @Test
+    public void testRetrieveFileStreaming() throws Exception {
+        Path localDownloadFilePath = Paths.get(targetPath, "local_download_streamed.xml");
+
+        FtpMessage ftpMessage = sftpClient.storeFile(putCommand(localFilePath, remoteFilePath), context);
+        verifyMessage(ftpMessage, PutCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+        assertTrue(Paths.get(remoteFilePath).toFile().exists());
+
+        byte[] remoteContent = Files.readAllBytes(Paths.get(remoteFilePath));
+
+        sftpClient.getEndpointConfiguration().setStreamFiles(true);
+        try {
+            ftpMessage = sftpClient.retrieveFile(getCommand(remoteFilePath, localDownloadFilePath.toString()), context);
+            verifyMessage(ftpMessage, GetCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+
+            GetCommandResult result = ftpMessage.getPayload(GetCommandResult.class);
+            Assert.assertEquals(result.getFile().getPath(), localDownloadFilePath.toString());
+            Assert.assertNull(result.getFile().getData());
+            Assert.assertEquals(result.getFile().getSize(), Long.valueOf(remoteContent.length));
+            Assert.assertEquals(result.getFile().getChecksum(), DigestUtils.sha256Hex(remoteContent));
+            Assert.assertEquals(new String(Files.readAllBytes(localDownloadFilePath), StandardCharsets.UTF_8), inputFileAsString);
+        } finally {
+            sftpClient.getEndpointConfiguration().setStreamFiles(false);
+        }
+    }
+
     @Test
     public void testDeleteFile() {
         FtpMessage ftpMessage = sftpClient.storeFile(putCommand(localFilePath, remoteFilePath), context);
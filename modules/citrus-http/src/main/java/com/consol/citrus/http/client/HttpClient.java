@@ -19,11 +19,13 @@ package com.consol.citrus.http.client;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.http.interceptor.LoggingClientInterceptor;
 import com.consol.citrus.http.message.HttpMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.EvictingObjectStore;
+import com.consol.citrus.message.correlation.SignallingCorrelationManager;
 import com.consol.citrus.messaging.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,11 +35,18 @@ import org.springframework.util.CollectionUtils;
 import java.net.URI;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.*;
 
 /**
  * Http client sends messages via Http protocol to some Http server instance, defined by a request endpoint url. Synchronous response
  * messages are cached in local memory and receive operations are able to fetch responses from this cache later on.
  *
+ * In async mode the blocking request exchange is offloaded to the test context task executor and the send operation returns
+ * immediately. This is no non-blocking I/O, each request in flight occupies one executor thread. The number of requests in
+ * flight is bounded by the max store size of the endpoint, further requests are exchanged in the calling thread until
+ * pending requests have completed. Response message is stored to the cache as soon as it arrives. Errors raised during
+ * request exchange are kept in a store of the same max size and thrown on next receive operation for this request.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
@@ -48,6 +57,12 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Pending async requests by correlation key */
+    private final ConcurrentMap<String, CompletableFuture<Message>> pendingRequests = new ConcurrentHashMap<>();
+
+    /** Errors of failed async requests by correlation key */
+    private final EvictingObjectStore<Throwable> failedRequests;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -62,7 +77,9 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
     public HttpClient(HttpEndpointConfiguration endpointConfiguration) {
         super(endpointConfiguration);
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new SignallingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet",
+                endpointConfiguration::getMaxStoreSize);
+        this.failedRequests = new EvictingObjectStore<>(endpointConfiguration::getMaxStoreSize);
     }
 
     @Override
@@ -109,6 +126,40 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
         HttpEntity<?> requestEntity = getEndpointConfiguration().getMessageConverter().convertOutbound(httpMessage, getEndpointConfiguration(), context);
 
+        if (getEndpointConfiguration().isAsync() && pendingRequests.size() >= getEndpointConfiguration().getMaxStoreSize()) {
+            log.debug("Maximum number of pending async HTTP requests reached - sending request in calling thread");
+            correlationManager.store(correlationKey, exchange(httpMessage, endpointUri, method, requestEntity, context));
+        } else if (getEndpointConfiguration().isAsync()) {
+            final HttpMethod requestMethod = method;
+            CompletableFuture<Message> pendingRequest = CompletableFuture.supplyAsync(() ->
+                    exchange(httpMessage, endpointUri, requestMethod, requestEntity, context), context.getTaskExecutor());
+            pendingRequests.put(correlationKey, pendingRequest);
+
+            pendingRequest.whenComplete((response, error) -> {
+                if (error == null) {
+                    correlationManager.store(correlationKey, response);
+                } else {
+                    log.warn("Failed to send async HTTP request to endpoint: '" + endpointUri + "'", error);
+                    failedRequests.add(correlationKey, error instanceof CompletionException ? error.getCause() : error);
+                }
+
+                pendingRequests.remove(correlationKey, pendingRequest);
+            });
+        } else {
+            correlationManager.store(correlationKey, exchange(httpMessage, endpointUri, method, requestEntity, context));
+        }
+    }
+
+    /**
+     * Exchanges request with server and converts the response to message.
+     * @param httpMessage
+     * @param endpointUri
+     * @param method
+     * @param requestEntity
+     * @param context
+     * @return
+     */
+    private Message exchange(HttpMessage httpMessage, String endpointUri, HttpMethod method, HttpEntity<?> requestEntity, TestContext context) {
         try {
             ResponseEntity<?> response;
             MediaType accept = Optional.ofNullable(httpMessage.getAccept())
@@ -129,13 +180,12 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
             }
 
             log.info("HTTP message was sent to endpoint: '" + endpointUri + "'");
-            correlationManager.store(correlationKey, getEndpointConfiguration().getMessageConverter().convertInbound(response, getEndpointConfiguration(), context));
+            return getEndpointConfiguration().getMessageConverter().convertInbound(response, getEndpointConfiguration(), context);
         } catch (HttpErrorPropagatingException e) {
             log.info("Caught HTTP rest client exception: " + e.getMessage());
             log.info("Propagating HTTP rest client exception according to error handling strategy");
-            Message responseMessage = getEndpointConfiguration().getMessageConverter().convertInbound(
+            return getEndpointConfiguration().getMessageConverter().convertInbound(
                     new ResponseEntity<>(e.getResponseBodyAsString(), e.getResponseHeaders(), e.getStatusCode()), getEndpointConfiguration(), context);
-            correlationManager.store(correlationKey, responseMessage);
         }
     }
 
@@ -158,7 +208,17 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
-        Message message = correlationManager.find(selector, timeout);
+        long timeLeft = timeout;
+        CompletableFuture<Message> pendingRequest = pendingRequests.get(selector);
+        if (pendingRequest != null) {
+            long started = System.currentTimeMillis();
+            awaitPendingRequest(selector, pendingRequest, timeout);
+            timeLeft = Math.max(0L, timeout - (System.currentTimeMillis() - started));
+        } else {
+            rethrowFailedRequest(failedRequests.remove(selector));
+        }
+
+        Message message = correlationManager.find(selector, timeLeft);
 
         if (message == null) {
             throw new ActionTimeoutException("Action timeout while receiving synchronous reply message from http server");
@@ -167,6 +227,47 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
         return message;
     }
 
+    /**
+     * Waits for pending async request to complete. Errors raised during request exchange are rethrown.
+     * @param correlationKey
+     * @param pendingRequest
+     * @param timeout
+     */
+    private void awaitPendingRequest(String correlationKey, CompletableFuture<Message> pendingRequest, long timeout) {
+        try {
+            pendingRequest.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            pendingRequests.remove(correlationKey, pendingRequest);
+            failedRequests.remove(correlationKey);
+            rethrowFailedRequest(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ActionTimeoutException("Action timeout while receiving synchronous reply message from http server");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for async HTTP request", e);
+        }
+    }
+
+    /**
+     * Rethrows error of failed async request if any.
+     * @param error
+     */
+    private void rethrowFailedRequest(Throwable error) {
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        } else if (error != null) {
+            throw new CitrusRuntimeException("Failed to send async HTTP request", error);
+        }
+    }
+
+    /**
+     * Gets the number of async requests that have not been completed yet.
+     * @return
+     */
+    public int getPendingRequestCount() {
+        return pendingRequests.size();
+    }
+
     /**
      * Creates a message producer for this endpoint for sending messages
      * to this endpoint.
@@ -146,6 +146,66 @@ public class HttpClientBuilder extends AbstractEndpointBuilder<HttpClient> {
         return this;
     }
 
+    /**
+     * Sets the maxConnections property.
+     * @param maxConnections
+     * @return
+     */
+    public HttpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
+    /**
+     * Sets the maxConnectionsPerRoute property.
+     * @param maxConnectionsPerRoute
+     * @return
+     */
+    public HttpClientBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        endpoint.getEndpointConfiguration().setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+        return this;
+    }
+
+    /**
+     * Sets the connectionKeepAlive property.
+     * @param connectionKeepAlive
+     * @return
+     */
+    public HttpClientBuilder connectionKeepAlive(long connectionKeepAlive) {
+        endpoint.getEndpointConfiguration().setConnectionKeepAlive(connectionKeepAlive);
+        return this;
+    }
+
+    /**
+     * Sets the validateAfterInactivity property.
+     * @param validateAfterInactivity
+     * @return
+     */
+    public HttpClientBuilder validateAfterInactivity(int validateAfterInactivity) {
+        endpoint.getEndpointConfiguration().setValidateAfterInactivity(validateAfterInactivity);
+        return this;
+    }
+
+    /**
+     * Sets the async property.
+     * @param async
+     * @return
+     */
+    public HttpClientBuilder async(boolean async) {
+        endpoint.getEndpointConfiguration().setAsync(async);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of correlated objects kept in store.
+     * @param maxStoreSize
+     * @return
+     */
+    public HttpClientBuilder maxStoreSize(int maxStoreSize) {
+        endpoint.getEndpointConfiguration().setMaxStoreSize(maxStoreSize);
+        return this;
+    }
+
     /**
      * Sets the content type.
      * @param contentType
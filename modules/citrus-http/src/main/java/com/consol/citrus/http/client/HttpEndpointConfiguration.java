@@ -21,6 +21,12 @@ import com.consol.citrus.endpoint.resolver.DynamicEndpointUriResolver;
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
 import com.consol.citrus.http.message.HttpMessageConverter;
 import com.consol.citrus.message.*;
+import com.consol.citrus.message.correlation.EvictingObjectStore;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.springframework.http.*;
 import org.springframework.http.client.*;
 import org.springframework.http.converter.StringHttpMessageConverter;
@@ -29,8 +35,7 @@ import org.springframework.integration.mapping.HeaderMapper;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 /**
  * @author Christoph Deppisch
@@ -56,6 +61,21 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     /** Request factory */
     private ClientHttpRequestFactory requestFactory;
 
+    /** Connection manager used by default request factory */
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    /** Maximum number of pooled connections */
+    private int maxConnections = 100;
+
+    /** Maximum number of pooled connections per route */
+    private int maxConnectionsPerRoute = 20;
+
+    /** Time in milliseconds pooled connections are kept alive when server does not say otherwise, negative value keeps them alive indefinitely */
+    private long connectionKeepAlive = -1L;
+
+    /** Time of inactivity in milliseconds after which pooled connections are validated before reuse */
+    private int validateAfterInactivity = 2000;
+
     /** Resolves dynamic endpoint uri */
     private EndpointUriResolver endpointUriResolver = new DynamicEndpointUriResolver();
 
@@ -86,6 +106,12 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     /** Should handle http cookies */
     private boolean handleCookies = false;
 
+    /** Should client send requests asynchronously */
+    private boolean async = false;
+
+    /** Maximum number of correlated reply messages kept in store until consumed */
+    private int maxStoreSize = EvictingObjectStore.DEFAULT_MAX_SIZE;
+
     /** Default status code returned by http server */
     private int defaultStatusCode = HttpStatus.OK.value();
 
@@ -279,12 +305,129 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
      */
     public ClientHttpRequestFactory getRequestFactory() {
         if (requestFactory == null) {
-            requestFactory = new HttpComponentsClientHttpRequestFactory();
+            requestFactory = new HttpComponentsClientHttpRequestFactory(HttpClients.custom()
+                    .useSystemProperties()
+                    .setConnectionManager(getConnectionManager())
+                    .setKeepAliveStrategy((response, context) -> {
+                        long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                        if (connectionKeepAlive < 0) {
+                            return keepAlive;
+                        }
+
+                        return keepAlive > 0 ? Math.min(keepAlive, connectionKeepAlive) : connectionKeepAlive;
+                    })
+                    .build());
         }
 
         return requestFactory;
     }
 
+    /**
+     * Gets the pooling connection manager used by default request factory. Connection manager is created on first usage.
+     * @return
+     */
+    public synchronized PoolingHttpClientConnectionManager getConnectionManager() {
+        if (connectionManager == null) {
+            connectionManager = new PoolingHttpClientConnectionManager();
+            connectionManager.setMaxTotal(maxConnections);
+            connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+            connectionManager.setValidateAfterInactivity(validateAfterInactivity);
+        }
+
+        return connectionManager;
+    }
+
+    /**
+     * Gets leased, pending and available connection statistics for each route of the connection pool.
+     * @return
+     */
+    public Map<String, PoolStats> getConnectionPoolStats() {
+        Map<String, PoolStats> stats = new LinkedHashMap<>();
+        if (connectionManager != null) {
+            for (HttpRoute route : connectionManager.getRoutes()) {
+                stats.put(route.getTargetHost().toURI(), connectionManager.getStats(route));
+            }
+        }
+
+        return stats;
+    }
+
+    /**
+     * Gets leased, pending and available connection statistics for the whole connection pool.
+     * @return
+     */
+    public PoolStats getTotalConnectionPoolStats() {
+        if (connectionManager == null) {
+            return new PoolStats(0, 0, 0, maxConnections);
+        }
+
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Gets the maxConnections.
+     * @return
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maxConnections.
+     * @param maxConnections
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Gets the maxConnectionsPerRoute.
+     * @return
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maxConnectionsPerRoute.
+     * @param maxConnectionsPerRoute
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    /**
+     * Gets the connectionKeepAlive.
+     * @return
+     */
+    public long getConnectionKeepAlive() {
+        return connectionKeepAlive;
+    }
+
+    /**
+     * Sets the connectionKeepAlive.
+     * @param connectionKeepAlive
+     */
+    public void setConnectionKeepAlive(long connectionKeepAlive) {
+        this.connectionKeepAlive = connectionKeepAlive;
+    }
+
+    /**
+     * Gets the validateAfterInactivity.
+     * @return
+     */
+    public int getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    /**
+     * Sets the validateAfterInactivity.
+     * @param validateAfterInactivity
+     */
+    public void setValidateAfterInactivity(int validateAfterInactivity) {
+        this.validateAfterInactivity = validateAfterInactivity;
+    }
+
     /**
      * Sets the client request factory.
      * @param requestFactory
@@ -345,6 +488,42 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
         this.handleAttributeHeaders = handleAttributeHeaders;
     }
 
+    /**
+     * Gets the async.
+     *
+     * @return
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Sets the async.
+     *
+     * @param async
+     */
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * Gets the maxStoreSize.
+     *
+     * @return
+     */
+    public int getMaxStoreSize() {
+        return maxStoreSize;
+    }
+
+    /**
+     * Sets the maxStoreSize.
+     *
+     * @param maxStoreSize
+     */
+    public void setMaxStoreSize(int maxStoreSize) {
+        this.maxStoreSize = maxStoreSize;
+    }
+
     /**
      * Gets the handleCookies.
      *
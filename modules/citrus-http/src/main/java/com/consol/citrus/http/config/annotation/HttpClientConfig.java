@@ -91,6 +91,42 @@ public @interface HttpClientConfig {
      */
     boolean handleCookies() default false;
 
+    /**
+     * Max connections in pool.
+     * @return
+     */
+    int maxConnections() default 100;
+
+    /**
+     * Max connections per route in pool.
+     * @return
+     */
+    int maxConnectionsPerRoute() default 20;
+
+    /**
+     * Connection keep alive.
+     * @return
+     */
+    long connectionKeepAlive() default -1L;
+
+    /**
+     * Validate pooled connections after inactivity.
+     * @return
+     */
+    int validateAfterInactivity() default 2000;
+
+    /**
+     * Async request sending.
+     * @return
+     */
+    boolean async() default false;
+
+    /**
+     * Maximum number of correlated objects kept in store.
+     * @return
+     */
+    int maxStoreSize() default 1000;
+
     /**
      * Content type.
      * @return
@@ -89,6 +89,12 @@ public class HttpClientConfigParser extends AbstractAnnotationConfigParser<HttpC
 
         builder.defaultAcceptHeader(annotation.defaultAcceptHeader());
         builder.handleCookies(annotation.handleCookies());
+        builder.async(annotation.async());
+        builder.maxStoreSize(annotation.maxStoreSize());
+        builder.maxConnections(annotation.maxConnections());
+        builder.maxConnectionsPerRoute(annotation.maxConnectionsPerRoute());
+        builder.connectionKeepAlive(annotation.connectionKeepAlive());
+        builder.validateAfterInactivity(annotation.validateAfterInactivity());
         builder.charset(annotation.charset());
         builder.contentType(annotation.contentType());
         builder.pollingInterval(annotation.pollingInterval());
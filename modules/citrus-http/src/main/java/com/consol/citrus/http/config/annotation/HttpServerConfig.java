@@ -126,6 +126,48 @@ public @interface HttpServerConfig {
      */
     boolean handleCookies() default false;
 
+    /**
+     * Max server threads.
+     * @return
+     */
+    int maxThreads() default 200;
+
+    /**
+     * Min server threads.
+     * @return
+     */
+    int minThreads() default 8;
+
+    /**
+     * Connector acceptor threads.
+     * @return
+     */
+    int acceptors() default -1;
+
+    /**
+     * Connector selector threads.
+     * @return
+     */
+    int selectors() default -1;
+
+    /**
+     * Connection idle timeout.
+     * @return
+     */
+    long idleTimeout() default 30000L;
+
+    /**
+     * Max queued requests.
+     * @return
+     */
+    int maxQueuedRequests() default -1;
+
+    /**
+     * Execute requests on virtual threads.
+     * @return
+     */
+    boolean virtualThreads() default false;
+
     /**
      * Server default response status.
      * @return
@@ -57,6 +57,14 @@ public class HttpServerConfigParser extends AbstractAnnotationConfigParser<HttpS
         builder.handleAttributeHeaders(annotation.handleAttributeHeaders());
         builder.handleCookies(annotation.handleCookies());
 
+        builder.maxThreads(annotation.maxThreads());
+        builder.minThreads(annotation.minThreads());
+        builder.acceptors(annotation.acceptors());
+        builder.selectors(annotation.selectors());
+        builder.idleTimeout(annotation.idleTimeout());
+        builder.maxQueuedRequests(annotation.maxQueuedRequests());
+        builder.virtualThreads(annotation.virtualThreads());
+
         builder.debugLogging(annotation.debugLogging());
 
         if (StringUtils.hasText(annotation.endpointAdapter())) {
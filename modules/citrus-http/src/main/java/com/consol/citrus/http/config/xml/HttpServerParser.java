@@ -54,6 +54,14 @@ public class HttpServerParser extends AbstractServerParser {
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("handle-header-attributes"), "handleAttributeHeaders");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("handle-cookies"), "handleCookies");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("default-status-code"), "defaultStatusCode");
+
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("max-threads"), "maxThreads");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("min-threads"), "minThreads");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("acceptors"), "acceptors");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("selectors"), "selectors");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("idle-timeout"), "idleTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("max-queued-requests"), "maxQueuedRequests");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("virtual-threads"), "virtualThreads");
     }
 
     @Override
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.http.server;
 
+import com.consol.citrus.context.CitrusTaskExecutor;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.http.message.HttpMessageConverter;
 import com.consol.citrus.http.servlet.*;
@@ -23,8 +24,12 @@ import com.consol.citrus.server.AbstractServer;
 import org.eclipse.jetty.security.SecurityHandler;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.handler.*;
 import org.eclipse.jetty.servlet.*;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
@@ -45,11 +50,15 @@ import javax.servlet.ServletContext;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Simple Http server implementation starting an embedded Jetty server instance with
  * Spring Application context support. Incoming requests are handled with Spring MVC.
  *
+ * When no custom connector is set the server creates its own connector and thread pool based on the thread pool,
+ * acceptor, selector, idle timeout and request queue settings. Requests can also be executed on virtual threads.
+ *
  * @author Christoph Deppisch
  * @since 2007
  */
@@ -57,6 +66,27 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
     /** Server port */
     private int port = 8080;
 
+    /** Maximum number of server threads */
+    private int maxThreads = 200;
+
+    /** Minimum number of server threads */
+    private int minThreads = 8;
+
+    /** Number of connector acceptor threads, negative value lets Jetty decide */
+    private int acceptors = -1;
+
+    /** Number of connector selector threads, negative value lets Jetty decide */
+    private int selectors = -1;
+
+    /** Connection idle timeout in milliseconds */
+    private long idleTimeout = 30000L;
+
+    /** Maximum number of requests waiting for a free server thread, negative value for unbounded queue */
+    private int maxQueuedRequests = -1;
+
+    /** Execute requests on virtual threads */
+    private boolean virtualThreads = false;
+
     /** Server resource base */
     private String resourceBase = "src/main/resources";
 
@@ -145,7 +175,12 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
                 jettyServer = connector.getServer();
                 jettyServer.addConnector(connector);
             } else {
-                jettyServer = new Server(port);
+                jettyServer = new Server(createThreadPool());
+
+                ServerConnector serverConnector = new ServerConnector(jettyServer, acceptors, selectors);
+                serverConnector.setPort(port);
+                serverConnector.setIdleTimeout(idleTimeout);
+                jettyServer.addConnector(serverConnector);
             }
             
             HandlerCollection handlers = new HandlerCollection();
@@ -684,6 +719,210 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
         this.handleCookies = handleCookies;
     }
 
+    /**
+     * Creates server thread pool. Uses virtual threads when enabled and supported by the Java runtime.
+     * @return
+     */
+    private ThreadPool createThreadPool() {
+        if (virtualThreads) {
+            ExecutorService virtualThreadExecutor = CitrusTaskExecutor.createVirtualThreadExecutor();
+            if (virtualThreadExecutor != null) {
+                return new VirtualThreadPool(virtualThreadExecutor);
+            }
+        }
+
+        QueuedThreadPool threadPool;
+        if (maxQueuedRequests > 0) {
+            threadPool = new QueuedThreadPool(maxThreads, minThreads, 60000,
+                    new BlockingArrayQueue<>(Math.min(maxQueuedRequests, 1024), 1024, maxQueuedRequests));
+        } else {
+            threadPool = new QueuedThreadPool(maxThreads, minThreads);
+        }
+
+        threadPool.setName(getName() + "-jetty");
+        return threadPool;
+    }
+
+    /**
+     * Gets the number of server threads.
+     * @return
+     */
+    public int getThreads() {
+        return getThreadPool().map(ThreadPool::getThreads).orElse(0);
+    }
+
+    /**
+     * Gets the number of idle server threads.
+     * @return
+     */
+    public int getIdleThreads() {
+        return getThreadPool().map(ThreadPool::getIdleThreads).orElse(0);
+    }
+
+    /**
+     * Gets the number of busy server threads.
+     * @return
+     */
+    public int getBusyThreads() {
+        return getThreadPool()
+                .filter(QueuedThreadPool.class::isInstance)
+                .map(pool -> ((QueuedThreadPool) pool).getBusyThreads())
+                .orElse(getThreads() - getIdleThreads());
+    }
+
+    /**
+     * Gets the number of requests waiting for a free server thread.
+     * @return
+     */
+    public int getQueuedRequests() {
+        return getThreadPool()
+                .filter(QueuedThreadPool.class::isInstance)
+                .map(pool -> ((QueuedThreadPool) pool).getQueueSize())
+                .orElse(0);
+    }
+
+    /**
+     * Is server thread pool saturated so new requests have to wait for free server thread.
+     * @return
+     */
+    public boolean isLowOnThreads() {
+        return getThreadPool().map(ThreadPool::isLowOnThreads).orElse(false);
+    }
+
+    /**
+     * Gets the thread pool of running server.
+     * @return
+     */
+    private Optional<ThreadPool> getThreadPool() {
+        return Optional.ofNullable(jettyServer).map(Server::getThreadPool);
+    }
+
+    /**
+     * Gets the maxThreads.
+     *
+     * @return
+     */
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * Sets the maxThreads.
+     *
+     * @param maxThreads
+     */
+    public void setMaxThreads(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Gets the minThreads.
+     *
+     * @return
+     */
+    public int getMinThreads() {
+        return minThreads;
+    }
+
+    /**
+     * Sets the minThreads.
+     *
+     * @param minThreads
+     */
+    public void setMinThreads(int minThreads) {
+        this.minThreads = minThreads;
+    }
+
+    /**
+     * Gets the acceptors.
+     *
+     * @return
+     */
+    public int getAcceptors() {
+        return acceptors;
+    }
+
+    /**
+     * Sets the acceptors.
+     *
+     * @param acceptors
+     */
+    public void setAcceptors(int acceptors) {
+        this.acceptors = acceptors;
+    }
+
+    /**
+     * Gets the selectors.
+     *
+     * @return
+     */
+    public int getSelectors() {
+        return selectors;
+    }
+
+    /**
+     * Sets the selectors.
+     *
+     * @param selectors
+     */
+    public void setSelectors(int selectors) {
+        this.selectors = selectors;
+    }
+
+    /**
+     * Gets the idleTimeout.
+     *
+     * @return
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Sets the idleTimeout.
+     *
+     * @param idleTimeout
+     */
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Gets the maxQueuedRequests.
+     *
+     * @return
+     */
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    /**
+     * Sets the maxQueuedRequests.
+     *
+     * @param maxQueuedRequests
+     */
+    public void setMaxQueuedRequests(int maxQueuedRequests) {
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    /**
+     * Gets the virtualThreads.
+     *
+     * @return
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets the virtualThreads.
+     *
+     * @param virtualThreads
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     /**
      * Gets the defaultStatusCode.
      *
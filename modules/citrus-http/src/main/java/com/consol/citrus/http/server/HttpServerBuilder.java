@@ -214,6 +214,76 @@ public class HttpServerBuilder extends AbstractEndpointBuilder<HttpServer> {
         return this;
     }
 
+    /**
+     * Sets the maxThreads property.
+     * @param maxThreads
+     * @return
+     */
+    public HttpServerBuilder maxThreads(int maxThreads) {
+        endpoint.setMaxThreads(maxThreads);
+        return this;
+    }
+
+    /**
+     * Sets the minThreads property.
+     * @param minThreads
+     * @return
+     */
+    public HttpServerBuilder minThreads(int minThreads) {
+        endpoint.setMinThreads(minThreads);
+        return this;
+    }
+
+    /**
+     * Sets the acceptors property.
+     * @param acceptors
+     * @return
+     */
+    public HttpServerBuilder acceptors(int acceptors) {
+        endpoint.setAcceptors(acceptors);
+        return this;
+    }
+
+    /**
+     * Sets the selectors property.
+     * @param selectors
+     * @return
+     */
+    public HttpServerBuilder selectors(int selectors) {
+        endpoint.setSelectors(selectors);
+        return this;
+    }
+
+    /**
+     * Sets the idleTimeout property.
+     * @param idleTimeout
+     * @return
+     */
+    public HttpServerBuilder idleTimeout(long idleTimeout) {
+        endpoint.setIdleTimeout(idleTimeout);
+        return this;
+    }
+
+    /**
+     * Sets the maxQueuedRequests property.
+     * @param maxQueuedRequests
+     * @return
+     */
+    public HttpServerBuilder maxQueuedRequests(int maxQueuedRequests) {
+        endpoint.setMaxQueuedRequests(maxQueuedRequests);
+        return this;
+    }
+
+    /**
+     * Sets the virtualThreads property.
+     * @param virtualThreads
+     * @return
+     */
+    public HttpServerBuilder virtualThreads(boolean virtualThreads) {
+        endpoint.setVirtualThreads(virtualThreads);
+        return this;
+    }
+
     /**
      * Sets the handleCookies property.
      * @param flag
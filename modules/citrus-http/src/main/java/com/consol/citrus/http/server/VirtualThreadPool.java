@@ -0,0 +1,85 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.http.server;
+
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Jetty thread pool running each job on a new virtual thread. Pool has no upper bound so server never runs low on threads
+ * and requests are not queued.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class VirtualThreadPool extends AbstractLifeCycle implements ThreadPool {
+
+    /** Executor creating one virtual thread per job */
+    private final ExecutorService executorService;
+
+    /** Number of currently running jobs */
+    private final AtomicInteger activeThreads = new AtomicInteger();
+
+    /**
+     * Default constructor using virtual thread executor service.
+     * @param executorService
+     */
+    public VirtualThreadPool(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    @Override
+    public void execute(Runnable job) {
+        executorService.execute(() -> {
+            activeThreads.incrementAndGet();
+            try {
+                job.run();
+            } finally {
+                activeThreads.decrementAndGet();
+            }
+        });
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        executorService.shutdownNow();
+    }
+
+    @Override
+    public void join() throws InterruptedException {
+        executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int getThreads() {
+        return activeThreads.get();
+    }
+
+    @Override
+    public int getIdleThreads() {
+        return 0;
+    }
+
+    @Override
+    public boolean isLowOnThreads() {
+        return false;
+    }
+}
@@ -153,6 +153,11 @@ public class FormUrlEncodedMessageValidator extends DefaultMessageValidator {
         return message.getHeader(HttpMessageHeaders.HTTP_CONTENT_TYPE) != null ? message.getHeader(HttpMessageHeaders.HTTP_CONTENT_TYPE).toString() : null;
     }
 
+    @Override
+    public boolean supportsMessageType(String messageType) {
+        return MESSAGE_TYPE.equalsIgnoreCase(messageType);
+    }
+
     @Override
     public boolean supportsMessageType(String messageType, Message message) {
         return MESSAGE_TYPE.equalsIgnoreCase(messageType);
@@ -36,6 +36,8 @@ import java.net.URI;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Mockito.*;
 
@@ -562,4 +564,116 @@ public class HttpClientTest extends AbstractTestNGUnitTest {
 
         verify(restTemplate).setInterceptors(anyList());
     }
+
+    @Test
+    public void testAsyncRequests() throws Exception {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl(requestUrl);
+        endpointConfiguration.setAsync(true);
+
+        Message requestMessage = new DefaultMessage(requestBody);
+        Message failingMessage = new DefaultMessage("fail");
+
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        reset(restTemplate);
+
+        CountDownLatch serverLatch = new CountDownLatch(1);
+        doAnswer((Answer<ResponseEntity<String>>) invocation -> {
+            HttpEntity<?> httpRequest = (HttpEntity<?>)invocation.getArguments()[2];
+
+            if (httpRequest.getBody().toString().equals("fail")) {
+                throw new HttpClientErrorException(HttpStatus.FORBIDDEN);
+            }
+
+            Assert.assertTrue(serverLatch.await(5, TimeUnit.SECONDS));
+            return new ResponseEntity<>(responseBody, HttpStatus.OK);
+        }).when(restTemplate).exchange(eq(URI.create(requestUrl)), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+
+        httpClient.send(requestMessage, context);
+        httpClient.send(failingMessage, context);
+
+        Assert.assertTrue(httpClient.getPendingRequestCount() > 0);
+        serverLatch.countDown();
+
+        HttpMessage responseMessage = (HttpMessage) httpClient.receive(endpointConfiguration.getCorrelator().getCorrelationKey(requestMessage), context, 5000L);
+        Assert.assertEquals(responseMessage.getPayload(), responseBody);
+        Assert.assertEquals(responseMessage.getStatusCode(), HttpStatus.OK);
+
+        try {
+            httpClient.receive(endpointConfiguration.getCorrelator().getCorrelationKey(failingMessage), context, 5000L);
+            Assert.fail("Missing exception for failed async request");
+        } catch (HttpClientErrorException e) {
+            Assert.assertEquals(e.getStatusCode(), HttpStatus.FORBIDDEN);
+        }
+
+        Assert.assertEquals(httpClient.getPendingRequestCount(), 0);
+    }
+
+    @Test
+    public void testAsyncRequestsBounded() throws Exception {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl(requestUrl);
+        endpointConfiguration.setAsync(true);
+        endpointConfiguration.setMaxStoreSize(1);
+
+        Message blockingMessage = new DefaultMessage("block");
+        Message requestMessage = new DefaultMessage(requestBody);
+        Message failingMessage = new DefaultMessage("fail");
+
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        reset(restTemplate);
+
+        Thread testThread = Thread.currentThread();
+        CountDownLatch serverLatch = new CountDownLatch(1);
+        doAnswer((Answer<ResponseEntity<String>>) invocation -> {
+            HttpEntity<?> httpRequest = (HttpEntity<?>)invocation.getArguments()[2];
+
+            if (httpRequest.getBody().toString().equals("fail")) {
+                throw new HttpClientErrorException(HttpStatus.FORBIDDEN);
+            } else if (httpRequest.getBody().toString().equals("block")) {
+                Assert.assertTrue(serverLatch.await(5, TimeUnit.SECONDS));
+            } else {
+                Assert.assertSame(Thread.currentThread(), testThread);
+            }
+
+            return new ResponseEntity<>(responseBody, HttpStatus.OK);
+        }).when(restTemplate).exchange(eq(URI.create(requestUrl)), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+
+        httpClient.send(blockingMessage, context);
+        Assert.assertEquals(httpClient.getPendingRequestCount(), 1);
+
+        httpClient.send(requestMessage, context);
+        Assert.assertEquals(httpClient.getPendingRequestCount(), 1);
+
+        HttpMessage responseMessage = (HttpMessage) httpClient.receive(endpointConfiguration.getCorrelator().getCorrelationKey(requestMessage), context, 5000L);
+        Assert.assertEquals(responseMessage.getPayload(), responseBody);
+
+        serverLatch.countDown();
+        httpClient.receive(endpointConfiguration.getCorrelator().getCorrelationKey(blockingMessage), context, 5000L);
+
+        httpClient.send(failingMessage, context);
+
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (httpClient.getPendingRequestCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        Assert.assertEquals(httpClient.getPendingRequestCount(), 0);
+
+        try {
+            httpClient.receive(endpointConfiguration.getCorrelator().getCorrelationKey(failingMessage), context, 5000L);
+            Assert.fail("Missing exception for failed async request");
+        } catch (HttpClientErrorException e) {
+            Assert.assertEquals(e.getStatusCode(), HttpStatus.FORBIDDEN);
+        }
+    }
 }
@@ -57,6 +57,10 @@ public class HttpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(httpClient.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
         Assert.assertEquals(httpClient.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertEquals(httpClient.getEndpointConfiguration().isHandleCookies(), false);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnections(), 100);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxStoreSize(), 1000);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnectionsPerRoute(), 20);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getConnectionManager().getDefaultMaxPerRoute(), 20);
 
         // 2nd message sender
         httpClient = clients.get("httpClient2");
@@ -93,6 +97,15 @@ public class HttpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertNotNull(httpClient.getEndpointConfiguration().getClientInterceptors());
         Assert.assertEquals(httpClient.getEndpointConfiguration().getClientInterceptors().get(0), beanDefinitionContext.getBean("clientInterceptor"));
         Assert.assertEquals(httpClient.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnections(), 50);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnectionsPerRoute(), 10);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getConnectionKeepAlive(), 30000L);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getValidateAfterInactivity(), 500);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxStoreSize(), 5000);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getConnectionManager().getMaxTotal(), 50);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getConnectionManager().getDefaultMaxPerRoute(), 10);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getTotalConnectionPoolStats().getMax(), 50);
+        Assert.assertTrue(httpClient.getEndpointConfiguration().getConnectionPoolStats().isEmpty());
     }
 
     @Test
@@ -67,6 +67,13 @@ public class HttpServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getServletMappingPath(), "/*");
         Assert.assertFalse(server.isHandleAttributeHeaders());
         Assert.assertFalse(server.isHandleCookies());
+        Assert.assertEquals(server.getMaxThreads(), 200);
+        Assert.assertEquals(server.getMinThreads(), 8);
+        Assert.assertEquals(server.getAcceptors(), -1);
+        Assert.assertEquals(server.getSelectors(), -1);
+        Assert.assertEquals(server.getIdleTimeout(), 30000L);
+        Assert.assertEquals(server.getMaxQueuedRequests(), -1);
+        Assert.assertFalse(server.isVirtualThreads());
         Assert.assertEquals(server.getBinaryMediaTypes().size(), 6L);
 
         // 2nd message sender
@@ -137,6 +144,13 @@ public class HttpServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getServletName(), "httpServer5-servlet");
         Assert.assertNotNull(server.getInterceptors());
         Assert.assertEquals(server.getInterceptors().size(), 2L);
+        Assert.assertEquals(server.getMaxThreads(), 50);
+        Assert.assertEquals(server.getMinThreads(), 4);
+        Assert.assertEquals(server.getAcceptors(), 1);
+        Assert.assertEquals(server.getSelectors(), 2);
+        Assert.assertEquals(server.getIdleTimeout(), 10000L);
+        Assert.assertEquals(server.getMaxQueuedRequests(), 100);
+        Assert.assertTrue(server.isVirtualThreads());
     }
 
     @Test
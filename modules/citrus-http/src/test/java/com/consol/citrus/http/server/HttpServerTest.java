@@ -65,6 +65,8 @@ public class HttpServerTest extends AbstractTestNGUnitTest {
         client = new HttpClient(endpointConfiguration);
 
         server.setPort(port);
+        server.setMaxThreads(50);
+        server.setMinThreads(4);
         server.setApplicationContext(applicationContext);
         server.setUseRootContextAsParent(true);
         server.setContextConfigLocation("classpath:com/consol/citrus/http/HttpServerTest-http-servlet.xml");
@@ -86,6 +88,15 @@ public class HttpServerTest extends AbstractTestNGUnitTest {
         }
     }
 
+    @Test
+    public void testThreadPoolMetrics() {
+        Assert.assertTrue(server.getThreads() > 0);
+        Assert.assertTrue(server.getThreads() <= 50);
+        Assert.assertTrue(server.getBusyThreads() <= server.getThreads());
+        Assert.assertEquals(server.getQueuedRequests(), 0);
+        Assert.assertFalse(server.isLowOnThreads());
+    }
+
     @Test
     public void testGetRequest() {
         TestContext context = testContextFactory.getObject();
@@ -20,6 +20,8 @@ import com.consol.citrus.container.*;
 import com.consol.citrus.dsl.design.TestDesigner;
 import com.consol.citrus.dsl.runner.TestRunner;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * @author Christoph Deppisch
  * @since 2.3
@@ -60,4 +62,33 @@ public class ParallelBuilder extends AbstractTestContainerBuilder<Parallel> {
         this(runner, new Parallel());
     }
 
+    /**
+     * Sets maximum number of concurrently running actions.
+     * @param maxConcurrency
+     * @return
+     */
+    public ParallelBuilder maxConcurrency(int maxConcurrency) {
+        action.setMaxConcurrency(maxConcurrency);
+        return this;
+    }
+
+    /**
+     * Enables cancellation of sibling actions as soon as one action has failed.
+     * @param failFast
+     * @return
+     */
+    public ParallelBuilder failFast(boolean failFast) {
+        action.setFailFast(failFast);
+        return this;
+    }
+
+    /**
+     * Sets the executor running the nested actions.
+     * @param executor
+     * @return
+     */
+    public ParallelBuilder executor(ExecutorService executor) {
+        action.setExecutor(executor);
+        return this;
+    }
 }
@@ -29,11 +29,16 @@ import org.springframework.util.StringUtils;
 import org.springframework.xml.transform.StringSource;
 
 import java.sql.SQLException;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DataSetCreator {
 
+    /** Marshallers per message type */
+    private final Map<MessageType, JdbcMarshaller> marshallers = new ConcurrentHashMap<>();
+
     /**
      * Converts Citrus result set representation to db driver model result set.
      * @param response The result set to convert
@@ -67,9 +72,7 @@ public class DataSetCreator {
             dataSet = response.getPayload(OperationResult.class).getDataSet();
         } else {
             try {
-                JdbcMarshaller jdbcMarshaller = new JdbcMarshaller();
-                jdbcMarshaller.setType(messageType.name());
-                Object object = jdbcMarshaller.unmarshal(new StringSource(response.getPayload(String.class)));
+                Object object = getMarshaller(messageType).unmarshal(new StringSource(response.getPayload(String.class)));
                 if (object instanceof OperationResult && StringUtils.hasText(((OperationResult) object).getDataSet())) {
                     dataSet = ((OperationResult) object).getDataSet();
                 }
@@ -87,6 +90,19 @@ public class DataSetCreator {
         }
     }
 
+    /**
+     * Gets marshaller for given message type. Marshallers are created on first usage and reused for subsequent responses.
+     * @param messageType The requested MessageType
+     * @return The marshaller reading the given message type
+     */
+    private JdbcMarshaller getMarshaller(final MessageType messageType) {
+        return marshallers.computeIfAbsent(messageType, type -> {
+            JdbcMarshaller jdbcMarshaller = new JdbcMarshaller();
+            jdbcMarshaller.setType(type.name());
+            return jdbcMarshaller;
+        });
+    }
+
     private boolean isReadyToMarshal(final Message response, final MessageType messageType) {
         return response.getPayload() != null &&
                 (response.getPayload() instanceof OperationResult || StringUtils.hasText(response.getPayload(String.class))) &&
@@ -22,6 +22,7 @@ import com.consol.citrus.jdbc.model.*;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.util.FileUtils;
+import com.consol.citrus.xml.MarshallerRegistry;
 import org.springframework.core.io.Resource;
 import org.springframework.xml.transform.StringResult;
 import org.springframework.xml.transform.StringSource;
@@ -39,7 +40,7 @@ public class JdbcMessage extends DefaultMessage {
     private OperationResult operationResult;
     private Operation operation;
 
-    private JdbcMarshaller marshaller = new JdbcMarshaller();
+    private JdbcMarshaller marshaller = MarshallerRegistry.getMarshaller(JdbcMarshaller.class, JdbcMarshaller::new);
 
     private static JdbcOperationGenerator operationGenerator = new JdbcOperationGenerator();
 
@@ -18,13 +18,13 @@ package com.consol.citrus.jdbc.model;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.xml.MarshallerRegistry;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.oxm.*;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.xml.transform.StringResult;
@@ -49,7 +49,7 @@ public class JdbcMarshaller extends ObjectMapper implements Marshaller, Unmarsha
     private static final String JDBC_MARSHALLER_TYPE_PROPERTY = "citrus.jdbc.marshaller.type";
 
     /** XML marshalling delegate */
-    private Jaxb2Marshaller jaxbDelegate = new Jaxb2Marshaller();
+    private final Jaxb2Marshaller jaxbDelegate;
 
     /** Message type format: XML or JSON */
     private String type;
@@ -58,18 +58,12 @@ public class JdbcMarshaller extends ObjectMapper implements Marshaller, Unmarsha
      * Default constructor
      */
     public JdbcMarshaller() {
-        jaxbDelegate.setClassesToBeBound(Operation.class,
-                                         OperationResult.class);
-        jaxbDelegate.setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-jdbc-message.xsd"));
+        jaxbDelegate = MarshallerRegistry.getJaxb2Marshaller("com/consol/citrus/schema/citrus-jdbc-message.xsd",
+                                                            Operation.class,
+                                                            OperationResult.class);
 
         type = System.getProperty(JDBC_MARSHALLER_TYPE_PROPERTY, MessageType.JSON.name());
 
-        try {
-            jaxbDelegate.afterPropertiesSet();
-        } catch (Exception e) {
-            log.warn("Failed to setup jdbc message marshaller: " + e.getMessage());
-        }
-
         setSerializationInclusion(JsonInclude.Include.NON_NULL);
     }
 
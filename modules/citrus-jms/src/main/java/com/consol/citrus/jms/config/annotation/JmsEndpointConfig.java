@@ -101,6 +101,12 @@ public @interface JmsEndpointConfig {
      */
     boolean useObjectMessages() default false;
 
+    /**
+     * Number of prefetched messages.
+     * @return
+     */
+    int prefetchSize() default 0;
+
     /**
      * Timeout.
      * @return
@@ -101,6 +101,24 @@ public @interface JmsSyncEndpointConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Shared reply destination with pooled sessions.
+     * @return
+     */
+    boolean sharedReplyDestination() default false;
+
+    /**
+     * Maximum number of correlated objects kept in store.
+     * @return
+     */
+    int maxStoreSize() default 1000;
+
+    /**
+     * Maximum number of idle pooled sessions.
+     * @return
+     */
+    int sessionPoolSize() default 10;
+
     /**
      * Message correlator.
      * @return
@@ -119,6 +119,9 @@ public class JmsSyncEndpointConfigParser extends AbstractAnnotationConfigParser<
         }
 
         builder.pollingInterval(annotation.pollingInterval());
+        builder.sharedReplyDestination(annotation.sharedReplyDestination());
+        builder.maxStoreSize(annotation.maxStoreSize());
+        builder.sessionPoolSize(annotation.sessionPoolSize());
 
         return builder.initialize().build();
     }
@@ -40,6 +40,7 @@ public class JmsEndpointParser extends AbstractJmsEndpointParser {
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("auto-start"), "autoStart");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("durable-subscription"), "durableSubscription");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("durable-subscriber-name"), "durableSubscriberName");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("prefetch-size"), "prefetchSize");
     }
 
     @Override
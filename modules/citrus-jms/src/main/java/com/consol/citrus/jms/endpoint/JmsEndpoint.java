@@ -70,6 +70,11 @@ public class JmsEndpoint extends AbstractEndpoint implements InitializingBean, D
                 jmsConsumer = jmsTopicSubscriber;
 
                 jmsTopicSubscriber.start();
+            } else if (getEndpointConfiguration().getPrefetchSize() > 0) {
+                TestContextFactory testContextFactory = Optional.ofNullable(applicationContext).map(context -> context.getBean(TestContextFactory.class))
+                        .orElse(TestContextFactory.newInstance());
+
+                jmsConsumer = new JmsPrefetchingConsumer(getConsumerName(), getEndpointConfiguration(), testContextFactory);
             } else {
                 jmsConsumer = new JmsConsumer(getConsumerName(), getEndpointConfiguration());
             }
@@ -104,6 +109,8 @@ public class JmsEndpoint extends AbstractEndpoint implements InitializingBean, D
     public void destroy() throws Exception {
         if (this.jmsConsumer instanceof JmsTopicSubscriber) {
             ((JmsTopicSubscriber) this.jmsConsumer).stop();
+        } else if (this.jmsConsumer instanceof JmsPrefetchingConsumer) {
+            ((JmsPrefetchingConsumer) this.jmsConsumer).stop();
         }
     }
 
@@ -76,6 +76,9 @@ public class JmsEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** Should always use object messages */
     private boolean useObjectMessages = false;
 
+    /** Number of messages prefetched into local buffer by long lived consumer, zero disables prefetching */
+    private int prefetchSize = 0;
+
     /**
      * Get the destination name (either a queue name or a topic name).
      * @param destination
@@ -269,6 +272,23 @@ public class JmsEndpointConfiguration extends AbstractPollableEndpointConfigurat
         this.useObjectMessages = useObjectMessages;
     }
 
+    /**
+     * Gets the prefetchSize.
+     * @return
+     */
+    public int getPrefetchSize() {
+        return prefetchSize;
+    }
+
+    /**
+     * Sets the number of messages a long lived consumer prefetches into local buffer. Receive operations
+     * are then served from the buffer. Zero disables prefetching.
+     * @param prefetchSize
+     */
+    public void setPrefetchSize(int prefetchSize) {
+        this.prefetchSize = prefetchSize;
+    }
+
     /**
      * Gets the destinationNameResolver.
      *
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.endpoint;
+
+import com.consol.citrus.channel.SignallingMessageSelectingQueueChannel;
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.jms.support.destination.DynamicDestinationResolver;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.util.StringUtils;
+
+import javax.jms.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Consumer uses a long lived JMS message listener on the endpoint destination. Incoming messages are prefetched into
+ * a local bounded buffer so receive operations are served from memory. When the buffer is full the listener blocks
+ * until buffered messages are consumed. Message selectors are evaluated on the buffered messages.
+ *
+ * Listener session uses client acknowledge mode and messages are acknowledged when handed over to a receive operation.
+ * As JMS acknowledges all messages consumed by the session up to the acknowledged one, messages prefetched before the
+ * handed over message are acknowledged, too. These stay available in the local buffer after {@link #stop()}. All
+ * buffered messages that have not been acknowledged yet are dropped from the buffer on stop as the broker redelivers them.
+ *
+ * Timeout is scoped to each receive operation so concurrent receives do not interfere with each other.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class JmsPrefetchingConsumer extends JmsConsumer implements MessageListener {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(JmsPrefetchingConsumer.class);
+
+    /** Test context factory for message conversion */
+    private final TestContextFactory testContextFactory;
+
+    /** Internal buffer headers holding prefetch sequence and original JMS message */
+    private static final String PREFETCH_SEQUENCE_HEADER = "citrus_jms_prefetch_sequence";
+    private static final String PREFETCH_JMS_MESSAGE_HEADER = "citrus_jms_prefetch_message";
+
+    /** Local buffer holding prefetched messages */
+    private final SignallingMessageSelectingQueueChannel buffer;
+
+    /** Sequence of prefetched messages in listener session order */
+    private final AtomicLong prefetchSequence = new AtomicLong();
+
+    /** Highest prefetch sequence acknowledged on the listener session */
+    private long acknowledgedSequence = 0L;
+
+    /** Test context used in message conversion on listener thread */
+    private TestContext listenerContext;
+
+    /** Long lived JMS resources */
+    private Connection connection;
+    private Session session;
+    private MessageConsumer messageConsumer;
+
+    /**
+     * Default constructor using endpoint.
+     * @param name
+     * @param endpointConfiguration
+     * @param testContextFactory
+     */
+    public JmsPrefetchingConsumer(String name, JmsEndpointConfiguration endpointConfiguration, TestContextFactory testContextFactory) {
+        super(name, endpointConfiguration);
+        this.testContextFactory = testContextFactory;
+
+        this.buffer = new SignallingMessageSelectingQueueChannel(endpointConfiguration.getPrefetchSize());
+        this.buffer.setBeanName(name + ":buffer");
+    }
+
+    /**
+     * Starts message listener on destination. Method does nothing when listener is already started.
+     */
+    public synchronized void start() {
+        if (messageConsumer != null) {
+            return;
+        }
+
+        ConnectionFactory connectionFactory = Optional.ofNullable(endpointConfiguration.getConnectionFactory())
+                                                      .orElse(endpointConfiguration.getJmsTemplate().getConnectionFactory());
+
+        if (connectionFactory == null) {
+            throw new CitrusRuntimeException("Unable to start prefetching JMS consumer - connection factory not set");
+        }
+
+        try {
+            listenerContext = testContextFactory.getObject();
+
+            connection = connectionFactory.createConnection();
+            session = connection.createSession(false, Session.CLIENT_ACKNOWLEDGE);
+
+            Destination destination = resolveDestination(session, listenerContext);
+            messageConsumer = session.createConsumer(destination);
+            messageConsumer.setMessageListener(this);
+
+            connection.start();
+
+            log.info("Started prefetching JMS consumer on destination: '" + endpointConfiguration.getDestinationName(destination) + "'");
+        } catch (JMSException e) {
+            stop();
+            throw new CitrusRuntimeException("Failed to start prefetching JMS consumer", e);
+        }
+    }
+
+    /**
+     * Stops message listener and closes JMS resources. Acknowledged messages remaining in local buffer are still available,
+     * unacknowledged messages are removed from the buffer as they get redelivered by the broker.
+     */
+    public synchronized void stop() {
+        JmsUtils.closeMessageConsumer(messageConsumer);
+        JmsUtils.closeSession(session);
+        JmsUtils.closeConnection(connection, true);
+
+        int dropped = buffer.purge(bufferedMessage -> getPrefetchSequence(bufferedMessage) <= acknowledgedSequence).size();
+        if (dropped > 0) {
+            log.info(String.format("Dropped %s unacknowledged prefetched JMS messages from local buffer - messages are redelivered by the broker", dropped));
+        }
+
+        messageConsumer = null;
+        session = null;
+        connection = null;
+    }
+
+    @Override
+    public void onMessage(javax.jms.Message jmsMessage) {
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(jmsMessage, endpointConfiguration, listenerContext);
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Prefetched JMS message '%s'", message.getId()));
+        }
+
+        Map<String, Object> bufferHeaders = new HashMap<>();
+        bufferHeaders.put(PREFETCH_SEQUENCE_HEADER, prefetchSequence.incrementAndGet());
+        bufferHeaders.put(PREFETCH_JMS_MESSAGE_HEADER, jmsMessage);
+
+        buffer.send(new GenericMessage<>(message, bufferHeaders));
+    }
+
+    /**
+     * Acknowledges handed over message on the listener session. Acknowledge is skipped when message has already been
+     * acknowledged along with a message that has been prefetched later.
+     * @param bufferedMessage
+     */
+    private synchronized void acknowledge(org.springframework.messaging.Message<?> bufferedMessage) {
+        long sequence = getPrefetchSequence(bufferedMessage);
+        if (sequence <= acknowledgedSequence) {
+            return;
+        }
+
+        try {
+            ((javax.jms.Message) bufferedMessage.getHeaders().get(PREFETCH_JMS_MESSAGE_HEADER)).acknowledge();
+            acknowledgedSequence = sequence;
+        } catch (JMSException e) {
+            log.warn("Failed to acknowledge prefetched JMS message - message may be redelivered by the broker", e);
+        }
+    }
+
+    /**
+     * Gets prefetch sequence of buffered message.
+     * @param bufferedMessage
+     * @return
+     */
+    private long getPrefetchSequence(org.springframework.messaging.Message<?> bufferedMessage) {
+        return (Long) bufferedMessage.getHeaders().get(PREFETCH_SEQUENCE_HEADER);
+    }
+
+    @Override
+    public Message receive(String selector, TestContext context, long timeout) {
+        start();
+
+        String destinationName = getName() + (StringUtils.hasText(selector) ? "(" + selector + ")" : "");
+        if (log.isDebugEnabled()) {
+            log.debug("Receiving JMS message on prefetching consumer: '" + destinationName + "'");
+        }
+
+        org.springframework.messaging.Message<?> bufferedMessage;
+        if (StringUtils.hasText(selector)) {
+            DispatchingMessageSelector messageSelector = new DispatchingMessageSelector(selector, context.getApplicationContext(), context);
+            if (timeout <= 0) {
+                bufferedMessage = buffer.receive(messageSelector);
+            } else {
+                bufferedMessage = buffer.receive(messageSelector, timeout);
+            }
+        } else {
+            bufferedMessage = buffer.receive(timeout);
+        }
+
+        if (bufferedMessage == null) {
+            throw new ActionTimeoutException("Action timed out while receiving JMS message on '" + destinationName + "'");
+        }
+
+        acknowledge(bufferedMessage);
+
+        Message receivedMessage = (Message) bufferedMessage.getPayload();
+        log.info("Received JMS message on prefetching consumer: '" + destinationName + "'");
+
+        context.onInboundMessage(receivedMessage);
+        return receivedMessage;
+    }
+
+    /**
+     * Resolves the destination to listen on.
+     * @param session
+     * @param context
+     * @return
+     * @throws JMSException
+     */
+    private Destination resolveDestination(Session session, TestContext context) throws JMSException {
+        if (endpointConfiguration.getDestination() != null) {
+            return endpointConfiguration.getDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
+            return resolveDestinationName(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()), session);
+        } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
+            return endpointConfiguration.getJmsTemplate().getDefaultDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
+            return resolveDestinationName(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()), session);
+        } else {
+            throw new CitrusRuntimeException("Unable to receive message - JMS destination not set");
+        }
+    }
+
+    /**
+     * Resolves the destination name from Jms session.
+     * @param name
+     * @param session
+     * @return
+     */
+    private Destination resolveDestinationName(String name, Session session) throws JMSException {
+        if (endpointConfiguration.getDestinationResolver() != null) {
+            return endpointConfiguration.getDestinationResolver().resolveDestinationName(session, name, endpointConfiguration.isPubSubDomain());
+        }
+
+        return new DynamicDestinationResolver().resolveDestinationName(session, name, endpointConfiguration.isPubSubDomain());
+    }
+
+    /**
+     * Gets the number of messages currently held in local buffer.
+     * @return
+     */
+    public int getBufferedMessageCount() {
+        return buffer.getQueueSize();
+    }
+}
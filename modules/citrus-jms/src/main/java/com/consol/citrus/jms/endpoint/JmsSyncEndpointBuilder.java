@@ -160,6 +160,36 @@ public class JmsSyncEndpointBuilder extends AbstractEndpointBuilder<JmsSyncEndpo
         return this;
     }
 
+    /**
+     * Sets the shared reply destination mode.
+     * @param sharedReplyDestination
+     * @return
+     */
+    public JmsSyncEndpointBuilder sharedReplyDestination(boolean sharedReplyDestination) {
+        endpoint.getEndpointConfiguration().setSharedReplyDestination(sharedReplyDestination);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of correlated objects kept in store.
+     * @param maxStoreSize
+     * @return
+     */
+    public JmsSyncEndpointBuilder maxStoreSize(int maxStoreSize) {
+        endpoint.getEndpointConfiguration().setMaxStoreSize(maxStoreSize);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of idle pooled sessions.
+     * @param sessionPoolSize
+     * @return
+     */
+    public JmsSyncEndpointBuilder sessionPoolSize(int sessionPoolSize) {
+        endpoint.getEndpointConfiguration().setSessionPoolSize(sessionPoolSize);
+        return this;
+    }
+
     /**
      * Sets the message correlator.
      * @param correlator
@@ -19,6 +19,7 @@ package com.consol.citrus.jms.endpoint;
 import com.consol.citrus.endpoint.PollableEndpointConfiguration;
 import com.consol.citrus.message.DefaultMessageCorrelator;
 import com.consol.citrus.message.MessageCorrelator;
+import com.consol.citrus.message.correlation.EvictingObjectStore;
 
 import javax.jms.*;
 
@@ -43,6 +44,15 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500L;
 
+    /** Use pooled sessions and one long lived reply destination with replies dispatched by correlation id */
+    private boolean sharedReplyDestination = false;
+
+    /** Maximum number of correlated objects (e.g. reply messages) kept in store until consumed */
+    private int maxStoreSize = EvictingObjectStore.DEFAULT_MAX_SIZE;
+
+    /** Maximum number of idle sessions with producers kept in pool when using shared reply destination */
+    private int sessionPoolSize = 10;
+
     /**
      * Set the reply message correlator.
      * @param correlator the correlator to set
@@ -107,4 +117,54 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
         this.pollingInterval = pollingInterval;
     }
 
+    /**
+     * Gets the sharedReplyDestination.
+     * @return
+     */
+    public boolean isSharedReplyDestination() {
+        return sharedReplyDestination;
+    }
+
+    /**
+     * Sets the sharedReplyDestination. When enabled producer keeps a pool of sessions and producers and receives all replies
+     * on one long lived temporary reply destination. Replies are dispatched to waiting requests by JMS correlation id. Replies without
+     * JMS correlation id are dispatched by correlation key that the message correlator computes on the reply headers. Replies that
+     * match no waiting request are kept until the reply timeout has passed. Setting is ignored when a reply destination is configured.
+     * @param sharedReplyDestination
+     */
+    public void setSharedReplyDestination(boolean sharedReplyDestination) {
+        this.sharedReplyDestination = sharedReplyDestination;
+    }
+
+    /**
+     * Gets the maxStoreSize.
+     * @return
+     */
+    public int getMaxStoreSize() {
+        return maxStoreSize;
+    }
+
+    /**
+     * Sets the maxStoreSize.
+     * @param maxStoreSize
+     */
+    public void setMaxStoreSize(int maxStoreSize) {
+        this.maxStoreSize = maxStoreSize;
+    }
+
+    /**
+     * Gets the sessionPoolSize.
+     * @return
+     */
+    public int getSessionPoolSize() {
+        return sessionPoolSize;
+    }
+
+    /**
+     * Sets the sessionPoolSize.
+     * @param sessionPoolSize
+     */
+    public void setSessionPoolSize(int sessionPoolSize) {
+        this.sessionPoolSize = sessionPoolSize;
+    }
 }
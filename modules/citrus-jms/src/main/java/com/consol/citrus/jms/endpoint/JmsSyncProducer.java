@@ -19,9 +19,11 @@ package com.consol.citrus.jms.endpoint;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.EvictingObjectStore;
+import com.consol.citrus.message.correlation.SignallingCorrelationManager;
 import com.consol.citrus.messaging.ReplyConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +34,10 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import javax.jms.*;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
 
 /**
  * @author Christoph Deppisch
@@ -48,6 +54,24 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Idle sessions with producers used with shared reply destination */
+    private final BlockingQueue<PooledSession> sessionPool = new LinkedBlockingQueue<>();
+
+    /** Shared reply destination with session and consumer dispatching replies */
+    private Destination sharedReplyDestination;
+    private Session replySession;
+    private MessageConsumer replyConsumer;
+    private volatile boolean sharedReplyDestinationWarning = false;
+
+    /** Requests waiting for reply on shared reply destination by JMS message id of the request */
+    private final Map<String, PendingReply> pendingReplies = new HashMap<>();
+
+    /** Requests waiting for reply on shared reply destination by correlation key in send order */
+    private final Map<String, PendingReply> pendingRepliesByKey = new LinkedHashMap<>();
+
+    /** Replies that arrived before the request has been registered or after the request has timed out, by JMS correlation id or correlation key */
+    private final EvictingObjectStore<UnexpectedReply> unexpectedReplies = new EvictingObjectStore<>();
+
     /** Endpoint configuration */
     private final JmsSyncEndpointConfiguration endpointConfiguration;
 
@@ -63,7 +87,8 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         super(name, endpointConfiguration);
         this.endpointConfiguration = endpointConfiguration;
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new SignallingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet",
+                endpointConfiguration::getMaxStoreSize);
     }
 
     @Override
@@ -76,6 +101,12 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
 
         context.onOutboundMessage(message);
 
+        if (isSharedReplyDestinationEnabled() &&
+                message.getHeader(org.springframework.messaging.MessageHeaders.REPLY_CHANNEL) == null) {
+            sendWithSharedReplyDestination(message, correlationKey, context);
+            return;
+        }
+
         MessageProducer messageProducer = null;
         MessageConsumer messageConsumer = null;
         Destination replyToDestination = null;
@@ -87,30 +118,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
             javax.jms.Message jmsRequest = endpointConfiguration.getMessageConverter().createJmsMessage(message, session, endpointConfiguration, context);
             endpointConfiguration.getMessageConverter().convertOutbound(jmsRequest, message, endpointConfiguration, context);
 
-            Destination destination;
-            if (endpointConfiguration.getDestination() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getDestination()) + "'");
-                }
-
-                destination = endpointConfiguration.getDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
-                if (endpointConfiguration.getDestinationNameResolver() != null) {
-                    destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationNameResolver().resolveEndpointUri(message, endpointConfiguration.getDestinationName())));
-                } else {
-                    destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()));
-                }
-            } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getJmsTemplate().getDefaultDestination()) + "'");
-                }
-
-                destination = endpointConfiguration.getJmsTemplate().getDefaultDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
-                destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()));
-            } else {
-                throw new CitrusRuntimeException("Unable to send message - JMS destination not set");
-            }
+            Destination destination = getDestination(message, context, session);
 
             messageProducer = session.createProducer(destination);
 
@@ -152,6 +160,291 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         }
     }
 
+    /**
+     * Sends message using pooled session and producer. Reply is received on the temporary shared reply destination of this producer
+     * and dispatched to this request by JMS correlation id or by correlation key when reply has no JMS correlation id.
+     * @param message
+     * @param correlationKey
+     * @param context
+     */
+    private void sendWithSharedReplyDestination(Message message, String correlationKey, TestContext context) {
+        PendingReply pendingReply = new PendingReply(correlationKey);
+        Destination replyToDestination;
+
+        try {
+            createConnection();
+            replyToDestination = getSharedReplyDestination();
+
+            synchronized (pendingReplies) {
+                UnexpectedReply early = takeUnexpectedReply(correlationKey);
+                if (early != null) {
+                    pendingReply.reply.complete(early.message);
+                } else {
+                    pendingRepliesByKey.put(correlationKey, pendingReply);
+                }
+            }
+
+            PooledSession pooledSession = acquireSession();
+            try {
+                javax.jms.Message jmsRequest = endpointConfiguration.getMessageConverter().createJmsMessage(message, pooledSession.session, endpointConfiguration, context);
+                endpointConfiguration.getMessageConverter().convertOutbound(jmsRequest, message, endpointConfiguration, context);
+
+                Destination destination = getDestination(message, context, pooledSession.session);
+
+                jmsRequest.setJMSReplyTo(replyToDestination);
+                pooledSession.producer.send(destination, jmsRequest);
+
+                registerReply(jmsRequest.getJMSMessageID(), pendingReply);
+
+                log.info("Message was sent to JMS destination: '{}'", endpointConfiguration.getDestinationName(destination));
+                releaseSession(pooledSession);
+            } catch (JMSException | RuntimeException e) {
+                pooledSession.close();
+                throw e;
+            }
+
+            log.debug("Receiving reply message on shared destination: '{}'", replyToDestination);
+
+            javax.jms.Message jmsReplyMessage;
+            try {
+                jmsReplyMessage = (endpointConfiguration.getTimeout() >= 0) ? pendingReply.reply.get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS) : pendingReply.reply.get();
+            } catch (TimeoutException e) {
+                throw new ActionTimeoutException("Reply timed out after " +
+                        endpointConfiguration.getTimeout() + "ms. Did not receive reply message on reply destination");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for reply message", e);
+            } catch (ExecutionException e) {
+                throw new CitrusRuntimeException("Failed to receive reply message", e.getCause());
+            }
+
+            Message responseMessage = endpointConfiguration.getMessageConverter().convertInbound(jmsReplyMessage, endpointConfiguration, context);
+
+            log.info("Received reply message on JMS destination: '{}'", replyToDestination);
+
+            context.onInboundMessage(responseMessage);
+
+            correlationManager.store(correlationKey, responseMessage);
+        } catch (JMSException e) {
+            throw new CitrusRuntimeException(e);
+        } finally {
+            synchronized (pendingReplies) {
+                removePending(pendingReply);
+            }
+        }
+    }
+
+    /**
+     * Registers request waiting for reply with given JMS message id. Replies that have arrived before registration are
+     * completed immediately.
+     * @param messageId
+     * @param pendingReply
+     */
+    private void registerReply(String messageId, PendingReply pendingReply) {
+        synchronized (pendingReplies) {
+            pendingReply.messageId = messageId;
+
+            UnexpectedReply early = takeUnexpectedReply(messageId);
+            if (early != null) {
+                removePending(pendingReply);
+                pendingReply.reply.complete(early.message);
+            } else if (!pendingReply.reply.isDone()) {
+                pendingReplies.put(messageId, pendingReply);
+            }
+        }
+    }
+
+    /**
+     * Dispatches reply message received on shared reply destination to the waiting request by JMS correlation id.
+     * Replies without correlation id are dispatched by the correlation key that the message correlator computes on the reply
+     * headers. This requires a correlator that reads a header both request and reply carry, the default message id correlator
+     * does not match such replies. Replies that match no waiting request are kept as unexpected replies until they time out.
+     * @param jmsReplyMessage
+     */
+    private void dispatchReply(javax.jms.Message jmsReplyMessage) {
+        try {
+            String correlationId = jmsReplyMessage.getJMSCorrelationID();
+
+            synchronized (pendingReplies) {
+                String replyKey;
+                PendingReply pendingReply;
+                if (StringUtils.hasText(correlationId)) {
+                    replyKey = correlationId;
+                    pendingReply = pendingReplies.get(correlationId);
+                } else {
+                    replyKey = getReplyCorrelationKey(jmsReplyMessage);
+                    pendingReply = replyKey != null ? pendingRepliesByKey.get(replyKey) : null;
+                }
+
+                if (pendingReply != null) {
+                    removePending(pendingReply);
+                    pendingReply.reply.complete(jmsReplyMessage);
+                } else if (replyKey != null) {
+                    log.debug("Keep unexpected reply message on shared reply destination for '{}'", replyKey);
+                    unexpectedReplies.add(replyKey, new UnexpectedReply(jmsReplyMessage));
+                } else {
+                    log.warn("Discard reply message on shared reply destination without correlation id - unable to correlate reply to request");
+                }
+            }
+        } catch (JMSException e) {
+            log.error("Failed to dispatch reply message on shared reply destination", e);
+        }
+    }
+
+    /**
+     * Computes correlation key of reply message with message correlator evaluated on the reply headers.
+     * @param jmsReplyMessage
+     * @return the correlation key or null if not available
+     */
+    private String getReplyCorrelationKey(javax.jms.Message jmsReplyMessage) {
+        try {
+            return endpointConfiguration.getCorrelator().getCorrelationKey(
+                    new DefaultMessage("", endpointConfiguration.getHeaderMapper().toHeaders(jmsReplyMessage)));
+        } catch (RuntimeException e) {
+            log.debug("Unable to compute correlation key for reply message", e);
+            return null;
+        }
+    }
+
+    /**
+     * Takes unexpected reply stored for given JMS correlation id or correlation key. Replies that have been kept longer
+     * than the reply timeout are discarded. Must be called while holding the pending replies lock.
+     * @param key
+     * @return the reply or null if not available
+     */
+    private UnexpectedReply takeUnexpectedReply(String key) {
+        UnexpectedReply unexpectedReply = unexpectedReplies.remove(key);
+        if (unexpectedReply != null && endpointConfiguration.getTimeout() >= 0 &&
+                System.currentTimeMillis() - unexpectedReply.timestamp > endpointConfiguration.getTimeout()) {
+            log.debug("Discard timed out reply message on shared reply destination for '{}'", key);
+            return null;
+        }
+
+        return unexpectedReply;
+    }
+
+    /**
+     * Removes request from pending replies. Must be called while holding the pending replies lock.
+     * @param pendingReply
+     */
+    private void removePending(PendingReply pendingReply) {
+        pendingRepliesByKey.remove(pendingReply.correlationKey, pendingReply);
+        if (pendingReply.messageId != null) {
+            pendingReplies.remove(pendingReply.messageId, pendingReply);
+        }
+    }
+
+    /**
+     * Checks if shared reply destination is used. Shared reply destination is always a temporary destination of this producer
+     * as a consumer on a configured reply destination would take all messages on that destination. When a reply destination is
+     * configured requests use a consumer with JMS correlation id selector per request instead.
+     * @return
+     */
+    private boolean isSharedReplyDestinationEnabled() {
+        if (!endpointConfiguration.isSharedReplyDestination()) {
+            return false;
+        }
+
+        if (endpointConfiguration.getReplyDestination() != null || StringUtils.hasText(endpointConfiguration.getReplyDestinationName())) {
+            if (!sharedReplyDestinationWarning) {
+                sharedReplyDestinationWarning = true;
+                log.warn("Shared reply destination requires a temporary reply destination - ignore shared reply destination setting " +
+                        "as reply destination is configured on endpoint '{}'", getName());
+            }
+
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the shared reply destination of this producer. Destination is a temporary destination that lives as long as this producer.
+     * Consumer dispatching replies is created on first usage.
+     * @return
+     * @throws JMSException
+     */
+    private synchronized Destination getSharedReplyDestination() throws JMSException {
+        if (sharedReplyDestination == null) {
+            replySession = newSession(connection);
+
+            Destination replyDestination;
+            if (endpointConfiguration.isPubSubDomain() && replySession instanceof TopicSession) {
+                replyDestination = replySession.createTemporaryTopic();
+            } else {
+                replyDestination = replySession.createTemporaryQueue();
+            }
+
+            replyConsumer = replySession.createConsumer(replyDestination);
+            replyConsumer.setMessageListener(this::dispatchReply);
+            sharedReplyDestination = replyDestination;
+        }
+
+        return sharedReplyDestination;
+    }
+
+    /**
+     * Takes idle session with producer from pool or creates new one.
+     * @return
+     * @throws JMSException
+     */
+    private PooledSession acquireSession() throws JMSException {
+        PooledSession pooledSession = sessionPool.poll();
+        if (pooledSession == null) {
+            Session newSession = newSession(connection);
+            pooledSession = new PooledSession(newSession, newSession.createProducer(null));
+        }
+
+        return pooledSession;
+    }
+
+    /**
+     * Returns idle session with producer to pool. Session is closed when the pool has reached its maximum size.
+     * @param pooledSession
+     */
+    private void releaseSession(PooledSession pooledSession) {
+        if (sessionPool.size() >= endpointConfiguration.getSessionPoolSize() || !sessionPool.offer(pooledSession)) {
+            pooledSession.close();
+        }
+    }
+
+    /**
+     * Resolves the destination to send the message to.
+     * @param message
+     * @param context
+     * @param session
+     * @return
+     * @throws JMSException
+     */
+    private Destination getDestination(Message message, TestContext context, Session session) throws JMSException {
+        Destination destination;
+        if (endpointConfiguration.getDestination() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getDestination()) + "'");
+            }
+
+            destination = endpointConfiguration.getDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
+            if (endpointConfiguration.getDestinationNameResolver() != null) {
+                destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationNameResolver().resolveEndpointUri(message, endpointConfiguration.getDestinationName())), session);
+            } else {
+                destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()), session);
+            }
+        } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getJmsTemplate().getDefaultDestination()) + "'");
+            }
+
+            destination = endpointConfiguration.getJmsTemplate().getDefaultDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
+            destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()), session);
+        } else {
+            throw new CitrusRuntimeException("Unable to send message - JMS destination not set");
+        }
+
+        return destination;
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -185,7 +478,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      * @return connection
      * @throws JMSException
      */
-    protected void createConnection() throws JMSException {
+    protected synchronized void createConnection() throws JMSException {
         if (connection == null) {
             if (!endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof QueueConnectionFactory) {
                 connection = ((QueueConnectionFactory) endpointConfiguration.getConnectionFactory()).createQueueConnection();
@@ -211,16 +504,26 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      */
     protected void createSession(Connection connection) throws JMSException {
         if (session == null) {
-            if (!endpointConfiguration.isPubSubDomain() && connection instanceof QueueConnection) {
-                session = ((QueueConnection) connection).createQueueSession(false, Session.AUTO_ACKNOWLEDGE);
-            } else if (endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof TopicConnectionFactory) {
-                session = ((TopicConnection) connection).createTopicSession(false, Session.AUTO_ACKNOWLEDGE);
-            } else {
-                log.warn("Not able to create a session with connection factory '" + endpointConfiguration.getConnectionFactory() + "'" +
-                        " when using setting 'publish-subscribe-domain' (=" + endpointConfiguration.isPubSubDomain() + ")");
+            session = newSession(connection);
+        }
+    }
 
-                session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
-            }
+    /**
+     * Creates new JMS session on given connection.
+     * @param connection
+     * @return
+     * @throws JMSException
+     */
+    private Session newSession(Connection connection) throws JMSException {
+        if (!endpointConfiguration.isPubSubDomain() && connection instanceof QueueConnection) {
+            return ((QueueConnection) connection).createQueueSession(false, Session.AUTO_ACKNOWLEDGE);
+        } else if (endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof TopicConnectionFactory) {
+            return ((TopicConnection) connection).createTopicSession(false, Session.AUTO_ACKNOWLEDGE);
+        } else {
+            log.warn("Not able to create a session with connection factory '" + endpointConfiguration.getConnectionFactory() + "'" +
+                    " when using setting 'publish-subscribe-domain' (=" + endpointConfiguration.isPubSubDomain() + ")");
+
+            return connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
         }
     }
 
@@ -297,10 +600,11 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     /**
      * Resolve destination from given name.
      * @param destinationName
+     * @param session
      * @return
      * @throws JMSException
      */
-    private Destination resolveDestination(String destinationName) throws JMSException {
+    private Destination resolveDestination(String destinationName, Session session) throws JMSException {
         if (log.isDebugEnabled()) {
             log.debug("Sending JMS message to destination: '" + destinationName + "'");
         }
@@ -326,6 +630,18 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      * Destroy method closing JMS session and connection
      */
     public void destroy() {
+        PooledSession pooledSession;
+        while ((pooledSession = sessionPool.poll()) != null) {
+            pooledSession.close();
+        }
+
+        synchronized (this) {
+            JmsUtils.closeMessageConsumer(replyConsumer);
+            deleteTemporaryDestination(sharedReplyDestination);
+            JmsUtils.closeSession(replySession);
+            sharedReplyDestination = null;
+        }
+
         JmsUtils.closeSession(session);
 
         if (connection != null) {
@@ -348,4 +664,47 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     public void setCorrelationManager(CorrelationManager<Message> correlationManager) {
         this.correlationManager = correlationManager;
     }
+
+    /**
+     * Request waiting for reply on shared reply destination.
+     */
+    private static final class PendingReply {
+        private final String correlationKey;
+        private final CompletableFuture<javax.jms.Message> reply = new CompletableFuture<>();
+        private String messageId;
+
+        PendingReply(String correlationKey) {
+            this.correlationKey = correlationKey;
+        }
+    }
+
+    /**
+     * Reply on shared reply destination that no waiting request matched yet.
+     */
+    private static final class UnexpectedReply {
+        private final javax.jms.Message message;
+        private final long timestamp = System.currentTimeMillis();
+
+        UnexpectedReply(javax.jms.Message message) {
+            this.message = message;
+        }
+    }
+
+    /**
+     * Pooled session with anonymous message producer.
+     */
+    private static final class PooledSession {
+        private final Session session;
+        private final MessageProducer producer;
+
+        PooledSession(Session session, MessageProducer producer) {
+            this.session = session;
+            this.producer = producer;
+        }
+
+        void close() {
+            JmsUtils.closeMessageProducer(producer);
+            JmsUtils.closeSession(session);
+        }
+    }
 }
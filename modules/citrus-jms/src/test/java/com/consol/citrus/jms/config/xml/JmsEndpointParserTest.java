@@ -48,6 +48,7 @@ public class JmsEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().isAutoStart(), false);
         Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().isDurableSubscription(), false);
         Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().isUseObjectMessages(), false);
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getPrefetchSize(), 0);
 
         // 2nd message receiver
         jmsEndpoint = endpoints.get("jmsEndpoint2");
@@ -59,6 +60,7 @@ public class JmsEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertNull(jmsEndpoint.getEndpointConfiguration().getDestinationName());
         Assert.assertNotNull(jmsEndpoint.getEndpointConfiguration().getDestination());
         Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getPrefetchSize(), 100);
 
         // 3rd message receiver
         jmsEndpoint = endpoints.get("jmsEndpoint3");
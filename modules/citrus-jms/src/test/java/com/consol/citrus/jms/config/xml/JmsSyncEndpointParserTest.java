@@ -45,6 +45,9 @@ public class JmsSyncEndpointParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertNull(jmsSyncEndpoint.getEndpointConfiguration().getDestination());
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
+        Assert.assertFalse(jmsSyncEndpoint.getEndpointConfiguration().isSharedReplyDestination());
+        Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getMaxStoreSize(), 1000);
+        Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getSessionPoolSize(), 10);
 
         // 2nd message receiver
         jmsSyncEndpoint = endpoints.get("jmsSyncEndpoint2");
@@ -56,6 +59,9 @@ public class JmsSyncEndpointParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getCorrelator(), beanDefinitionContext.getBean("replyMessageCorrelator", MessageCorrelator.class));
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getDestinationResolver(), beanDefinitionContext.getBean("destinationResolver"));
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getDestinationNameResolver(), beanDefinitionContext.getBean("destinationNameResolver"));
+        Assert.assertTrue(jmsSyncEndpoint.getEndpointConfiguration().isSharedReplyDestination());
+        Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getMaxStoreSize(), 5000);
+        Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getSessionPoolSize(), 5);
 
         // 3rd message receiver
         jmsSyncEndpoint = endpoints.get("jmsSyncEndpoint3");
@@ -264,4 +264,101 @@ public class JmsEndpointConsumerTest extends AbstractTestNGUnitTest {
 
         verify(connection).start();
     }
+
+    @Test
+    public void testPrefetchingConsumerWithMessageSelector() throws Exception {
+        JmsEndpoint endpoint = new JmsEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setPrefetchSize(10);
+
+        Map<String, Object> helloHeaders = new HashMap<String, Object>();
+        helloHeaders.put("Operation", "sayHello");
+
+        Map<String, Object> goodbyeHeaders = new HashMap<String, Object>();
+        goodbyeHeaders.put("Operation", "sayGoodbye");
+
+        reset(jmsTemplate, connectionFactory, destination, connection, session, messageConsumer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+        when(session.createConsumer(destination)).thenReturn(messageConsumer);
+
+        JmsPrefetchingConsumer consumer = (JmsPrefetchingConsumer) endpoint.createConsumer();
+        consumer.start();
+
+        consumer.onMessage(new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", helloHeaders));
+        consumer.onMessage(new TextMessageImpl("<TestRequest><Message>Goodbye World!</Message></TestRequest>", goodbyeHeaders));
+        Assert.assertEquals(consumer.getBufferedMessageCount(), 2);
+
+        Message receivedMessage = consumer.receive("Operation = 'sayGoodbye'", context);
+        Assert.assertEquals(receivedMessage.getPayload(), "<TestRequest><Message>Goodbye World!</Message></TestRequest>");
+
+        receivedMessage = consumer.receive(context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "<TestRequest><Message>Hello World!</Message></TestRequest>");
+        Assert.assertEquals(consumer.getBufferedMessageCount(), 0);
+
+        try {
+            consumer.receive(context, 100L);
+            Assert.fail("Missing action timeout exception");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains("timed out"));
+        }
+
+        verify(messageConsumer).setMessageListener(consumer);
+        verify(connection).start();
+        verify(connectionFactory, times(1)).createConnection();
+
+        endpoint.destroy();
+        verify(messageConsumer).close();
+        verify(connection).close();
+    }
+
+    @Test
+    public void testPrefetchingConsumerAcknowledge() throws Exception {
+        JmsEndpoint endpoint = new JmsEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setPrefetchSize(10);
+
+        Map<String, Object> helloHeaders = new HashMap<String, Object>();
+        helloHeaders.put("Operation", "sayHello");
+
+        Map<String, Object> goodbyeHeaders = new HashMap<String, Object>();
+        goodbyeHeaders.put("Operation", "sayGoodbye");
+
+        reset(jmsTemplate, connectionFactory, destination, connection, session, messageConsumer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(false, Session.CLIENT_ACKNOWLEDGE)).thenReturn(session);
+        when(session.createConsumer(destination)).thenReturn(messageConsumer);
+
+        TextMessage first = Mockito.spy(new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", helloHeaders));
+        TextMessage second = Mockito.spy(new TextMessageImpl("<TestRequest><Message>Goodbye World!</Message></TestRequest>", goodbyeHeaders));
+        TextMessage third = Mockito.spy(new TextMessageImpl("<TestRequest><Message>Hello again!</Message></TestRequest>", helloHeaders));
+
+        JmsPrefetchingConsumer consumer = (JmsPrefetchingConsumer) endpoint.createConsumer();
+        consumer.start();
+
+        consumer.onMessage(first);
+        consumer.onMessage(second);
+        consumer.onMessage(third);
+        Assert.assertEquals(consumer.getBufferedMessageCount(), 3);
+
+        Message receivedMessage = consumer.receive("Operation = 'sayGoodbye'", context);
+        Assert.assertEquals(receivedMessage.getPayload(), "<TestRequest><Message>Goodbye World!</Message></TestRequest>");
+        verify(second).acknowledge();
+
+        consumer.stop();
+        Assert.assertEquals(consumer.getBufferedMessageCount(), 1);
+
+        receivedMessage = consumer.receive(context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        verify(first, never()).acknowledge();
+        verify(third, never()).acknowledge();
+        verify(session).close();
+    }
 }
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.jms.endpoint;
 
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.*;
@@ -27,8 +28,10 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import javax.jms.*;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.*;
 
 import static org.mockito.Mockito.*;
 
@@ -151,6 +154,215 @@ public class JmsEndpointSyncProducerTest extends AbstractTestNGUnitTest {
         verify(tempReplyQueue).delete();
     }
 
+    @Test
+    public void testSendMessageWithSharedReplyDestination() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setSharedReplyDestination(true);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        Map<String, Object> responseHeaders = new HashMap<String, Object>();
+        TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", responseHeaders) {
+            @Override
+            public String getJMSCorrelationID() throws JMSException {
+                return "123456789";
+            }
+        };
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+        when(session.createProducer(null)).thenReturn(messageProducer);
+
+        final MessageListener[] listener = new MessageListener[1];
+        doAnswer(invocation -> {
+            listener[0] = (MessageListener) invocation.getArguments()[0];
+            return null;
+        }).when(messageConsumer).setMessageListener(any(MessageListener.class));
+
+        doAnswer(invocation -> {
+            listener[0].onMessage(jmsResponse);
+            return null;
+        }).when(messageProducer).send(eq(destination), any(TextMessage.class));
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenAnswer(invocation ->
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()));
+
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+        producer.send(message, context);
+        producer.send(message, context);
+
+        Assert.assertNotNull(producer.receive(context));
+
+        verify(connection).start();
+        verify(session, times(1)).createTemporaryQueue();
+        verify(session, times(1)).createProducer(null);
+        verify(messageProducer, times(2)).send(eq(destination), any(TextMessage.class));
+        verify(tempReplyQueue, never()).delete();
+
+        producer.destroy();
+        verify(tempReplyQueue).delete();
+    }
+
+    @Test
+    public void testSharedReplyDestinationWithoutCorrelationId() throws Exception {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setSharedReplyDestination(true);
+        endpoint.getEndpointConfiguration().setSessionPoolSize(1);
+        endpoint.getEndpointConfiguration().setCorrelator(new MessageCorrelator() {
+            @Override
+            public String getCorrelationKey(Message request) {
+                return getCorrelationKey(request.getHeader("businessKey").toString());
+            }
+
+            @Override
+            public String getCorrelationKey(String id) {
+                return "businessKey = '" + id + "'";
+            }
+
+            @Override
+            public String getCorrelationKeyName(String consumerName) {
+                return "businessKey_" + consumerName;
+            }
+        });
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+        when(session.createProducer(null)).thenReturn(messageProducer);
+
+        final MessageListener[] listener = new MessageListener[1];
+        doAnswer(invocation -> {
+            listener[0] = (MessageListener) invocation.getArguments()[0];
+            return null;
+        }).when(messageConsumer).setMessageListener(any(MessageListener.class));
+
+        CountDownLatch sent = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            sent.countDown();
+            sent.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(messageProducer).send(eq(destination), any(TextMessage.class));
+
+        when(session.createTextMessage(anyString())).thenAnswer(invocation ->
+                new TextMessageImpl(invocation.getArguments()[0].toString(), new HashMap<String, Object>()));
+
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            TestContext contextA = createTestContext();
+            TestContext contextB = createTestContext();
+            Future<?> requestA = executor.submit(() -> producer.send(new DefaultMessage("<TestRequest>A</TestRequest>").setHeader("businessKey", "A"), contextA));
+            Future<?> requestB = executor.submit(() -> producer.send(new DefaultMessage("<TestRequest>B</TestRequest>").setHeader("businessKey", "B"), contextB));
+
+            Assert.assertTrue(sent.await(5, TimeUnit.SECONDS));
+
+            listener[0].onMessage(new TextMessageImpl("<TestResponse>B</TestResponse>", Collections.singletonMap("businessKey", "B")));
+            listener[0].onMessage(new TextMessageImpl("<TestResponse>A</TestResponse>", Collections.singletonMap("businessKey", "A")));
+
+            requestA.get(5, TimeUnit.SECONDS);
+            requestB.get(5, TimeUnit.SECONDS);
+
+            Assert.assertEquals(producer.receive(contextA).getPayload(String.class), "<TestResponse>A</TestResponse>");
+            Assert.assertEquals(producer.receive(contextB).getPayload(String.class), "<TestResponse>B</TestResponse>");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(session, times(2)).createProducer(null);
+        verify(messageProducer, times(1)).close();
+    }
+
+    @Test
+    public void testSharedReplyDestinationUnmatchedReply() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setSharedReplyDestination(true);
+        endpoint.getEndpointConfiguration().setTimeout(200L);
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+        when(session.createProducer(null)).thenReturn(messageProducer);
+
+        final MessageListener[] listener = new MessageListener[1];
+        doAnswer(invocation -> {
+            listener[0] = (MessageListener) invocation.getArguments()[0];
+            return null;
+        }).when(messageConsumer).setMessageListener(any(MessageListener.class));
+
+        doAnswer(invocation -> {
+            listener[0].onMessage(new TextMessageImpl("<TestResponse>Other request</TestResponse>", new HashMap<String, Object>()));
+            return null;
+        }).when(messageProducer).send(eq(destination), any(TextMessage.class));
+
+        when(session.createTextMessage(anyString())).thenAnswer(invocation ->
+                new TextMessageImpl(invocation.getArguments()[0].toString(), new HashMap<String, Object>()));
+
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+        try {
+            producer.send(new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>"), context);
+            Assert.fail("Missing timeout exception for reply that matches no request");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains("Reply timed out"));
+        } finally {
+            producer.destroy();
+        }
+    }
+
+    @Test
+    public void testSharedReplyDestinationIgnoredWithReplyDestination() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setReplyDestination(replyDestinationQueue);
+        endpoint.getEndpointConfiguration().setSharedReplyDestination(true);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>());
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createConsumer(replyDestinationQueue, "JMSCorrelationID = '123456789'")).thenReturn(messageConsumer);
+        when(messageConsumer.receive(anyLong())).thenReturn(jmsResponse);
+
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenReturn(
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()));
+
+        endpoint.createProducer().send(message, context);
+
+        verify(messageProducer).send((TextMessage)any());
+        verify(session, never()).createConsumer(replyDestinationQueue);
+        verify(messageConsumer, never()).setMessageListener(any(MessageListener.class));
+    }
+
     @Test
     @SuppressWarnings("rawtypes")
     public void testSendMessageWithReplyHandler() throws JMSException {
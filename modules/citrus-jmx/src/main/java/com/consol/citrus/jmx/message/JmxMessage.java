@@ -19,6 +19,7 @@ package com.consol.citrus.jmx.message;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.jmx.model.*;
 import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.xml.MarshallerRegistry;
 import org.springframework.xml.transform.StringResult;
 
 /**
@@ -31,7 +32,7 @@ public class JmxMessage extends DefaultMessage {
     private ManagedBeanInvocation mbeanInvocation;
     private ManagedBeanResult mbeanResult;
 
-    private JmxMarshaller marshaller = new JmxMarshaller();
+    private JmxMarshaller marshaller = MarshallerRegistry.getMarshaller(JmxMarshaller.class, JmxMarshaller::new);
 
     /**
      * Prevent traditional instantiation.
@@ -19,6 +19,7 @@ package com.consol.citrus.mail.message;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.mail.model.*;
 import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.xml.MarshallerRegistry;
 import org.springframework.xml.transform.StringResult;
 
 import java.util.Map;
@@ -29,7 +30,7 @@ import java.util.Map;
  */
 public class MailMessage extends DefaultMessage {
 
-    private MailMarshaller marshaller = new MailMarshaller();
+    private MailMarshaller marshaller = MarshallerRegistry.getMarshaller(MailMarshaller.class, MailMarshaller::new);
 
     private MailRequest mailRequest;
     private MailResponse mailResponse;
@@ -18,12 +18,12 @@ package com.consol.citrus.mail.model;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.xml.MarshallerRegistry;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.oxm.*;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.xml.transform.StringResult;
@@ -45,7 +45,7 @@ public class MailMarshaller extends ObjectMapper implements Marshaller, Unmarsha
     private static final String MAIL_MARSHALLER_TYPE_PROPERTY = "citrus.mail.marshaller.type";
 
     /** XML marshalling delegate */
-    private Jaxb2Marshaller jaxbDelegate = new Jaxb2Marshaller();
+    private final Jaxb2Marshaller jaxbDelegate;
 
     /** Message type format: XML or JSON */
     private String type = MessageType.XML.name();
@@ -57,20 +57,13 @@ public class MailMarshaller extends ObjectMapper implements Marshaller, Unmarsha
      * Default constructor
      */
     public MailMarshaller() {
-        jaxbDelegate.setClassesToBeBound(MailRequest.class,
+        jaxbDelegate = MarshallerRegistry.getJaxb2Marshaller("com/consol/citrus/schema/citrus-mail-message.xsd",
+                MailRequest.class,
                 MailResponse.class,
                 AcceptRequest.class,
                 AcceptResponse.class);
 
-        jaxbDelegate.setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-mail-message.xsd"));
-
         type = System.getProperty(MAIL_MARSHALLER_TYPE_PROPERTY, type);
-
-        try {
-            jaxbDelegate.afterPropertiesSet();
-        } catch (Exception e) {
-            log.warn("Failed to setup mail message marshaller", e);
-        }
     }
 
     @Override
@@ -19,6 +19,7 @@ package com.consol.citrus.rmi.message;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.rmi.model.*;
+import com.consol.citrus.xml.MarshallerRegistry;
 import org.springframework.xml.transform.StringResult;
 
 import java.rmi.Remote;
@@ -33,7 +34,7 @@ public class RmiMessage extends DefaultMessage {
     private RmiServiceInvocation serviceInvocation;
     private RmiServiceResult serviceResult;
 
-    private RmiMarshaller marshaller = new RmiMarshaller();
+    private RmiMarshaller marshaller = MarshallerRegistry.getMarshaller(RmiMarshaller.class, RmiMarshaller::new);
 
     /**
      * Prevent traditional instantiation.
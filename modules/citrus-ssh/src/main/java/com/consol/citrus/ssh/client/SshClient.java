@@ -29,17 +29,19 @@ import com.consol.citrus.ssh.model.SshResponse;
 import com.consol.citrus.util.FileUtils;
 import com.jcraft.jsch.*;
 import org.apache.sshd.client.keyverifier.KnownHostsServerKeyVerifier;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.util.*;
 
 import java.io.*;
 
 /**
- * Ssh client connects to ssh server and sends commands to that server.
+ * Ssh client connects to ssh server and sends commands to that server. With session pooling enabled the client keeps
+ * SSH sessions open and runs subsequent and concurrent commands on exec channels of the pooled sessions.
  *
  * @author Roland Huss, Christoph Deppisch
  * @since 1.4
  */
-public class SshClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class SshClient extends AbstractEndpoint implements Producer, ReplyConsumer, DisposableBean {
 
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
@@ -47,6 +49,9 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
     // Session for the SSH communication
     private Session session;
 
+    // Pooled sessions for the SSH communication
+    private SshSessionPool sessionPool;
+
     // SSH implementation
     private JSch jsch = new JSch();
 
@@ -86,18 +91,24 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
 
         SshRequest request = (SshRequest) getEndpointConfiguration().getMessageConverter().convertOutbound(message, getEndpointConfiguration(), context);
 
-        if (getEndpointConfiguration().isStrictHostChecking()) {
-            setKnownHosts();
+        String rUser = getRemoteUser(message);
+
+        Session commandSession;
+        SshSessionPool.PooledSession pooledSession = null;
+        if (getEndpointConfiguration().isSessionPooling()) {
+            pooledSession = getSessionPool().acquire(getSessionKey(rUser), () -> createSession(rUser));
+            commandSession = pooledSession.getSession();
+        } else {
+            connect(rUser);
+            commandSession = session;
         }
 
-        String rUser = getRemoteUser(message);
-        connect(rUser);
         ChannelExec channelExec = null;
         ByteArrayOutputStream outStream = new ByteArrayOutputStream();
         ByteArrayOutputStream errStream = new ByteArrayOutputStream();
         int rc;
         try {
-            channelExec = openChannelExec();
+            channelExec = openChannelExec(commandSession);
             channelExec.setErrStream(errStream);
             channelExec.setOutputStream(outStream);
             channelExec.setCommand(request.getCommand());
@@ -111,7 +122,12 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
             if (channelExec != null && channelExec.isConnected()) {
                 channelExec.disconnect();
             }
-            disconnect();
+
+            if (pooledSession != null) {
+                sessionPool.release(pooledSession);
+            } else {
+                disconnect();
+            }
         }
         SshResponse sshResp = new SshResponse(outStream.toString(),errStream.toString(),rc);
         Message response = getEndpointConfiguration().getMessageConverter().convertInbound(sshResp, getEndpointConfiguration(), context)
@@ -158,30 +174,58 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         return this;
     }
 
+    @Override
+    public void destroy() {
+        if (sessionPool != null) {
+            sessionPool.close();
+        }
+    }
+
     private void connect(String rUser) {
         if (session == null || !session.isConnected()) {
-            try {
-                if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
-                    jsch.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
-                }
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+            session = createSession(rUser);
+        }
+    }
+
+    private Session createSession(String rUser) {
+        if (getEndpointConfiguration().isStrictHostChecking()) {
+            setKnownHosts();
+        }
+
+        try {
+            if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
+                jsch.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
             }
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        }
 
-            try {
-                session = jsch.getSession(rUser, getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
-                if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
-                    session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
-                    session.setPassword(getEndpointConfiguration().getPassword());
-                }
-                session.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
-                session.connect();
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot connect via SSH: " + e,e);
+        try {
+            Session newSession = jsch.getSession(rUser, getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
+            if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
+                newSession.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
+                newSession.setPassword(getEndpointConfiguration().getPassword());
             }
+            newSession.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
+            newSession.connect();
+            return newSession;
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot connect via SSH: " + e,e);
+        }
+    }
+
+    private synchronized SshSessionPool getSessionPool() {
+        if (sessionPool == null) {
+            sessionPool = new SshSessionPool(getEndpointConfiguration().getMaxSessionChannels(), getEndpointConfiguration().getSessionIdleTimeout());
         }
+
+        return sessionPool;
+    }
+
+    private String getSessionKey(String rUser) {
+        return rUser + "@" + getEndpointConfiguration().getHost() + ":" + getEndpointConfiguration().getPort();
     }
 
     private void disconnect() {
@@ -190,7 +234,7 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
-    private ChannelExec openChannelExec() throws CitrusRuntimeException {
+    private ChannelExec openChannelExec(Session session) throws CitrusRuntimeException {
         ChannelExec channelExec;
         try {
             channelExec = (ChannelExec) session.openChannel("exec");
@@ -204,8 +248,10 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         final long until = System.currentTimeMillis() + getEndpointConfiguration().getCommandTimeout();
 
         try {
+            long wait = 10L;
             while (!pCh.isClosed() && System.currentTimeMillis() < until) {
-                Thread.sleep(250);
+                Thread.sleep(wait);
+                wait = Math.min(wait * 2, 250L);
             }
         } catch (InterruptedException e) {
             throw new RuntimeException("Interrupted", e);
@@ -134,6 +134,36 @@ public class SshClientBuilder extends AbstractEndpointBuilder<SshClient> {
         return this;
     }
 
+    /**
+     * Sets the sessionPooling property.
+     * @param sessionPooling
+     * @return
+     */
+    public SshClientBuilder sessionPooling(boolean sessionPooling) {
+        endpoint.getEndpointConfiguration().setSessionPooling(sessionPooling);
+        return this;
+    }
+
+    /**
+     * Sets the maxSessionChannels property.
+     * @param maxSessionChannels
+     * @return
+     */
+    public SshClientBuilder maxSessionChannels(int maxSessionChannels) {
+        endpoint.getEndpointConfiguration().setMaxSessionChannels(maxSessionChannels);
+        return this;
+    }
+
+    /**
+     * Sets the sessionIdleTimeout property.
+     * @param sessionIdleTimeout
+     * @return
+     */
+    public SshClientBuilder sessionIdleTimeout(long sessionIdleTimeout) {
+        endpoint.getEndpointConfiguration().setSessionIdleTimeout(sessionIdleTimeout);
+        return this;
+    }
+
     /**
      * Sets the message converter.
      * @param messageConverter
@@ -57,6 +57,15 @@ public class SshEndpointConfiguration extends AbstractPollableEndpointConfigurat
      /** Timeout how long to wait for a connection to connect */
     private int connectionTimeout = 1000 * 60 * 1; // 1 minute
 
+    /** Should client keep SSH sessions open and reuse them for subsequent commands */
+    private boolean sessionPooling = false;
+
+    /** Maximum number of concurrent exec channels on one pooled session */
+    private int maxSessionChannels = 10;
+
+    /** Time in milliseconds after which an unused pooled session is closed */
+    private long sessionIdleTimeout = 1000L * 60L; // 1 minute
+
     /** Reply message correlator */
     private MessageCorrelator correlator = new DefaultMessageCorrelator();
 
@@ -210,6 +219,54 @@ public class SshEndpointConfiguration extends AbstractPollableEndpointConfigurat
         this.commandTimeout = commandTimeout;
     }
 
+    /**
+     * Gets the sessionPooling.
+     * @return
+     */
+    public boolean isSessionPooling() {
+        return sessionPooling;
+    }
+
+    /**
+     * Sets the sessionPooling.
+     * @param sessionPooling
+     */
+    public void setSessionPooling(boolean sessionPooling) {
+        this.sessionPooling = sessionPooling;
+    }
+
+    /**
+     * Gets the maxSessionChannels.
+     * @return
+     */
+    public int getMaxSessionChannels() {
+        return maxSessionChannels;
+    }
+
+    /**
+     * Sets the maxSessionChannels.
+     * @param maxSessionChannels
+     */
+    public void setMaxSessionChannels(int maxSessionChannels) {
+        this.maxSessionChannels = maxSessionChannels;
+    }
+
+    /**
+     * Gets the sessionIdleTimeout.
+     * @return
+     */
+    public long getSessionIdleTimeout() {
+        return sessionIdleTimeout;
+    }
+
+    /**
+     * Sets the sessionIdleTimeout.
+     * @param sessionIdleTimeout
+     */
+    public void setSessionIdleTimeout(long sessionIdleTimeout) {
+        this.sessionIdleTimeout = sessionIdleTimeout;
+    }
+
     /**
      * Gets the connection timeout.
      * @return
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ssh.client;
+
+import com.jcraft.jsch.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool of established SSH sessions grouped by connection key. Each SSH client owns its own pool and uses remote user, host
+ * and port as key, credentials are not part of the key as they are fixed per client. Commands open their exec
+ * channels on pooled sessions so each command does not have to pay for connection handshake and authentication. One session
+ * serves up to a maximum number of concurrent channels, further sessions are opened when all sessions for a key are busy.
+ *
+ * Sessions that lost their connection are removed on next usage, unused sessions are closed after idle timeout.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class SshSessionPool {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(SshSessionPool.class);
+
+    /** Pooled sessions by connection key */
+    private final Map<String, List<PooledSession>> sessions = new HashMap<>();
+
+    /** Maximum number of concurrent channels per session */
+    private final int maxChannels;
+
+    /** Idle timeout in milliseconds */
+    private final long idleTimeout;
+
+    /**
+     * Default constructor using max channels and idle timeout.
+     * @param maxChannels
+     * @param idleTimeout
+     */
+    public SshSessionPool(int maxChannels, long idleTimeout) {
+        this.maxChannels = Math.max(1, maxChannels);
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Acquires channel slot on pooled session for given connection key. When no connected session with free channel slot
+     * is available a new session is created with given factory.
+     * @param key
+     * @param sessionFactory
+     * @return
+     */
+    public PooledSession acquire(String key, Supplier<Session> sessionFactory) {
+        synchronized (sessions) {
+            evictIdleSessions();
+
+            List<PooledSession> candidates = sessions.computeIfAbsent(key, k -> new ArrayList<>());
+            Iterator<PooledSession> it = candidates.iterator();
+            while (it.hasNext()) {
+                PooledSession candidate = it.next();
+                if (!candidate.getSession().isConnected()) {
+                    log.debug("Removing disconnected SSH session from pool: " + key);
+                    it.remove();
+                } else if (candidate.activeChannels.get() < maxChannels) {
+                    candidate.activeChannels.incrementAndGet();
+                    return candidate;
+                }
+            }
+        }
+
+        PooledSession pooledSession = new PooledSession(sessionFactory.get());
+        pooledSession.activeChannels.incrementAndGet();
+
+        synchronized (sessions) {
+            sessions.computeIfAbsent(key, k -> new ArrayList<>()).add(pooledSession);
+        }
+
+        return pooledSession;
+    }
+
+    /**
+     * Releases channel slot on pooled session.
+     * @param pooledSession
+     */
+    public void release(PooledSession pooledSession) {
+        pooledSession.lastUsed = System.currentTimeMillis();
+        pooledSession.activeChannels.decrementAndGet();
+    }
+
+    /**
+     * Closes all pooled sessions.
+     */
+    public void close() {
+        synchronized (sessions) {
+            sessions.values().forEach(pooled -> pooled.forEach(PooledSession::disconnect));
+            sessions.clear();
+        }
+    }
+
+    /**
+     * Gets the number of pooled sessions.
+     * @return
+     */
+    public int getSessionCount() {
+        synchronized (sessions) {
+            return sessions.values().stream().mapToInt(List::size).sum();
+        }
+    }
+
+    /**
+     * Closes sessions that have not been used within idle timeout.
+     */
+    private void evictIdleSessions() {
+        long now = System.currentTimeMillis();
+        for (List<PooledSession> pooled : sessions.values()) {
+            Iterator<PooledSession> it = pooled.iterator();
+            while (it.hasNext()) {
+                PooledSession candidate = it.next();
+                if (candidate.activeChannels.get() == 0 && now - candidate.lastUsed > idleTimeout) {
+                    log.debug("Closing idle SSH session");
+                    candidate.disconnect();
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Pooled session with number of currently open channels.
+     */
+    public static class PooledSession {
+        private final Session session;
+        private final AtomicInteger activeChannels = new AtomicInteger();
+        private volatile long lastUsed = System.currentTimeMillis();
+
+        /**
+         * Default constructor using session.
+         * @param session
+         */
+        PooledSession(Session session) {
+            this.session = session;
+        }
+
+        /**
+         * Gets the session.
+         * @return
+         */
+        public Session getSession() {
+            return session;
+        }
+
+        /**
+         * Disconnects session.
+         */
+        private void disconnect() {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        }
+    }
+}
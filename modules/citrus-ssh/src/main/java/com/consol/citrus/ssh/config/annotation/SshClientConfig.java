@@ -89,6 +89,24 @@ public @interface SshClientConfig {
      */
     int connectionTimeout() default 1000 * 60 * 1;
 
+    /**
+     * SessionPooling.
+     * @return
+     */
+    boolean sessionPooling() default false;
+
+    /**
+     * MaxSessionChannels.
+     * @return
+     */
+    int maxSessionChannels() default 10;
+
+    /**
+     * SessionIdleTimeout.
+     * @return
+     */
+    long sessionIdleTimeout() default 1000L * 60L;
+
     /**
      * Message converter.
      * @return
@@ -65,6 +65,9 @@ public class SshClientConfigParser extends AbstractAnnotationConfigParser<SshCli
 
         builder.commandTimeout(annotation.commandTimeout());
         builder.connectionTimeout(annotation.connectionTimeout());
+        builder.sessionPooling(annotation.sessionPooling());
+        builder.maxSessionChannels(annotation.maxSessionChannels());
+        builder.sessionIdleTimeout(annotation.sessionIdleTimeout());
 
         if (StringUtils.hasText(annotation.user())) {
             builder.user(annotation.user());
@@ -157,6 +157,28 @@ public class SshClientTest extends AbstractTestNGUnitTest {
         standardChannelPrepAndSend();
     }
 
+    @Test
+    public void withSessionPooling() throws JSchException, IOException {
+        client.getEndpointConfiguration().setSessionPooling(true);
+        strictHostChecking(false, null);
+
+        prepareChannel(COMMAND, 0);
+        when(session.isConnected()).thenReturn(true);
+        when(session.openChannel("exec")).thenReturn(channel);
+
+        send();
+        send();
+
+        verify(jsch, times(1)).getSession("roland", "planck", 1968);
+        verify(session, times(1)).connect();
+        verify(session, times(2)).openChannel("exec");
+        verify(channel, times(2)).disconnect();
+        verify(session, never()).disconnect();
+
+        client.destroy();
+        verify(session).disconnect();
+    }
+
     private void send() {
         client.send(createMessage(COMMAND, STDIN), context);
     }
@@ -53,6 +53,9 @@ public class SshClientConfigParserTest extends AbstractTestNGUnitTest {
             connectionTimeout=5000,
             knownHosts="classpath:com/consol/citrus/ssh/known_hosts",
             timeout=10000L,
+            sessionPooling=true,
+            maxSessionChannels=5,
+            sessionIdleTimeout=30000L,
             messageConverter="sshMessageConverter")
     private SshClient sshClient2;
 
@@ -92,6 +95,9 @@ public class SshClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(sshClient1.getEndpointConfiguration().getConnectionTimeout(), 1000 * 60 * 1);
         Assert.assertFalse(sshClient1.getEndpointConfiguration().isStrictHostChecking());
         Assert.assertNotNull(sshClient1.getEndpointConfiguration().getMessageConverter());
+        Assert.assertFalse(sshClient1.getEndpointConfiguration().isSessionPooling());
+        Assert.assertEquals(sshClient1.getEndpointConfiguration().getMaxSessionChannels(), 10);
+        Assert.assertEquals(sshClient1.getEndpointConfiguration().getSessionIdleTimeout(), 1000L * 60L);
 
         // 2nd client
         Assert.assertEquals(sshClient2.getEndpointConfiguration().getHost(), "dev7");
@@ -105,5 +111,8 @@ public class SshClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(sshClient2.getEndpointConfiguration().getConnectionTimeout(), 5000);
         Assert.assertTrue(sshClient2.getEndpointConfiguration().isStrictHostChecking());
         Assert.assertEquals(sshClient2.getEndpointConfiguration().getMessageConverter(), messageConverter);
+        Assert.assertTrue(sshClient2.getEndpointConfiguration().isSessionPooling());
+        Assert.assertEquals(sshClient2.getEndpointConfiguration().getMaxSessionChannels(), 5);
+        Assert.assertEquals(sshClient2.getEndpointConfiguration().getSessionIdleTimeout(), 30000L);
     }
 }
@@ -47,6 +47,9 @@ public class SshClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(client.getEndpointConfiguration().getConnectionTimeout(), 1000 * 60 * 1);
         Assert.assertFalse(client.getEndpointConfiguration().isStrictHostChecking());
         Assert.assertNotNull(client.getEndpointConfiguration().getMessageConverter());
+        Assert.assertFalse(client.getEndpointConfiguration().isSessionPooling());
+        Assert.assertEquals(client.getEndpointConfiguration().getMaxSessionChannels(), 10);
+        Assert.assertEquals(client.getEndpointConfiguration().getSessionIdleTimeout(), 1000L * 60L);
 
         // 2nd client
         client = clients.get("sshClient2");
@@ -61,5 +64,8 @@ public class SshClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(client.getEndpointConfiguration().getConnectionTimeout(), 5000);
         Assert.assertTrue(client.getEndpointConfiguration().isStrictHostChecking());
         Assert.assertEquals(client.getEndpointConfiguration().getMessageConverter(), beanDefinitionContext.getBean("sshMessageConverter"));
+        Assert.assertTrue(client.getEndpointConfiguration().isSessionPooling());
+        Assert.assertEquals(client.getEndpointConfiguration().getMaxSessionChannels(), 5);
+        Assert.assertEquals(client.getEndpointConfiguration().getSessionIdleTimeout(), 30000L);
     }
 }
@@ -59,6 +59,18 @@ public @interface VertxEndpointConfig {
      */
     boolean pubSubDomain() default false;
 
+    /**
+     * Persistent subscription.
+     * @return
+     */
+    boolean persistentSubscription() default false;
+
+    /**
+     * Buffer size.
+     * @return
+     */
+    int bufferSize() default 1000;
+
     /**
      * Message converter.
      * @return
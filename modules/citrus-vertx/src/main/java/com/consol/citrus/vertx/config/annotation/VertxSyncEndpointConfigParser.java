@@ -55,6 +55,8 @@ public class VertxSyncEndpointConfigParser extends AbstractAnnotationConfigParse
         }
 
         builder.pubSubDomain(annotation.pubSubDomain());
+        builder.persistentSubscription(annotation.persistentSubscription());
+        builder.bufferSize(annotation.bufferSize());
 
         builder.vertxFactory(getReferenceResolver().resolve(annotation.vertxFactory(), VertxInstanceFactory.class));
 
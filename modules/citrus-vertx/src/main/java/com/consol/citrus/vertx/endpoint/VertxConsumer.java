@@ -16,21 +16,31 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.messaging.AbstractMessageConsumer;
+import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
 import io.vertx.core.eventbus.MessageConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.util.StringUtils;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+import java.util.function.Function;
+
 /**
+ * Consumer receives messages on Vert.x event bus address. By default each receive operation registers a new event bus
+ * consumer that is unregistered after the first message arrived. With persistent subscription enabled the consumer
+ * keeps one event bus subscription for its whole lifetime and serves receive operations from the subscription buffer.
+ * Message selectors are only evaluated with persistent subscription, otherwise selectors are ignored and the next message is received.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxConsumer extends AbstractMessageConsumer {
+public class VertxConsumer extends AbstractSelectiveMessageConsumer {
 
     /** Vert.x instance */
     private final Vertx vertx;
@@ -38,6 +48,9 @@ public class VertxConsumer extends AbstractMessageConsumer {
     /** Endpoint configuration */
     private final VertxEndpointConfiguration endpointConfiguration;
 
+    /** Persistent event bus subscription */
+    private VertxSubscription subscription;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(VertxConsumer.class);
 
@@ -57,7 +70,16 @@ public class VertxConsumer extends AbstractMessageConsumer {
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
+    public Message receive(String selector, TestContext context, long timeout) {
+        if (endpointConfiguration.isPersistentSubscription()) {
+            return receiveFromSubscription(selector, context, timeout);
+        }
+
+        if (StringUtils.hasText(selector)) {
+            log.warn("Unable to receive selective on Vert.x event bus address '" + endpointConfiguration.getAddress() +
+                    "' without persistent subscription - ignoring message selector");
+        }
+
         if (log.isDebugEnabled()) {
             log.debug("Receiving message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
         }
@@ -101,6 +123,72 @@ public class VertxConsumer extends AbstractMessageConsumer {
         }
     }
 
+    /**
+     * Receives message from persistent subscription buffer. Subscription is started on first usage.
+     * @param selector
+     * @param context
+     * @param timeout
+     * @return
+     */
+    private Message receiveFromSubscription(String selector, TestContext context, long timeout) {
+        String addressName = endpointConfiguration.getAddress() + (StringUtils.hasText(selector) ? "(" + selector + ")" : "");
+        if (log.isDebugEnabled()) {
+            log.debug("Receiving message on Vert.x event bus address: '" + addressName + "'");
+        }
+
+        Function<io.vertx.core.eventbus.Message<Object>, Message> converter =
+                vertxMessage -> endpointConfiguration.getMessageConverter().convertInbound(vertxMessage, endpointConfiguration, context);
+
+        VertxSubscription.BufferedMessage bufferedMessage;
+        if (StringUtils.hasText(selector)) {
+            DispatchingMessageSelector messageSelector = new DispatchingMessageSelector(selector, context.getApplicationContext(), context);
+            bufferedMessage = getSubscription().receive(candidate -> messageSelector.accept(
+                    new GenericMessage<>(candidate.getConvertedMessage(converter))), timeout);
+        } else {
+            bufferedMessage = getSubscription().receive(candidate -> true, timeout);
+        }
+
+        if (bufferedMessage == null) {
+            throw new ActionTimeoutException("Action timed out while receiving message on Vert.x event bus address '" + addressName + "'");
+        }
+
+        Message message = bufferedMessage.getConvertedMessage(converter);
+        log.info("Received message on Vert.x event bus address: '" + addressName + "'");
+
+        context.onInboundMessage(message);
+        return message;
+    }
+
+    /**
+     * Gets the persistent subscription. Subscription is created and started on first usage.
+     * @return
+     */
+    public synchronized VertxSubscription getSubscription() {
+        if (subscription == null) {
+            subscription = new VertxSubscription(vertx, endpointConfiguration.getAddress(), endpointConfiguration.getBufferSize());
+            subscription.start();
+        }
+
+        return subscription;
+    }
+
+    /**
+     * Stops persistent subscription if any.
+     */
+    public synchronized void stop() {
+        if (subscription != null) {
+            subscription.stop();
+        }
+    }
+
+    /**
+     * Gets the number of messages currently held in persistent subscription buffer.
+     * @return
+     */
+    public int getBufferedMessageCount() {
+        return subscription != null ? subscription.getBufferedMessageCount() : 0;
+    }
+
     /**
      * Simple Vert.x message handler stores first message received on event bus and ignores all further messages
      * until subscription is unregistered automatically.
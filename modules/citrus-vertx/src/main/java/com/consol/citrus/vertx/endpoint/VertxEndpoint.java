@@ -20,16 +20,20 @@ import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.messaging.Consumer;
 import com.consol.citrus.messaging.Producer;
 import com.consol.citrus.vertx.factory.VertxInstanceFactory;
+import org.springframework.beans.factory.DisposableBean;
 
 /**
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxEndpoint extends AbstractEndpoint {
+public class VertxEndpoint extends AbstractEndpoint implements DisposableBean {
 
     /** Vert.x instance */
     private VertxInstanceFactory vertxInstanceFactory;
 
+    /** Cached consumer holding persistent subscription */
+    private VertxConsumer vertxConsumer;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -54,8 +58,26 @@ public class VertxEndpoint extends AbstractEndpoint {
 
     @Override
     public Consumer createConsumer() {
-        return new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
-                getEndpointConfiguration());
+        if (!getEndpointConfiguration().isPersistentSubscription()) {
+            return new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
+                    getEndpointConfiguration());
+        }
+
+        synchronized (this) {
+            if (vertxConsumer == null) {
+                vertxConsumer = new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
+                        getEndpointConfiguration());
+            }
+
+            return vertxConsumer;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (vertxConsumer != null) {
+            vertxConsumer.stop();
+        }
     }
 
     @Override
@@ -94,6 +94,26 @@ public class VertxEndpointBuilder extends AbstractEndpointBuilder<VertxEndpoint>
         return this;
     }
 
+    /**
+     * Sets the persistentSubscription property.
+     * @param persistentSubscription
+     * @return
+     */
+    public VertxEndpointBuilder persistentSubscription(boolean persistentSubscription) {
+        endpoint.getEndpointConfiguration().setPersistentSubscription(persistentSubscription);
+        return this;
+    }
+
+    /**
+     * Sets the bufferSize property.
+     * @param bufferSize
+     * @return
+     */
+    public VertxEndpointBuilder bufferSize(int bufferSize) {
+        endpoint.getEndpointConfiguration().setBufferSize(bufferSize);
+        return this;
+    }
+
     /**
      * Sets the polling interval.
      * @param pollingInterval
@@ -40,6 +40,12 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     /** Message converter */
     private VertxMessageConverter messageConverter = new VertxMessageConverter();
 
+    /** Should consumer keep one event bus subscription for the whole endpoint lifetime */
+    private boolean persistentSubscription = false;
+
+    /** Maximum number of messages buffered by persistent subscription */
+    private int bufferSize = 1000;
+
     /**
      * Gets the address on the vert.x event bus.
      * @return
@@ -119,4 +125,36 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setMessageConverter(VertxMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Gets the persistentSubscription.
+     * @return
+     */
+    public boolean isPersistentSubscription() {
+        return persistentSubscription;
+    }
+
+    /**
+     * Sets the persistentSubscription.
+     * @param persistentSubscription
+     */
+    public void setPersistentSubscription(boolean persistentSubscription) {
+        this.persistentSubscription = persistentSubscription;
+    }
+
+    /**
+     * Gets the bufferSize.
+     * @return
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the bufferSize.
+     * @param bufferSize
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
 }
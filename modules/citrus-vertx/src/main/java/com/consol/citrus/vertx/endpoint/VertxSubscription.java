@@ -0,0 +1,252 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.vertx.endpoint;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Long lived subscription on a Vert.x event bus address. Messages received on the event bus are held in a bounded
+ * buffer until a receiver takes them. Waiting receivers are signaled as soon as a new message arrives so they do not
+ * have to poll. When the buffer is full the oldest buffered message is dropped. Buffered messages keep their converted Citrus
+ * message so selective receive operations convert each message only once.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class VertxSubscription implements Handler<Message<Object>> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(VertxSubscription.class);
+
+    /** Vert.x instance */
+    private final Vertx vertx;
+
+    /** Event bus address */
+    private final String address;
+
+    /** Maximum number of buffered messages */
+    private final int bufferSize;
+
+    /** Buffered messages and current buffer depth */
+    private final Queue<BufferedMessage> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedMessages = new AtomicInteger();
+
+    /** Advances on each message arrival so waiting receivers wake up */
+    private final Phaser arrivals = new Phaser(1);
+
+    /** Subscription statistics */
+    private final AtomicLong receivedMessages = new AtomicLong();
+    private final AtomicLong droppedMessages = new AtomicLong();
+    private final AtomicInteger maxBufferedMessages = new AtomicInteger();
+
+    /** Event bus consumer */
+    private MessageConsumer<Object> messageConsumer;
+
+    /**
+     * Default constructor using Vert.x instance, address and buffer size.
+     * @param vertx
+     * @param address
+     * @param bufferSize
+     */
+    public VertxSubscription(Vertx vertx, String address, int bufferSize) {
+        this.vertx = vertx;
+        this.address = address;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Registers consumer on event bus address. Method does nothing when subscription is already started.
+     */
+    public synchronized void start() {
+        if (messageConsumer == null) {
+            messageConsumer = vertx.eventBus().consumer(address, this);
+            log.info("Started persistent subscription on Vert.x event bus address: '" + address + "'");
+        }
+    }
+
+    /**
+     * Unregisters consumer from event bus address. Messages remaining in buffer are still available.
+     */
+    public synchronized void stop() {
+        if (messageConsumer != null) {
+            messageConsumer.unregister();
+            messageConsumer = null;
+        }
+    }
+
+    @Override
+    public void handle(Message<Object> message) {
+        buffer.offer(new BufferedMessage(message));
+        receivedMessages.incrementAndGet();
+
+        int depth = bufferedMessages.incrementAndGet();
+        while (depth > bufferSize) {
+            BufferedMessage dropped = buffer.poll();
+            if (dropped == null) {
+                break;
+            }
+
+            depth = bufferedMessages.decrementAndGet();
+            droppedMessages.incrementAndGet();
+            log.warn("Buffer of Vert.x subscription on event bus address '" + address + "' is full - dropped oldest message");
+        }
+
+        maxBufferedMessages.accumulateAndGet(depth, Math::max);
+        arrivals.arrive();
+    }
+
+    /**
+     * Takes the first buffered message accepted by given filter. Waits for new messages to arrive until timeout is reached.
+     * @param filter
+     * @param timeout
+     * @return the message or null when timeout is reached
+     */
+    public BufferedMessage receive(Predicate<BufferedMessage> filter, long timeout) {
+        long deadline = System.currentTimeMillis() + timeout;
+
+        int phase = arrivals.getPhase();
+        BufferedMessage message = poll(filter);
+        while (message == null) {
+            long timeLeft = deadline - System.currentTimeMillis();
+            if (timeLeft <= 0) {
+                return null;
+            }
+
+            try {
+                arrivals.awaitAdvanceInterruptibly(phase, timeLeft, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                return null;
+            } catch (InterruptedException e) {
+                log.warn("Thread interrupted while waiting for message on Vert.x event bus", e);
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            phase = arrivals.getPhase();
+            message = poll(filter);
+        }
+
+        return message;
+    }
+
+    /**
+     * Removes first buffered message accepted by given filter.
+     * @param filter
+     * @return the message or null when no buffered message is accepted
+     */
+    private BufferedMessage poll(Predicate<BufferedMessage> filter) {
+        Iterator<BufferedMessage> it = buffer.iterator();
+        while (it.hasNext()) {
+            BufferedMessage candidate = it.next();
+            if (filter.test(candidate) && buffer.remove(candidate)) {
+                bufferedMessages.decrementAndGet();
+                return candidate;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the number of messages currently held in buffer.
+     * @return
+     */
+    public int getBufferedMessageCount() {
+        return bufferedMessages.get();
+    }
+
+    /**
+     * Gets the highest number of messages held in buffer at the same time.
+     * @return
+     */
+    public int getMaxBufferedMessageCount() {
+        return maxBufferedMessages.get();
+    }
+
+    /**
+     * Gets the number of messages received on event bus.
+     * @return
+     */
+    public long getReceivedMessageCount() {
+        return receivedMessages.get();
+    }
+
+    /**
+     * Gets the number of messages dropped because buffer was full.
+     * @return
+     */
+    public long getDroppedMessageCount() {
+        return droppedMessages.get();
+    }
+
+    /**
+     * Vert.x message held in subscription buffer together with its converted Citrus message.
+     */
+    public static class BufferedMessage {
+        private final Message<Object> message;
+        private volatile com.consol.citrus.message.Message converted;
+
+        /**
+         * Constructor using the Vert.x message.
+         * @param message
+         */
+        BufferedMessage(Message<Object> message) {
+            this.message = message;
+        }
+
+        /**
+         * Gets the Vert.x message.
+         * @return
+         */
+        public Message<Object> getMessage() {
+            return message;
+        }
+
+        /**
+         * Gets the converted Citrus message. Message is converted with given converter on first access only.
+         * @param converter
+         * @return
+         */
+        public com.consol.citrus.message.Message getConvertedMessage(Function<Message<Object>, com.consol.citrus.message.Message> converter) {
+            com.consol.citrus.message.Message result = converted;
+            if (result == null) {
+                synchronized (this) {
+                    result = converted;
+                    if (result == null) {
+                        result = converter.apply(message);
+                        converted = result;
+                    }
+                }
+            }
+
+            return result;
+        }
+    }
+}
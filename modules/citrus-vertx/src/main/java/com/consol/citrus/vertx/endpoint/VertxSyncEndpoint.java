@@ -78,4 +78,13 @@ public class VertxSyncEndpoint extends VertxEndpoint {
 
         return vertxSyncMessageProducer;
     }
+
+    @Override
+    public void destroy() {
+        if (vertxSyncMessageConsumer != null) {
+            vertxSyncMessageConsumer.stop();
+        }
+
+        super.destroy();
+    }
 }
@@ -95,6 +95,26 @@ public class VertxSyncEndpointBuilder extends AbstractEndpointBuilder<VertxSyncE
         return this;
     }
 
+    /**
+     * Sets the persistentSubscription property.
+     * @param persistentSubscription
+     * @return
+     */
+    public VertxSyncEndpointBuilder persistentSubscription(boolean persistentSubscription) {
+        endpoint.getEndpointConfiguration().setPersistentSubscription(persistentSubscription);
+        return this;
+    }
+
+    /**
+     * Sets the bufferSize property.
+     * @param bufferSize
+     * @return
+     */
+    public VertxSyncEndpointBuilder bufferSize(int bufferSize) {
+        endpoint.getEndpointConfiguration().setBufferSize(bufferSize);
+        return this;
+    }
+
     /**
      * Sets the polling interval.
      * @param pollingInterval
@@ -41,6 +41,7 @@ public class VertxEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(vertxEndpoint.getVertxInstanceFactory(), beanDefinitionContext.getBean("vertxInstanceFactory"));
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getAddress(), "news-feed1");
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().isPersistentSubscription(), false);
 
         // 2nd message receiver
         vertxEndpoint = endpoints.get("vertxEndpoint2");
@@ -56,6 +57,8 @@ public class VertxEndpointParserTest extends AbstractBeanDefinitionParserTest {
         vertxEndpoint = endpoints.get("vertxEndpoint3");
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getAddress(), "news-feed3");
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().isPubSubDomain(), true);
+        Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().isPersistentSubscription(), true);
+        Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getBufferSize(), 50);
 
         // 4th message receiver
         vertxEndpoint = endpoints.get("vertxEndpoint4");
@@ -22,6 +22,7 @@ import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.vertx.factory.SingleVertxInstanceFactory;
 import com.consol.citrus.vertx.message.CitrusVertxMessageHeaders;
+import com.consol.citrus.vertx.message.VertxMessageConverter;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
@@ -129,6 +130,34 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
         verify(messageConsumer).unregister();
     }
 
+    @Test
+    public void testVertxEndpointConsumerIgnoresSelector() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer, messageMock);
+
+        when(messageMock.body()).thenReturn("Hello from Vertx!");
+        when(messageMock.address()).thenReturn(eventBusAddress);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(invocation -> {
+            Handler handler = (Handler) invocation.getArguments()[1];
+            handler.handle(messageMock);
+
+            return messageConsumer;
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        Message receivedMessage = ((VertxConsumer) vertxEndpoint.createConsumer()).receive("operation = 'unknown'", context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+
+        verify(messageConsumer).unregister();
+    }
+
     @Test
     public void testVertxEndpointWithOutboundMessageListeners() {
         String eventBusAddress = "news-feed";
@@ -153,4 +182,116 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
 
         verify(messageListeners).onOutboundMessage(requestMessage, context);
     }
+
+    @Test
+    public void testVertxEndpointConsumerPersistentSubscription() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+        endpointConfiguration.setBufferSize(2);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        io.vertx.core.eventbus.Message firstMessage = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        io.vertx.core.eventbus.Message secondMessage = Mockito.mock(io.vertx.core.eventbus.Message.class);
+
+        reset(vertx, eventBus, messageConsumer, messageMock);
+
+        when(messageMock.body()).thenReturn("Dropped");
+        when(messageMock.address()).thenReturn(eventBusAddress);
+        when(messageMock.replyAddress()).thenReturn("replyA");
+        when(firstMessage.body()).thenReturn("Hello from Vertx!");
+        when(firstMessage.address()).thenReturn(eventBusAddress);
+        when(firstMessage.replyAddress()).thenReturn("replyB");
+        when(secondMessage.body()).thenReturn("Hello again from Vertx!");
+        when(secondMessage.address()).thenReturn(eventBusAddress);
+        when(secondMessage.replyAddress()).thenReturn("replyC");
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(invocation -> {
+            Handler handler = (Handler) invocation.getArguments()[1];
+            handler.handle(messageMock);
+            handler.handle(firstMessage);
+            handler.handle(secondMessage);
+
+            return messageConsumer;
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        VertxConsumer consumer = (VertxConsumer) vertxEndpoint.createConsumer();
+        Assert.assertSame(vertxEndpoint.createConsumer(), consumer);
+
+        Message receivedMessage = consumer.receive(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS + " = 'replyC'", context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello again from Vertx!");
+
+        receivedMessage = consumer.receive(context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+        Assert.assertEquals(consumer.getBufferedMessageCount(), 0);
+
+        VertxSubscription subscription = consumer.getSubscription();
+        Assert.assertEquals(subscription.getReceivedMessageCount(), 3L);
+        Assert.assertEquals(subscription.getDroppedMessageCount(), 1L);
+        Assert.assertEquals(subscription.getMaxBufferedMessageCount(), 2);
+
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+        verify(messageConsumer, never()).unregister();
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
+    @Test
+    public void testVertxEndpointSelectiveReceiveConvertsOnce() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+
+        VertxMessageConverter messageConverter = Mockito.spy(new VertxMessageConverter());
+        endpointConfiguration.setMessageConverter(messageConverter);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        io.vertx.core.eventbus.Message firstMessage = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        io.vertx.core.eventbus.Message secondMessage = Mockito.mock(io.vertx.core.eventbus.Message.class);
+
+        reset(vertx, eventBus, messageConsumer, messageMock);
+
+        when(messageMock.body()).thenReturn("Hello from Vertx!");
+        when(messageMock.address()).thenReturn(eventBusAddress);
+        when(messageMock.replyAddress()).thenReturn("replyA");
+        when(firstMessage.body()).thenReturn("Hello again from Vertx!");
+        when(firstMessage.address()).thenReturn(eventBusAddress);
+        when(firstMessage.replyAddress()).thenReturn("replyB");
+        when(secondMessage.body()).thenReturn("Last hello from Vertx!");
+        when(secondMessage.address()).thenReturn(eventBusAddress);
+        when(secondMessage.replyAddress()).thenReturn("replyC");
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(invocation -> {
+            Handler handler = (Handler) invocation.getArguments()[1];
+            handler.handle(messageMock);
+            handler.handle(firstMessage);
+            handler.handle(secondMessage);
+
+            return messageConsumer;
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        VertxConsumer consumer = (VertxConsumer) vertxEndpoint.createConsumer();
+
+        Message receivedMessage = consumer.receive(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS + " = 'replyC'", context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Last hello from Vertx!");
+
+        receivedMessage = consumer.receive(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS + " = 'replyB'", context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello again from Vertx!");
+
+        receivedMessage = consumer.receive(context, 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+
+        verify(messageConverter, times(3)).convertInbound(any(io.vertx.core.eventbus.Message.class), eq(endpointConfiguration), eq(context));
+
+        vertxEndpoint.destroy();
+    }
 }
@@ -16,16 +16,23 @@
 
 package com.consol.citrus.websocket.endpoint;
 
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.util.StringUtils;
 
 /**
- * Consumer polls for incoming messages on web socket handler.
+ * Consumer receives incoming messages from web socket handler. Receive operations wait for the handler to signal new
+ * messages. Message selectors are evaluated on the cached messages, received messages carry the id of the session
+ * they were received on as header so selectors can match a specific session.
+ *
  * @author Martin Maher
  * @since 2.3
  */
@@ -54,8 +61,22 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     public Message receive(String selector, TestContext context, long timeout) {
         LOG.info(String.format("Waiting %s ms for Web Socket message ...", timeout));
 
-        WebSocketMessage<?> message = receive(endpointConfiguration, timeout);
-        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message, endpointConfiguration, context);
+        String path = endpointConfiguration.getEndpointUri() + (StringUtils.hasText(selector) ? "(" + selector + ")" : "");
+
+        CitrusWebSocketHandler.InboundMessage inboundMessage;
+        if (StringUtils.hasText(selector)) {
+            DispatchingMessageSelector messageSelector = new DispatchingMessageSelector(selector, context.getApplicationContext(), context);
+            inboundMessage = endpointConfiguration.getHandler().receive(candidate ->
+                    messageSelector.accept(new GenericMessage<>(candidate.getConvertedMessage(message -> convertInbound(message, context)))), timeout);
+        } else {
+            inboundMessage = endpointConfiguration.getHandler().receive(timeout);
+        }
+
+        if (inboundMessage == null) {
+            throw new ActionTimeoutException(String.format("Action timed out while receiving message on '%s'", path));
+        }
+
+        Message receivedMessage = inboundMessage.getConvertedMessage(message -> convertInbound(message, context));
 
         LOG.info("Received Web Socket message");
         context.onInboundMessage(receivedMessage);
@@ -64,36 +85,14 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     }
 
     /**
-     * Receive web socket message by polling on web socket handler for incoming message.
-     * @param config
-     * @param timeout
+     * Converts inbound web socket message and adds session id header.
+     * @param inboundMessage
+     * @param context
      * @return
      */
-    private WebSocketMessage<?> receive(WebSocketEndpointConfiguration config, long timeout) {
-        long timeLeft = timeout;
-
-        WebSocketMessage<?> message = config.getHandler().getMessage();
-        String path = endpointConfiguration.getEndpointUri();
-        while (message == null && timeLeft > 0) {
-            timeLeft -= endpointConfiguration.getPollingInterval();
-            long sleep = timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft;
-            if (LOG.isDebugEnabled()) {
-                String msg = "Waiting for message on '%s' - retrying in %s ms";
-                LOG.debug(String.format(msg, path, (sleep)));
-            }
-
-            try {
-                Thread.sleep(sleep);
-            } catch (InterruptedException e) {
-                LOG.warn(String.format("Thread interrupted while waiting for message on '%s'", path), e);
-            }
-
-            message = config.getHandler().getMessage();
-        }
-
-        if (message == null) {
-            throw new ActionTimeoutException(String.format("Action timed out while receiving message on '%s'", path));
-        }
+    private Message convertInbound(CitrusWebSocketHandler.InboundMessage inboundMessage, TestContext context) {
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(inboundMessage.getMessage(), endpointConfiguration, context);
+        message.setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, inboundMessage.getSessionId());
         return message;
     }
 }
@@ -58,7 +58,7 @@ public class WebSocketProducer implements Producer {
         context.onOutboundMessage(message);
 
         WebSocketMessage wsMessage = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
-        if (endpointConfiguration.getHandler().sendMessage(wsMessage)) {
+        if (endpointConfiguration.getHandler().sendMessage(wsMessage, context.getTaskExecutor())) {
             LOG.info("WebSocket Message was successfully sent");
         }
     }
@@ -16,19 +16,24 @@
 
 package com.consol.citrus.websocket.handler;
 
+import com.consol.citrus.message.Message;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
- * Web Socket Handler for handling incoming and sending outgoing Web Socket messages
+ * Web Socket Handler for handling incoming and sending outgoing Web Socket messages. Handler is safe to use from multiple
+ * container threads. Inbound messages are buffered together with the id of the session they were received on and
+ * waiting receivers are signaled as soon as a new message arrives.
  *
  * @author Martin Maher
  * @since 2.3
@@ -38,10 +43,13 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     private static final Logger LOG = LoggerFactory.getLogger(CitrusWebSocketHandler.class);
 
     /** Inbound message cache */
-    private final Queue<WebSocketMessage<?>> inboundMessages = new LinkedList<>();
+    private final Queue<InboundMessage> inboundMessages = new ConcurrentLinkedQueue<>();
+
+    /** Advances on each inbound message so waiting receivers wake up */
+    private final Phaser arrivals = new Phaser(1);
 
     /** Web socket sessions */
-    private final Map<String, WebSocketSession> sessions = new HashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -52,19 +60,19 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received text message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session, message);
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received binary message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session, message);
     }
 
     @Override
     protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received pong message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session, message);
     }
 
     @Override
@@ -78,35 +86,204 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         sessions.remove(session.getId());
     }
 
+    /**
+     * Adds message to internal cache and signals waiting receivers.
+     * @param session
+     * @param message
+     */
+    private void addInboundMessage(WebSocketSession session, WebSocketMessage<?> message) {
+        inboundMessages.add(new InboundMessage(session.getId(), message));
+        arrivals.arrive();
+    }
+
     /**
      * Polls message from internal cache.
      * @return
      */
     public WebSocketMessage<?> getMessage() {
-        return inboundMessages.poll();
+        InboundMessage inboundMessage = inboundMessages.poll();
+        return inboundMessage != null ? inboundMessage.getMessage() : null;
+    }
+
+    /**
+     * Takes first message from internal cache. Waits for new messages to arrive until timeout is reached.
+     * @param timeout
+     * @return the message or null when timeout is reached
+     */
+    public InboundMessage receive(long timeout) {
+        return receive(inboundMessage -> true, timeout);
+    }
+
+    /**
+     * Takes first message from internal cache that is accepted by given filter. Waits for new messages to arrive until
+     * timeout is reached.
+     * @param filter
+     * @param timeout
+     * @return the message or null when timeout is reached
+     */
+    public InboundMessage receive(Predicate<InboundMessage> filter, long timeout) {
+        long deadline = System.currentTimeMillis() + timeout;
+
+        int phase = arrivals.getPhase();
+        InboundMessage message = poll(filter);
+        while (message == null) {
+            long timeLeft = deadline - System.currentTimeMillis();
+            if (timeLeft <= 0) {
+                return null;
+            }
+
+            try {
+                arrivals.awaitAdvanceInterruptibly(phase, timeLeft, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                return null;
+            } catch (InterruptedException e) {
+                LOG.warn("Thread interrupted while waiting for Web Socket message", e);
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            phase = arrivals.getPhase();
+            message = poll(filter);
+        }
+
+        return message;
+    }
+
+    /**
+     * Removes first cached message accepted by given filter.
+     * @param filter
+     * @return the message or null when no cached message is accepted
+     */
+    private InboundMessage poll(Predicate<InboundMessage> filter) {
+        for (InboundMessage candidate : inboundMessages) {
+            if (filter.test(candidate) && inboundMessages.remove(candidate)) {
+                return candidate;
+            }
+        }
+
+        return null;
     }
 
     /**
-     * Publish message to all sessions known to this handler.
+     * Publish message to all sessions known to this handler. Sessions are served one after another in the calling thread.
      * @param message
      * @return
      */
     public boolean sendMessage(WebSocketMessage<?> message) {
-        boolean sentSuccessfully = false;
+        return sendMessage(message, Runnable::run);
+    }
+
+    /**
+     * Publish message to all sessions known to this handler. When more than one session is open the message is sent to
+     * the sessions in parallel using the given executor.
+     * @param message
+     * @param executor
+     * @return
+     */
+    public boolean sendMessage(WebSocketMessage<?> message, Executor executor) {
         if (sessions.isEmpty()) {
             LOG.warn("No Web Socket session exists - message cannot be sent");
         }
 
-        for (WebSocketSession session : sessions.values()) {
-            if (session != null && session.isOpen()) {
-                try {
-                    session.sendMessage(message);
-                    sentSuccessfully = true;
-                } catch (IOException e) {
-                    LOG.error(String.format("(%s) error sending message", session.getId()), e);
+        List<WebSocketSession> openSessions = sessions.values().stream()
+                .filter(WebSocketSession::isOpen)
+                .collect(Collectors.toList());
+
+        if (openSessions.size() == 1) {
+            return sendMessage(openSessions.get(0), message);
+        }
+
+        AtomicBoolean sentSuccessfully = new AtomicBoolean(false);
+        CompletableFuture.allOf(openSessions.stream()
+                .map(session -> CompletableFuture.runAsync(() -> {
+                    if (sendMessage(session, message)) {
+                        sentSuccessfully.set(true);
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new)).join();
+
+        return sentSuccessfully.get();
+    }
+
+    /**
+     * Sends message to given session. Sessions do not support concurrent sending so session is locked while sending.
+     * @param session
+     * @param message
+     * @return
+     */
+    private boolean sendMessage(WebSocketSession session, WebSocketMessage<?> message) {
+        try {
+            synchronized (session) {
+                session.sendMessage(message);
+            }
+            return true;
+        } catch (IOException e) {
+            LOG.error(String.format("(%s) error sending message", session.getId()), e);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the number of messages currently held in internal cache.
+     * @return
+     */
+    public int getMessageCount() {
+        return inboundMessages.size();
+    }
+
+    /**
+     * Inbound message with the id of the session it was received on. Holds the converted message once it has been
+     * converted so message selectors do not convert the same message over and over again.
+     */
+    public static class InboundMessage {
+        private final String sessionId;
+        private final WebSocketMessage<?> message;
+        private volatile Message converted;
+
+        /**
+         * Default constructor using session id and message.
+         * @param sessionId
+         * @param message
+         */
+        public InboundMessage(String sessionId, WebSocketMessage<?> message) {
+            this.sessionId = sessionId;
+            this.message = message;
+        }
+
+        /**
+         * Gets the sessionId.
+         * @return
+         */
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        /**
+         * Gets the message.
+         * @return
+         */
+        public WebSocketMessage<?> getMessage() {
+            return message;
+        }
+
+        /**
+         * Gets the converted message. Message is converted with given converter on first access only.
+         * @param converter
+         * @return
+         */
+        public Message getConvertedMessage(Function<InboundMessage, Message> converter) {
+            Message result = converted;
+            if (result == null) {
+                synchronized (this) {
+                    result = converted;
+                    if (result == null) {
+                        result = converter.apply(this);
+                        converted = result;
+                    }
                 }
             }
+
+            return result;
         }
-        return sentSuccessfully;
     }
 }
@@ -22,6 +22,8 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
 import com.consol.citrus.websocket.message.WebSocketMessage;
+import com.consol.citrus.websocket.message.WebSocketMessageConverter;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import com.consol.citrus.websocket.server.WebSocketServerEndpointConfiguration;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -166,4 +168,83 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
         }
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testWebSocketEndpointSelectiveReceive() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session, session2);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+
+        handler.handleMessage(session, new TextMessage("Hello from session 1"));
+        handler.handleMessage(session2, new TextMessage("Hello from session 2"));
+
+        WebSocketConsumer consumer = (WebSocketConsumer) webSocketEndpoint.createConsumer();
+        Message received = consumer.receive(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID + " = 'test-socket-2'", context, 1000L);
+        Assert.assertEquals(received.getPayload(), "Hello from session 2");
+        Assert.assertEquals(received.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-2");
+
+        received = consumer.receive(context, 1000L);
+        Assert.assertEquals(received.getPayload(), "Hello from session 1");
+        Assert.assertEquals(handler.getMessageCount(), 0);
+
+        Thread sender = new Thread(() -> {
+            try {
+                Thread.sleep(100L);
+                handler.handleMessage(session, new TextMessage("Delayed hello"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        sender.start();
+
+        received = consumer.receive(context, 5000L);
+        Assert.assertEquals(received.getPayload(), "Delayed hello");
+        sender.join();
+    }
+
+    @Test
+    public void testWebSocketEndpointSelectiveReceiveConvertsOnce() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        WebSocketMessageConverter messageConverter = Mockito.spy(new WebSocketMessageConverter());
+        endpointConfiguration.setMessageConverter(messageConverter);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session, session2);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+
+        handler.handleMessage(session, new TextMessage("First hello from session 1"));
+        handler.handleMessage(session, new TextMessage("Second hello from session 1"));
+        handler.handleMessage(session2, new TextMessage("Hello from session 2"));
+
+        WebSocketConsumer consumer = (WebSocketConsumer) webSocketEndpoint.createConsumer();
+        Message received = consumer.receive(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID + " = 'test-socket-2'", context, 1000L);
+        Assert.assertEquals(received.getPayload(), "Hello from session 2");
+
+        received = consumer.receive(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID + " = 'test-socket-1'", context, 1000L);
+        Assert.assertEquals(received.getPayload(), "First hello from session 1");
+
+        received = consumer.receive(context, 1000L);
+        Assert.assertEquals(received.getPayload(), "Second hello from session 1");
+
+        verify(messageConverter, times(3)).convertInbound(any(org.springframework.web.socket.WebSocketMessage.class), eq(endpointConfiguration), eq(context));
+    }
+}